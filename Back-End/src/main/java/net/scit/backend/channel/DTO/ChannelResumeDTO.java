@@ -0,0 +1,22 @@
+package net.scit.backend.channel.DTO;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재연결 후 놓친 메시지 조회 결과
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChannelResumeDTO {
+
+    private List<MessageDTO> messages; // afterSeq 이후 메시지 (순번 오름차순)
+    private Long lastSeq;              // 이번 응답의 마지막 순번 (다음 조회의 afterSeq)
+    private boolean hasMore;           // 아직 남은 메시지가 있으면 true
+}
@@ -0,0 +1,21 @@
+package net.scit.backend.channel.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채널별 안 읽은 메시지 수
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChannelUnreadDTO {
+
+    private Long channelNumber;
+    private Long lastReadMessageNumber; // 마지막으로 읽은 메시지 번호 (없으면 null)
+    private long unreadCount;           // 안 읽은 메시지 수 (최대 chat.unread.window)
+    private boolean capped;             // 집계 범위를 넘어 실제로는 더 많을 수 있음
+}
@@ -0,0 +1,25 @@
+package net.scit.backend.channel.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채팅 메시지 저장 완료(ack) 정보
+ * - 클라이언트는 messageId로 자신이 보낸 메시지를 찾아 저장 완료 여부를 확인한다.
+ * - 저장하지 못한 경우(nack) errorCode가 채워지며, 클라이언트는 같은 messageId로 다시 보낼 수 있다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MessageAckDTO {
+
+    private String messageId;      // 전송 시 부여된 메시지 ID
+    private Long messageNumber;    // DB에 저장된 메시지 번호
+    private Long channelSeq;       // 채널 순번 (재연결 시 이어 받을 위치)
+    private Long channelNumber;
+    private String sender;
+    private String errorCode;      // 저장 실패 시 오류 코드 (CHAT_QUEUE_FULL, CHAT_SAVE_FAILED), 성공이면 null
+}
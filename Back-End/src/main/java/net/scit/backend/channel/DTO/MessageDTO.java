@@ -15,7 +15,24 @@ import lombok.Setter;
 @NoArgsConstructor
 public class MessageDTO 
 {
+
+    /**
+     * 메시지 번호 (페이지 조회 시 커서로 사용)
+     */
+    private Long messageNumber;
+
+    /**
+     * 메시지 ID (클라이언트가 부여하지 않으면 서버에서 UUID 부여)
+     * - 저장 완료(ack) 알림과 메시지를 매칭할 때 사용
+     */
+    private String messageId;
     
+    /**
+     * 채널 내 브로드캐스트 순번 (채널마다 1씩 증가)
+     * - 재연결 후 마지막으로 받은 순번 이후의 메시지만 다시 조회할 때 사용
+     */
+    private Long channelSeq;
+
     /**
      * 어느 채널에서 넘어왔는가?
      */
@@ -47,11 +64,22 @@ public class MessageDTO
 
     private String fileName;
 
+    /**
+     * 이미지 파일 메시지의 미리보기(썸네일) URL
+     * - 비동기로 생성되므로 아직 없으면 content(원본 URL)를 사용
+     */
+    private String thumbnailUrl;
+
     /**
      * - 해당 워크스페이스의 닉네임
      */
     private String nickname;
 
     private String profileImage;
+
+    /**
+     * 아바타 크기 프로필 이미지 URL (없으면 profileImage 사용)
+     */
+    private String profileThumbnailUrl;
 }
 
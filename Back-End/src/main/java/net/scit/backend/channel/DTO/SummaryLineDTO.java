@@ -0,0 +1,15 @@
+package net.scit.backend.channel.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 요약용 메시지 한 줄 (엔티티 대신 필요한 컬럼만 스트리밍 조회)
+ */
+@Getter
+@AllArgsConstructor
+public class SummaryLineDTO {
+    private Long messageNumber;
+    private String sender;
+    private String content;
+}
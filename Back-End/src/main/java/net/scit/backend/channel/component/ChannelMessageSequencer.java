@@ -0,0 +1,193 @@
+package net.scit.backend.channel.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import net.scit.backend.channel.DTO.MessageAckDTO;
+import net.scit.backend.channel.DTO.MessageDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 채널 브로드캐스트 순번 / 중복 전송 방지 / 재연결용 재전송 버퍼
+ *
+ * - chat:channel:seq:{channel}           : INCR로 채널별 순번 발급
+ * - chat:channel:dedup:{channel}:{id}    : 클라이언트 messageId 기준 SETNX (재전송 중복 제거)
+ *                                          저장 전에는 빈 값, 저장 후에는 "순번:메시지 번호"를 담아 중복 전송에도 ack를 다시 보낼 수 있게 함
+ *                                          저장 전 선점은 claim-ttl만 유지되므로, 저장 전에 노드가 죽어도 그 뒤 같은 messageId로 다시 보낼 수 있음
+ * - chat:channel:replay:{channel}        : 최근 브로드캐스트 메시지 ZSET (score = 순번, 최대 buffer-size개)
+ *
+ * 재연결한 클라이언트는 구독을 먼저 다시 맺은 뒤 마지막으로 받은 순번 이후를 조회하고, 순번으로 중복을 걸러야 한다.
+ */
+@Slf4j
+@Component
+public class ChannelMessageSequencer {
+
+    private static final String SEQ_KEY_PREFIX = "chat:channel:seq:";
+    private static final String DEDUP_KEY_PREFIX = "chat:channel:dedup:";
+    private static final String REPLAY_KEY_PREFIX = "chat:channel:replay:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final Duration bufferTtl;
+    private final Duration claimTtl;
+    private final Duration dedupTtl;
+
+    public ChannelMessageSequencer(StringRedisTemplate stringRedisTemplate,
+                                   ObjectMapper objectMapper,
+                                   @Value("${chat.resume.buffer-size:500}") int bufferSize,
+                                   @Value("${chat.resume.buffer-ttl-hours:24}") long bufferTtlHours,
+                                   @Value("${chat.resume.claim-ttl-seconds:30}") long claimTtlSeconds,
+                                   @Value("${chat.resume.dedup-ttl-seconds:600}") long dedupTtlSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.bufferTtl = Duration.ofHours(bufferTtlHours);
+        this.claimTtl = Duration.ofSeconds(claimTtlSeconds);
+        this.dedupTtl = Duration.ofSeconds(dedupTtlSeconds);
+    }
+
+    /**
+     * 채널의 다음 순번 발급
+     */
+    public Long nextSeq(Long channelNumber) {
+        return stringRedisTemplate.opsForValue().increment(SEQ_KEY_PREFIX + channelNumber);
+    }
+
+    /**
+     * 채널의 마지막 발급 순번 (발급 이력이 없으면 0)
+     */
+    public long currentSeq(Long channelNumber) {
+        String value = stringRedisTemplate.opsForValue().get(SEQ_KEY_PREFIX + channelNumber);
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+
+    /**
+     * 클라이언트 messageId를 선점 (이미 처리된 messageId면 false)
+     */
+    public boolean claim(Long channelNumber, String messageId) {
+        Boolean claimed = stringRedisTemplate.opsForValue()
+                .setIfAbsent(dedupKey(channelNumber, messageId), "", claimTtl);
+        return Boolean.TRUE.equals(claimed);
+    }
+
+    /**
+     * 처리에 실패한 messageId 선점 해제 (클라이언트가 다시 보낼 수 있도록)
+     */
+    public void release(Long channelNumber, String messageId) {
+        stringRedisTemplate.delete(dedupKey(channelNumber, messageId));
+    }
+
+    /**
+     * 저장이 끝난 메시지의 순번과 메시지 번호를 선점 키에 기록하고 dedup-ttl로 연장 (선점 키가 남아 있는 경우에만)
+     */
+    public void recordSaved(List<MessageAckDTO> acks) {
+        if (acks.isEmpty()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    for (MessageAckDTO ack : acks) {
+                        if (ack.getMessageId() != null && ack.getMessageNumber() != null) {
+                            ops.opsForValue().setIfPresent(dedupKey(ack.getChannelNumber(), ack.getMessageId()),
+                                    ack.getChannelSeq() + ":" + ack.getMessageNumber(), dedupTtl);
+                        }
+                    }
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("⚠️ 저장 완료 기록 실패: {}건 - {}", acks.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 이미 저장된 messageId의 ack 조회 (아직 저장 중이거나 기록이 없으면 empty)
+     */
+    public Optional<MessageAckDTO> findSaved(Long channelNumber, String messageId, String sender) {
+        String value = stringRedisTemplate.opsForValue().get(dedupKey(channelNumber, messageId));
+        int separator = value != null ? value.indexOf(':') : -1;
+        if (separator < 0) {
+            return Optional.empty();
+        }
+        String seq = value.substring(0, separator);
+        return Optional.of(MessageAckDTO.builder()
+                .messageId(messageId)
+                .messageNumber(Long.parseLong(value.substring(separator + 1)))
+                .channelSeq("null".equals(seq) ? null : Long.parseLong(seq))
+                .channelNumber(channelNumber)
+                .sender(sender)
+                .build());
+    }
+
+    /**
+     * 브로드캐스트할 메시지를 재전송 버퍼에 보관 (실패해도 전송은 계속, 조회 시 DB로 대체)
+     */
+    public void remember(MessageDTO messageDTO) {
+        String key = REPLAY_KEY_PREFIX + messageDTO.getChannelNumber();
+        try {
+            String json = objectMapper.writeValueAsString(messageDTO);
+            stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    ops.opsForZSet().add(key, json, messageDTO.getChannelSeq());
+                    ops.opsForZSet().removeRange(key, 0, -(bufferSize + 1L));
+                    ops.expire(key, bufferTtl);
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("⚠️ 재전송 버퍼 저장 실패: channel={}, seq={} - {}",
+                    messageDTO.getChannelNumber(), messageDTO.getChannelSeq(), e.getMessage());
+        }
+    }
+
+    /**
+     * 재전송 버퍼에서 afterSeq 바로 다음 순번부터 끊김 없이 이어지는 메시지를 최대 limit개 조회
+     * 버퍼가 해당 구간을 가지고 있지 않거나 중간이 비어 있으면 그 지점까지만 반환하므로, 나머지는 DB에서 이어서 조회한다.
+     */
+    public List<MessageDTO> readAfter(Long channelNumber, long afterSeq, int limit) {
+        List<MessageDTO> messages = new ArrayList<>();
+        Set<String> values = stringRedisTemplate.opsForZSet()
+                .rangeByScore(REPLAY_KEY_PREFIX + channelNumber, afterSeq + 1, Double.POSITIVE_INFINITY, 0, limit);
+        if (values == null) {
+            return messages;
+        }
+
+        long expected = afterSeq + 1;
+        for (String value : values) {
+            MessageDTO message;
+            try {
+                message = objectMapper.readValue(value, MessageDTO.class);
+            } catch (Exception e) {
+                log.warn("⚠️ 재전송 버퍼 항목 해석 실패: channel={} - {}", channelNumber, e.getMessage());
+                break;
+            }
+            if (message.getChannelSeq() == null || message.getChannelSeq() != expected) {
+                break;
+            }
+            messages.add(message);
+            expected++;
+        }
+        return messages;
+    }
+
+    private static String dedupKey(Long channelNumber, String messageId) {
+        return DEDUP_KEY_PREFIX + channelNumber + ":" + messageId;
+    }
+}
@@ -0,0 +1,456 @@
+package net.scit.backend.channel.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.scit.backend.channel.DTO.MessageAckDTO;
+import net.scit.backend.channel.DTO.MessageDTO;
+import net.scit.backend.channel.entity.ChatMessageDeadLetterEntity;
+import net.scit.backend.channel.repository.ChatMessageDeadLetterRepository;
+import net.scit.backend.exception.CustomException;
+import net.scit.backend.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 채팅 메시지 write-behind 저장 큐
+ *
+ * - 메시지는 큐에 넣은 즉시 브로드캐스트되고, DB 저장은 전용 스레드가 JDBC 배치로 처리한다.
+ * - 배치 크기 또는 대기 시간 중 먼저 도달한 조건으로 flush 한다.
+ * - 단일 FIFO 큐와 단일 flush 스레드를 사용하므로 채널별 저장 순서가 유지된다.
+ * - 저장이 커밋된 뒤 /exchange/chat-exchange/ack.{channelId} 로 ack를 전송한다.
+ *   클라이언트는 ack를 받기 전까지 메시지를 보관하고, 재연결 시 재전송할 수 있다.
+ *   (저장된 messageId는 ChannelMessageSequencer에 기록해 두어 재전송에도 같은 ack를 다시 보내고,
+ *   재시도 후에도 저장하지 못한 메시지는 선점을 해제해 같은 messageId로 다시 보낼 수 있게 함)
+ * - 재시도 후에도 저장하지 못했거나 종료 대기 시간 안에 저장하지 못한 메시지는 chat_message_dead_letter 테이블에 남기고
+ *   (DB에도 쓸 수 없으면 dead-letter-file에 JSON 한 줄씩 추가) 보낸 사람에게 errorCode가 담긴 nack을 보낸다.
+ * - 프로세스가 비정상 종료되면 큐에 남은 메시지는 사라지지만, 클라이언트는 ack를 받지 못한 메시지를
+ *   messageId 선점이 만료된 뒤(chat.resume.claim-ttl-seconds) 같은 messageId로 다시 보낼 수 있다.
+ * - 커밋 후 채널 안 읽은 수 집계(ChannelUnreadCounter)에 반영하고, 보낸 사람의 읽음 위치를 자신의 메시지까지 올린다.
+ * - 큐가 가득 차면 offer-timeout 동안 전송 스레드를 대기시키고, 그래도 공간이 없으면 전송을 거부한다.
+ */
+@Slf4j
+@Component
+public class ChannelMessageWriteBehindQueue {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO workspace_channel_message (channel_number, sender, content, send_time, message_or_file, file_name, channel_seq) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final int MAX_FLUSH_ATTEMPTS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChannelUnreadCounter channelUnreadCounter;
+    private final ChannelReadCursorBuffer channelReadCursorBuffer;
+    private final ChannelMessageSequencer channelMessageSequencer;
+    private final ChatMessageDeadLetterRepository deadLetterRepository;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<PendingMessage> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long offerTimeoutMs;
+    private final long shutdownTimeoutMs;
+    private final Path deadLetterFile;
+
+    private final Timer flushTimer;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+
+    private final ExecutorService flusher = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "chat-write-behind");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean running = true;
+
+    public ChannelMessageWriteBehindQueue(JdbcTemplate jdbcTemplate,
+                                          PlatformTransactionManager transactionManager,
+                                          SimpMessagingTemplate messagingTemplate,
+                                          ChannelUnreadCounter channelUnreadCounter,
+                                          ChannelReadCursorBuffer channelReadCursorBuffer,
+                                          ChannelMessageSequencer channelMessageSequencer,
+                                          ChatMessageDeadLetterRepository deadLetterRepository,
+                                          ObjectMapper objectMapper,
+                                          MeterRegistry meterRegistry,
+                                          @Value("${chat.write-behind.capacity:10000}") int capacity,
+                                          @Value("${chat.write-behind.batch-size:200}") int batchSize,
+                                          @Value("${chat.write-behind.flush-interval-ms:100}") long flushIntervalMs,
+                                          @Value("${chat.write-behind.offer-timeout-ms:500}") long offerTimeoutMs,
+                                          @Value("${chat.write-behind.shutdown-timeout-ms:10000}") long shutdownTimeoutMs,
+                                          @Value("${chat.write-behind.dead-letter-file:logs/chat-message-dead-letter.jsonl}") String deadLetterFile) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.messagingTemplate = messagingTemplate;
+        this.channelUnreadCounter = channelUnreadCounter;
+        this.channelReadCursorBuffer = channelReadCursorBuffer;
+        this.channelMessageSequencer = channelMessageSequencer;
+        this.deadLetterRepository = deadLetterRepository;
+        this.objectMapper = objectMapper;
+        this.queue = new LinkedBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.deadLetterFile = Path.of(deadLetterFile);
+
+        Gauge.builder("chat.writebehind.queue.depth", queue, BlockingQueue::size)
+                .description("저장 대기 중인 채팅 메시지 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("chat.writebehind.flush")
+                .description("채팅 메시지 배치 저장 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("chat.writebehind.rejected")
+                .description("큐가 가득 차 거부된 메시지 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("chat.writebehind.failed")
+                .description("재시도 후에도 저장에 실패해 dead letter로 남긴 메시지 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher.submit(this::runFlushLoop);
+    }
+
+    /**
+     * 종료 시 큐에 남은 메시지를 모두 저장한 뒤 flush 스레드 종료
+     * (대기 시간 안에 저장하지 못한 메시지는 dead letter로 옮김)
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        flusher.shutdown();
+        if (!flusher.awaitTermination(shutdownTimeoutMs, TimeUnit.MILLISECONDS)) {
+            log.error("❌ write-behind 큐 종료 대기 시간 초과: 남은 메시지 {}개", queue.size());
+            flusher.shutdownNow();
+            List<PendingMessage> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            if (!remaining.isEmpty()) {
+                deadLetter(remaining, "종료 대기 시간 초과");
+            }
+        }
+    }
+
+    /**
+     * 텍스트 메시지를 저장 큐에 추가
+     *
+     * @param messageDTO 저장할 메시지 (messageId, sendTime이 채워져 있어야 함)
+     * @throws CustomException 큐가 가득 차 대기 시간 내에 추가하지 못한 경우
+     */
+    public void enqueue(MessageDTO messageDTO) {
+        PendingMessage pending = new PendingMessage(
+                messageDTO.getMessageId(),
+                messageDTO.getChannelNumber(),
+                messageDTO.getSender(),
+                messageDTO.getContent(),
+                messageDTO.getSendTime(),
+                messageDTO.getChannelSeq());
+        try {
+            if (!queue.offer(pending, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                rejectedCounter.increment();
+                log.warn("⚠️ write-behind 큐 가득 참: 채널 {} 메시지 거부", messageDTO.getChannelNumber());
+                publishAcks(pending.getChannelNumber(), List.of(toAck(pending, null, ErrorCode.CHAT_QUEUE_FULL)));
+                throw new CustomException(ErrorCode.CHAT_QUEUE_FULL);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            publishAcks(pending.getChannelNumber(), List.of(toAck(pending, null, ErrorCode.CHAT_QUEUE_FULL)));
+            throw new CustomException(ErrorCode.CHAT_QUEUE_FULL);
+        }
+    }
+
+    /**
+     * 이미 저장된 메시지의 ack를 다시 전송 (같은 messageId로 재전송된 경우)
+     */
+    public void resendAck(MessageAckDTO ack) {
+        publishAcks(ack.getChannelNumber(), List.of(ack));
+    }
+
+    /**
+     * 현재 저장 대기 중인 메시지 수
+     */
+    public int depth() {
+        return queue.size();
+    }
+
+    // ----------- flush 처리 -----------
+
+    private void runFlushLoop() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingMessage first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 배치 크기에 도달하거나 flush 간격이 지날 때까지 모음
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    PendingMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flushWithRetry(batch);
+            } catch (InterruptedException e) {
+                // 종료 중이면 남은 메시지를 비운 뒤 루프 종료
+                queue.drainTo(batch);
+                flushWithRetry(batch);
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("❌ write-behind flush 루프 오류: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flushWithRetry(List<PendingMessage> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Long> messageNumbers = null;
+        String lastError = null;
+        for (int attempt = 1; attempt <= MAX_FLUSH_ATTEMPTS && messageNumbers == null; attempt++) {
+            try {
+                messageNumbers = flushTimer.recordCallable(() -> flush(batch));
+            } catch (Exception e) {
+                lastError = e.getMessage();
+                log.warn("⚠️ 채팅 메시지 배치 저장 실패 ({}/{}): {}건 - {}", attempt, MAX_FLUSH_ATTEMPTS, batch.size(), e.getMessage());
+                sleepQuietly(200L * attempt);
+            }
+        }
+        if (messageNumbers == null) {
+            deadLetter(batch, lastError);
+            return;
+        }
+
+        // 커밋 이후 단계는 재시도하지 않고 한 번만 실행 (여기서 실패해도 배치를 다시 저장하지 않음)
+        try {
+            sendAcks(batch, messageNumbers);
+        } catch (Exception e) {
+            log.warn("⚠️ 저장 후 ack 전송 실패: {}건 - {}", batch.size(), e.getMessage());
+        }
+        try {
+            updateReadState(batch, messageNumbers);
+        } catch (Exception e) {
+            log.warn("⚠️ 저장 후 읽음 상태 반영 실패: {}건 - {}", batch.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 저장하지 못한 메시지를 dead letter로 남기고, 선점 해제 후 보낸 사람에게 nack 전송
+     */
+    private void deadLetter(List<PendingMessage> messages, String reason) {
+        failedCounter.increment(messages.size());
+        messages.forEach(message -> log.error("❌ 채팅 메시지 저장 최종 실패: channel={}, messageId={}, sender={} - {}",
+                message.getChannelNumber(), message.getMessageId(), message.getSender(), reason));
+        saveDeadLetters(messages, reason);
+
+        Map<Long, List<MessageAckDTO>> nacksByChannel = new LinkedHashMap<>();
+        for (PendingMessage message : messages) {
+            // 클라이언트가 같은 messageId로 다시 보낼 수 있도록 선점 해제
+            try {
+                channelMessageSequencer.release(message.getChannelNumber(), message.getMessageId());
+            } catch (Exception e) {
+                log.warn("⚠️ messageId 선점 해제 실패: channel={}, messageId={} - {}",
+                        message.getChannelNumber(), message.getMessageId(), e.getMessage());
+            }
+            nacksByChannel.computeIfAbsent(message.getChannelNumber(), k -> new ArrayList<>())
+                    .add(toAck(message, null, ErrorCode.CHAT_SAVE_FAILED));
+        }
+        nacksByChannel.forEach(this::publishAcks);
+    }
+
+    /**
+     * dead letter 테이블에 저장 (DB에도 쓸 수 없으면 파일에 추가)
+     */
+    private void saveDeadLetters(List<PendingMessage> messages, String reason) {
+        LocalDateTime failedAt = LocalDateTime.now();
+        String errorMessage = reason != null && reason.length() > 1000 ? reason.substring(0, 1000) : reason;
+        List<ChatMessageDeadLetterEntity> deadLetters = messages.stream()
+                .map(message -> ChatMessageDeadLetterEntity.builder()
+                        .messageId(message.getMessageId())
+                        .channelNumber(message.getChannelNumber())
+                        .sender(message.getSender())
+                        .content(message.getContent())
+                        .sendTime(message.getSendTime())
+                        .channelSeq(message.getChannelSeq())
+                        .errorMessage(errorMessage)
+                        .failedAt(failedAt)
+                        .build())
+                .toList();
+        try {
+            deadLetterRepository.saveAll(deadLetters);
+            return;
+        } catch (Exception e) {
+            log.error("❌ 채팅 dead letter 저장 실패, 파일에 기록: {}건 - {}", deadLetters.size(), e.getMessage());
+        }
+        try {
+            List<String> lines = new ArrayList<>(deadLetters.size());
+            for (ChatMessageDeadLetterEntity deadLetter : deadLetters) {
+                lines.add(objectMapper.writeValueAsString(deadLetter));
+            }
+            Path parent = deadLetterFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(deadLetterFile, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.error("❌ 채팅 dead letter 파일 기록 실패: {} - {}", deadLetterFile, e.getMessage());
+        }
+    }
+
+    /**
+     * 하나의 트랜잭션에서 JDBC 배치로 저장하고 생성된 메시지 번호를 반환
+     */
+    private List<Long> flush(List<PendingMessage> batch) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        PendingMessage message = batch.get(i);
+                        ps.setLong(1, message.getChannelNumber());
+                        ps.setString(2, message.getSender());
+                        ps.setString(3, message.getContent());
+                        ps.setTimestamp(4, Timestamp.valueOf(message.getSendTime()));
+                        ps.setBoolean(5, false); // 텍스트 메시지
+                        ps.setString(6, null);
+                        ps.setObject(7, message.getChannelSeq(), Types.BIGINT);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batch.size();
+                    }
+                },
+                keyHolder));
+
+        List<Long> messageNumbers = new ArrayList<>(batch.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            Object key = keys.values().stream().findFirst().orElse(null);
+            messageNumbers.add(key instanceof Number number ? number.longValue() : null);
+        }
+        return messageNumbers;
+    }
+
+    /**
+     * 저장이 커밋된 메시지에 대해 채널별로 ack 전송
+     */
+    private void sendAcks(List<PendingMessage> batch, List<Long> messageNumbers) {
+        Map<Long, List<MessageAckDTO>> acksByChannel = new LinkedHashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            PendingMessage message = batch.get(i);
+            Long messageNumber = i < messageNumbers.size() ? messageNumbers.get(i) : null;
+            acksByChannel.computeIfAbsent(message.getChannelNumber(), k -> new ArrayList<>())
+                    .add(toAck(message, messageNumber, null));
+        }
+        acksByChannel.forEach((channelNumber, acks) -> {
+            channelMessageSequencer.recordSaved(acks);
+            publishAcks(channelNumber, acks);
+        });
+    }
+
+    private static MessageAckDTO toAck(PendingMessage message, Long messageNumber, ErrorCode errorCode) {
+        return MessageAckDTO.builder()
+                .messageId(message.getMessageId())
+                .messageNumber(messageNumber)
+                .channelSeq(message.getChannelSeq())
+                .channelNumber(message.getChannelNumber())
+                .sender(message.getSender())
+                .errorCode(errorCode != null ? errorCode.name() : null)
+                .build();
+    }
+
+    private void publishAcks(Long channelNumber, List<MessageAckDTO> acks) {
+        try {
+            messagingTemplate.convertAndSend("/exchange/chat-exchange/ack." + channelNumber, acks);
+        } catch (Exception e) {
+            log.warn("⚠️ ack 전송 실패: channel={} - {}", channelNumber, e.getMessage());
+        }
+    }
+
+    /**
+     * 커밋된 메시지를 안 읽은 수 집계에 반영하고 보낸 사람의 읽음 위치 갱신
+     * (채널별로 실패를 격리해 한 채널의 오류가 다른 채널 반영을 막지 않도록 함)
+     */
+    private void updateReadState(List<PendingMessage> batch, List<Long> messageNumbers) {
+        Map<Long, List<Long>> numbersByChannel = new LinkedHashMap<>();
+        for (int i = 0; i < batch.size() && i < messageNumbers.size(); i++) {
+            PendingMessage message = batch.get(i);
+            Long messageNumber = messageNumbers.get(i);
+            if (messageNumber == null) {
+                continue;
+            }
+            numbersByChannel.computeIfAbsent(message.getChannelNumber(), k -> new ArrayList<>()).add(messageNumber);
+            channelReadCursorBuffer.advance(message.getSender(), message.getChannelNumber(), messageNumber);
+        }
+        numbersByChannel.forEach((channelNumber, numbers) -> {
+            try {
+                channelUnreadCounter.recordMessages(channelNumber, numbers);
+            } catch (Exception e) {
+                log.warn("⚠️ 안 읽은 수 집계 반영 실패: channel={} - {}", channelNumber, e.getMessage());
+            }
+        });
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class PendingMessage {
+        private final String messageId;
+        private final Long channelNumber;
+        private final String sender;
+        private final String content;
+        private final LocalDateTime sendTime;
+        private final Long channelSeq;
+    }
+}
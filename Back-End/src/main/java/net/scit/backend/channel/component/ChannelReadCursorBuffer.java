@@ -0,0 +1,118 @@
+package net.scit.backend.channel.component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채널 읽음 위치 갱신 버퍼
+ *
+ * 스크롤할 때마다 들어오는 읽음 위치 갱신을 (email, 채널) 단위로 최댓값만 남겨 모아 두고,
+ * 주기적으로 한 번의 JDBC 배치 upsert로 저장한다. 저장된 값보다 작은 위치로는 되돌아가지 않는다.
+ */
+@Slf4j
+@Component
+public class ChannelReadCursorBuffer {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO channel_read_cursor (email, channel_number, last_read_message_number, updated_at) " +
+            "VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "last_read_message_number = GREATEST(last_read_message_number, VALUES(last_read_message_number)), " +
+            "updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<CursorKey, Long> pending = new ConcurrentHashMap<>();
+    private final Counter requestCounter;
+    private final Counter writeCounter;
+
+    public ChannelReadCursorBuffer(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requestCounter = Counter.builder("chat.readcursor.requests")
+                .description("읽음 위치 갱신 요청 수")
+                .register(meterRegistry);
+        this.writeCounter = Counter.builder("chat.readcursor.writes")
+                .description("DB에 저장된 읽음 위치 수 (요청 수 대비 병합 효과 확인용)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 읽음 위치 갱신 요청 (기존 값보다 큰 경우에만 반영)
+     */
+    public void advance(String email, Long channelNumber, Long messageNumber) {
+        if (email == null || channelNumber == null || messageNumber == null) {
+            return;
+        }
+        requestCounter.increment();
+        pending.merge(new CursorKey(email, channelNumber), messageNumber, Math::max);
+    }
+
+    /**
+     * 아직 저장되지 않은 읽음 위치 (없으면 null)
+     */
+    public Long getPending(String email, Long channelNumber) {
+        return pending.get(new CursorKey(email, channelNumber));
+    }
+
+    /**
+     * 모아 둔 읽음 위치를 배치 upsert로 저장
+     */
+    @Scheduled(fixedDelayString = "${chat.read-cursor.flush-interval-ms:2000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>();
+        List<CursorKey> keys = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (CursorKey key : pending.keySet()) {
+            Long messageNumber = pending.remove(key);
+            if (messageNumber != null) {
+                keys.add(key);
+                rows.add(new Object[]{key.getEmail(), key.getChannelNumber(), messageNumber, now});
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+            writeCounter.increment(rows.size());
+        } catch (Exception e) {
+            // 실패한 값은 다시 버퍼에 넣어 다음 주기에 저장
+            log.warn("⚠️ 읽음 위치 저장 실패: {}건 - {}", rows.size(), e.getMessage());
+            for (int i = 0; i < keys.size(); i++) {
+                pending.merge(keys.get(i), (Long) rows.get(i)[2], Math::max);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class CursorKey {
+        private final String email;
+        private final Long channelNumber;
+    }
+}
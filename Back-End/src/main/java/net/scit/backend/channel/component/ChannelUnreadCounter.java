@@ -0,0 +1,127 @@
+package net.scit.backend.channel.component;
+
+import lombok.extern.slf4j.Slf4j;
+import net.scit.backend.channel.repository.MessageReposittory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 채널별 안 읽은 메시지 수 집계기
+ *
+ * 채널마다 최근 메시지 번호를 Redis ZSET(chat:channel:msgs:{channel}, score = 메시지 번호)에 최대 window개 유지하고,
+ * 안 읽은 수는 ZCOUNT(읽음 위치, +inf)로 계산한다. 채널 수만큼의 ZCOUNT를 파이프라인 한 번으로 보내므로
+ * 메시지 테이블을 COUNT(*) 하지 않는다. window를 넘는 값은 capped 로 표시한다.
+ */
+@Slf4j
+@Component
+public class ChannelUnreadCounter {
+
+    private static final String KEY_PREFIX = "chat:channel:msgs:";
+    private static final String SEEDED_KEY_PREFIX = "chat:channel:msgs-seeded:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MessageReposittory messageReposittory;
+    private final int window;
+
+    public ChannelUnreadCounter(StringRedisTemplate stringRedisTemplate,
+                                MessageReposittory messageReposittory,
+                                @Value("${chat.unread.window:1000}") int window) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.messageReposittory = messageReposittory;
+        this.window = window;
+    }
+
+    /**
+     * 저장된 메시지 번호를 채널 ZSET에 추가하고 window 크기로 자름
+     */
+    public void recordMessages(Long channelNumber, Collection<Long> messageNumbers) {
+        List<Long> numbers = messageNumbers.stream().filter(Objects::nonNull).toList();
+        if (numbers.isEmpty()) {
+            return;
+        }
+        String key = KEY_PREFIX + channelNumber;
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (Long number : numbers) {
+                    ops.opsForZSet().add(key, String.valueOf(number), number);
+                }
+                ops.opsForZSet().removeRange(key, 0, -(window + 1L));
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 채널별 안 읽은 메시지 수 계산
+     *
+     * @param lastReadByChannel 채널 번호 → 마지막으로 읽은 메시지 번호 (없으면 null)
+     * @return 채널 번호 → 안 읽은 수 (최대 window)
+     */
+    public Map<Long, Long> countUnread(Map<Long, Long> lastReadByChannel) {
+        List<Long> channels = new ArrayList<>(lastReadByChannel.keySet());
+        Map<Long, Long> result = new LinkedHashMap<>();
+        if (channels.isEmpty()) {
+            return result;
+        }
+
+        List<Object> replies = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (Long channel : channels) {
+                    ops.opsForZSet().count(KEY_PREFIX + channel, minExclusive(lastReadByChannel.get(channel)), Double.POSITIVE_INFINITY);
+                    ops.hasKey(SEEDED_KEY_PREFIX + channel);
+                }
+                return null;
+            }
+        });
+
+        for (int i = 0; i < channels.size(); i++) {
+            Long channel = channels.get(i);
+            Object count = replies.get(i * 2);
+            boolean seeded = Boolean.TRUE.equals(replies.get(i * 2 + 1));
+            if (seeded) {
+                result.put(channel, count instanceof Number number ? number.longValue() : 0L);
+            } else {
+                result.put(channel, seedAndCount(channel, lastReadByChannel.get(channel)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 집계 범위(window)에 도달해 실제 안 읽은 수가 더 많을 수 있는지 여부
+     */
+    public boolean isCapped(long unreadCount) {
+        return unreadCount >= window;
+    }
+
+    /**
+     * Redis에 채널 데이터가 없으면(최초 조회, Redis 초기화) DB의 최근 메시지 번호로 채운 뒤 계산
+     */
+    private long seedAndCount(Long channelNumber, Long lastRead) {
+        List<Long> recent = messageReposittory.findRecentMessageNumbers(channelNumber, PageRequest.of(0, window));
+        try {
+            recordMessages(channelNumber, recent);
+            stringRedisTemplate.opsForValue().set(SEEDED_KEY_PREFIX + channelNumber, "1");
+        } catch (Exception e) {
+            log.warn("⚠️ 안 읽은 수 집계 초기화 실패: channel={} - {}", channelNumber, e.getMessage());
+        }
+        long floor = lastRead != null ? lastRead : Long.MIN_VALUE;
+        return recent.stream().filter(number -> number > floor).count();
+    }
+
+    private double minExclusive(Long lastRead) {
+        return lastRead != null ? lastRead + 1 : Double.NEGATIVE_INFINITY;
+    }
+}
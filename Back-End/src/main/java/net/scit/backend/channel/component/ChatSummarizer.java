@@ -0,0 +1,554 @@
+package net.scit.backend.channel.component;
+
+import feign.FeignException;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.scit.backend.channel.DTO.SummaryLineDTO;
+import net.scit.backend.channel.repository.MessageReposittory;
+import net.scit.backend.exception.CustomException;
+import net.scit.backend.exception.ErrorCode;
+import net.scit.backend.workspace.component.WorkspaceMemberProfileResolver;
+import net.scit.backend.workspace.dto.SenderProfileDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 채팅 요약 (map-reduce)
+ *
+ * - 저장된 메시지를 스트리밍으로 읽어 토큰 예산(chunk-token-budget) 단위로 나눈다.
+ * - 각 묶음(chunk)을 OpenAI로 병렬 요약(map)한 뒤, 부분 요약을 다시 하나로 합친다(reduce).
+ * - 마지막 호출은 스트리밍(OpenAiStreamingClient)으로도 받을 수 있다.
+ * - 묶음 요약은 (채널, 첫/마지막 메시지 번호, 언어) 단위로 Redis에 캐시한다.
+ *   묶음 경계는 시작 번호부터 결정적으로 나뉘므로, 같은 범위를 다시 요약하면 새 메시지가 들어간 묶음만 다시 요약한다.
+ * - 범위 안의 메시지가 max-messages를 넘으면 가장 최근 max-messages개만 요약한다.
+ *   이때 시작 위치는 새 메시지마다 앞으로 밀리므로, 이전에 만든 묶음 시작 번호(chat:summary:chunk-start:{채널})
+ *   중 시작 위치 이전의 가장 가까운 번호부터 묶어 기존 묶음의 경계(캐시 키)를 유지한다.
+ */
+@Slf4j
+@Component
+public class ChatSummarizer {
+
+    private static final String CACHE_KEY_PREFIX = "chat:summary:chunk:";
+    private static final String CHUNK_START_KEY_PREFIX = "chat:summary:chunk-start:";
+    private static final int MAX_CHUNK_STARTS = 1000; // 채널별로 기억하는 묶음 시작 번호 수 (최근 것만 유지)
+    private static final int CHARS_PER_TOKEN = 2; // 한글 기준 보수적인 추정치
+
+    private final OpenAiClient openAiClient;
+    private final OpenAiStreamingClient streamingClient;
+    private final MessageReposittory messageReposittory;
+    private final WorkspaceMemberProfileResolver profileResolver;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final ThreadPoolExecutor executor;
+
+    private final String apiKey;
+    private final String model;
+    private final int chunkTokenBudget;
+    private final int maxMessages;
+    private final Duration cacheTtl;
+    private final long timeoutSeconds;
+
+    public ChatSummarizer(OpenAiClient openAiClient,
+                          OpenAiStreamingClient streamingClient,
+                          MessageReposittory messageReposittory,
+                          WorkspaceMemberProfileResolver profileResolver,
+                          StringRedisTemplate stringRedisTemplate,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${OPEN_AI_API_KEY}") String apiKey,
+                          @Value("${chat.summary.model:gpt-4}") String model,
+                          @Value("${chat.summary.chunk-token-budget:3000}") int chunkTokenBudget,
+                          @Value("${chat.summary.max-messages:20000}") int maxMessages,
+                          @Value("${chat.summary.parallelism:4}") int parallelism,
+                          @Value("${chat.summary.cache-ttl-hours:168}") long cacheTtlHours,
+                          @Value("${chat.summary.timeout-seconds:120}") long timeoutSeconds) {
+        this.openAiClient = openAiClient;
+        this.streamingClient = streamingClient;
+        this.messageReposittory = messageReposittory;
+        this.profileResolver = profileResolver;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.apiKey = apiKey;
+        this.model = model;
+        this.chunkTokenBudget = chunkTokenBudget;
+        this.maxMessages = maxMessages;
+        this.cacheTtl = Duration.ofHours(cacheTtlHours);
+        this.timeoutSeconds = timeoutSeconds;
+
+        // 동시에 OpenAI로 나가는 요청 수를 제한 (대기열이 차면 요청 스레드에서 직접 처리)
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(parallelism * 50),
+                r -> {
+                    Thread thread = new Thread(r, "chat-summary-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 채널의 메시지 번호 범위를 요약
+     *
+     * @param channelId 채널 번호
+     * @param wsId      워크스페이스 ID (발신자 닉네임 조회용)
+     * @param from      시작 메시지 번호 (포함, null이면 처음부터)
+     * @param to        마지막 메시지 번호 (포함, null이면 끝까지)
+     * @param language  요약 언어
+     * @return 요약 결과
+     */
+    public String summarizeRange(Long channelId, Long wsId, Long from, Long to, String language) {
+        return prepareRange(channelId, wsId, from, to, language).complete();
+    }
+
+    /**
+     * 클라이언트가 보낸 대화 내용을 요약 (줄 단위로 나눠 map-reduce, 캐시하지 않음)
+     */
+    public String summarizeText(String chatHistory, String language) {
+        return prepareText(chatHistory, language).complete();
+    }
+
+    /**
+     * 채널 범위 요약을 토큰 스트림으로 반환
+     * map 단계(및 한 번에 넣을 수 없는 reduce 단계)는 boundedElastic에서 처리하고,
+     * 마지막 한 번의 호출만 스트리밍한다.
+     */
+    public Flux<String> streamRange(Long channelId, Long wsId, Long from, Long to, String language) {
+        return Mono.fromCallable(() -> prepareRange(channelId, wsId, from, to, language))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(PreparedSummary::stream);
+    }
+
+    /**
+     * 클라이언트가 보낸 대화 내용 요약을 토큰 스트림으로 반환
+     */
+    public Flux<String> streamText(String chatHistory, String language) {
+        return Mono.fromCallable(() -> prepareText(chatHistory, language))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(PreparedSummary::stream);
+    }
+
+    // ----------- 마지막 호출 직전까지 준비 -----------
+
+    private PreparedSummary prepareRange(Long channelId, Long wsId, Long from, Long to, String language) {
+        List<Chunk> chunks = readChunks(channelId,
+                from != null ? from : 0L,
+                to != null ? to : Long.MAX_VALUE);
+        if (chunks.isEmpty()) {
+            throw new CustomException(ErrorCode.SUMMARY_EMPTY_CONTENT);
+        }
+
+        // 스트리밍 조회가 끝난 뒤 발신자 닉네임을 한 번에 조회
+        Set<String> senders = chunks.stream()
+                .flatMap(chunk -> chunk.getLines().stream())
+                .map(SummaryLineDTO::getSender)
+                .collect(Collectors.toSet());
+        Map<String, SenderProfileDTO> profiles = profileResolver.resolveAll(wsId, senders);
+
+        log.info("📝 채널 요약: channel={}, 범위={}~{}, 묶음 {}개",
+                channelId, chunks.get(0).getFirst(), chunks.get(chunks.size() - 1).getLast(), chunks.size());
+
+        // 묶음이 하나면 그 묶음의 요약이 곧 결과 (캐시에 없으면 마지막 호출로 남겨둠)
+        if (chunks.size() == 1) {
+            Chunk chunk = chunks.get(0);
+            String cacheKey = cacheKey(channelId, chunk, language);
+            String cached = getCached(cacheKey);
+            if (cached != null) {
+                return done(cached);
+            }
+            return new PreparedSummary(null, mapPrompt(language), "Summarize this chat: " + render(chunk, profiles), cacheKey);
+        }
+
+        List<CompletableFuture<String>> futures = chunks.stream()
+                .map(chunk -> CompletableFuture.supplyAsync(
+                        () -> summarizeChunk(channelId, chunk, render(chunk, profiles), language), executor))
+                .toList();
+        return prepareReduce(joinAll(futures), language);
+    }
+
+    private PreparedSummary prepareText(String chatHistory, String language) {
+        if (chatHistory == null || chatHistory.isBlank()) {
+            throw new CustomException(ErrorCode.SUMMARY_EMPTY_CONTENT);
+        }
+
+        List<String> parts = splitByBudget(Arrays.asList(chatHistory.split("\n")), "\n");
+        if (parts.size() == 1) {
+            return new PreparedSummary(null, mapPrompt(language), "Summarize this chat: " + parts.get(0), null);
+        }
+
+        List<CompletableFuture<String>> futures = parts.stream()
+                .map(part -> CompletableFuture.supplyAsync(() -> complete(mapPrompt(language), "Summarize this chat: " + part), executor))
+                .toList();
+        return prepareReduce(joinAll(futures), language);
+    }
+
+    private PreparedSummary prepareReduce(List<String> summaries, String language) {
+        List<String> fit = reduceToFit(summaries, language);
+        if (fit.size() == 1) {
+            return done(fit.get(0));
+        }
+        return new PreparedSummary(null, reducePrompt(language), combinePrompt(fit), null);
+    }
+
+    // ----------- map -----------
+
+    private List<Chunk> readChunks(Long channelId, Long from, Long to) {
+        // 범위가 max-messages보다 길면 가장 최근 메시지만 요약
+        List<SummaryLineDTO> lines = readLines(channelId, from, to);
+        if (lines.size() >= maxMessages) {
+            lines = extendToChunkStart(channelId, from, lines);
+        }
+
+        List<Chunk> chunks = splitChunks(lines);
+        rememberChunkStarts(channelId, chunks);
+        return chunks;
+    }
+
+    /**
+     * 범위의 메시지를 최대 max-messages개 읽음 (최신순으로 읽은 뒤 시간순으로 되돌림)
+     */
+    private List<SummaryLineDTO> readLines(Long channelId, Long from, Long to) {
+        List<SummaryLineDTO> lines = readOnlyTransactionTemplate.execute(status -> {
+            try (Stream<SummaryLineDTO> stream = messageReposittory.streamSummaryLines(channelId, from, to)) {
+                return stream.limit(maxMessages).collect(Collectors.toCollection(ArrayList::new));
+            }
+        });
+        Collections.reverse(lines);
+        return lines;
+    }
+
+    /**
+     * 잘린 범위의 앞쪽을 이전 묶음 시작 번호까지 늘림
+     * 같은 번호부터 묶으면 경계가 같으므로 이미 요약한 묶음은 캐시에서 읽힌다. (늘어나는 양은 보통 한 묶음 이하)
+     */
+    private List<SummaryLineDTO> extendToChunkStart(Long channelId, Long from, List<SummaryLineDTO> lines) {
+        Long windowStart = lines.get(0).getMessageNumber();
+        Long anchor = findChunkStart(channelId, windowStart);
+        if (anchor == null || anchor < from || anchor >= windowStart) {
+            return lines;
+        }
+
+        List<SummaryLineDTO> extended = readLines(channelId, anchor, windowStart - 1);
+        extended.addAll(lines);
+        return extended;
+    }
+
+    private List<Chunk> splitChunks(List<SummaryLineDTO> lines) {
+        List<Chunk> chunks = new ArrayList<>();
+        Chunk current = new Chunk();
+        for (SummaryLineDTO line : lines) {
+            int tokens = estimateTokens(line.getSender()) + estimateTokens(line.getContent());
+            if (!current.isEmpty() && current.getTokens() + tokens > chunkTokenBudget) {
+                chunks.add(current);
+                current = new Chunk();
+            }
+            current.add(line, tokens);
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    /**
+     * 시작 위치 이전의 가장 가까운 묶음 시작 번호 조회 (없거나 Redis 장애 시 null)
+     */
+    private Long findChunkStart(Long channelId, Long windowStart) {
+        try {
+            Set<String> starts = stringRedisTemplate.opsForZSet()
+                    .reverseRangeByScore(CHUNK_START_KEY_PREFIX + channelId, 0, windowStart, 0, 1);
+            return starts == null || starts.isEmpty() ? null : Long.valueOf(starts.iterator().next());
+        } catch (Exception e) {
+            log.warn("⚠️ 요약 묶음 시작 번호 조회 실패: channel={} - {}", channelId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 이번에 만든 묶음 시작 번호 저장 (오래된 번호는 MAX_CHUNK_STARTS개를 넘으면 정리)
+     */
+    private void rememberChunkStarts(Long channelId, List<Chunk> chunks) {
+        if (chunks.isEmpty()) {
+            return;
+        }
+        String key = CHUNK_START_KEY_PREFIX + channelId;
+        try {
+            Set<ZSetOperations.TypedTuple<String>> starts = chunks.stream()
+                    .map(chunk -> ZSetOperations.TypedTuple.of(String.valueOf(chunk.getFirst()), chunk.getFirst().doubleValue()))
+                    .collect(Collectors.toSet());
+            stringRedisTemplate.opsForZSet().add(key, starts);
+            stringRedisTemplate.opsForZSet().removeRange(key, 0, -(MAX_CHUNK_STARTS + 1));
+            stringRedisTemplate.expire(key, cacheTtl);
+        } catch (Exception e) {
+            log.warn("⚠️ 요약 묶음 시작 번호 저장 실패: channel={} - {}", channelId, e.getMessage());
+        }
+    }
+
+    private String summarizeChunk(Long channelId, Chunk chunk, String text, String language) {
+        String cacheKey = cacheKey(channelId, chunk, language);
+        String cached = getCached(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        String summary = complete(mapPrompt(language), "Summarize this chat: " + text);
+        putCached(cacheKey, summary);
+        return summary;
+    }
+
+    private PreparedSummary done(String result) {
+        return new PreparedSummary(result, null, null, null);
+    }
+
+    private String cacheKey(Long channelId, Chunk chunk, String language) {
+        return CACHE_KEY_PREFIX + channelId + ":" + chunk.getFirst() + "-" + chunk.getLast() + ":" + language;
+    }
+
+    private String render(Chunk chunk, Map<String, SenderProfileDTO> profiles) {
+        StringBuilder builder = new StringBuilder();
+        for (SummaryLineDTO line : chunk.getLines()) {
+            SenderProfileDTO profile = profiles.get(line.getSender());
+            String name = profile != null && profile.getNickname() != null ? profile.getNickname() : line.getSender();
+            builder.append(name).append(": ").append(truncate(line.getContent())).append('\n');
+        }
+        return builder.toString();
+    }
+
+    // ----------- reduce -----------
+
+    /**
+     * 부분 요약이 한 번의 reduce 호출에 들어갈 때까지 묶음별로 합침
+     */
+    private List<String> reduceToFit(List<String> summaries, String language) {
+        if (summaries.size() <= 1) {
+            return summaries;
+        }
+
+        List<String> groups = splitByBudget(numbered(summaries), "\n\n");
+        if (groups.size() == 1 || groups.size() == summaries.size()) {
+            // 한 번에 들어가거나 더 줄일 수 없으면 그대로 마지막 호출로 넘김
+            return summaries;
+        }
+
+        List<CompletableFuture<String>> futures = groups.stream()
+                .map(group -> CompletableFuture.supplyAsync(
+                        () -> complete(reducePrompt(language), "Combine these partial summaries:\n\n" + group), executor))
+                .toList();
+        return reduceToFit(joinAll(futures), language);
+    }
+
+    private String combinePrompt(List<String> summaries) {
+        return "Combine these partial summaries:\n\n" + String.join("\n\n", numbered(summaries));
+    }
+
+    private List<String> numbered(List<String> summaries) {
+        List<String> result = new ArrayList<>(summaries.size());
+        for (int i = 0; i < summaries.size(); i++) {
+            result.add("[" + (i + 1) + "] " + summaries.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * 토큰 예산을 넘지 않도록 항목을 이어 붙여 나눔
+     */
+    private List<String> splitByBudget(List<String> items, String delimiter) {
+        List<String> parts = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        int currentTokens = 0;
+        for (String item : items) {
+            int tokens = estimateTokens(item);
+            if (current.length() > 0 && currentTokens + tokens > chunkTokenBudget) {
+                parts.add(current.toString());
+                current.setLength(0);
+                currentTokens = 0;
+            }
+            if (current.length() > 0) {
+                current.append(delimiter);
+            }
+            current.append(truncate(item));
+            currentTokens += tokens;
+        }
+        if (current.length() > 0) {
+            parts.add(current.toString());
+        }
+        return parts;
+    }
+
+    // ----------- OpenAI 호출 -----------
+
+    private String mapPrompt(String language) {
+        return "You are a chatbot that summarizes chat conversations. Provide the summary in " + language + ".";
+    }
+
+    private String reducePrompt(String language) {
+        return "You merge partial summaries of one chat conversation, given in chronological order, into a single concise summary. "
+                + "Provide the summary in " + language + ".";
+    }
+
+    /**
+     * OpenAI chat completion 호출 후 응답 본문 추출
+     */
+    @SuppressWarnings("unchecked")
+    private String complete(String systemPrompt, String userPrompt) {
+        Map<String, Object> request = new HashMap<>();
+        request.put("model", model);
+        request.put("messages", List.of(
+                Map.of("role", "system", "content", systemPrompt),
+                Map.of("role", "user", "content", userPrompt)
+        ));
+
+        Map<String, Object> response;
+        try {
+            response = openAiClient.getSummary("Bearer " + apiKey, request);
+        } catch (FeignException e) {
+            log.error("❌ OpenAI 요약 API 호출 실패: status={} - {}", e.status(), e.getMessage());
+            throw new CustomException(ErrorCode.SUMMARY_API_ERROR);
+        }
+
+        if (response != null && response.get("choices") instanceof List<?> choices && !choices.isEmpty()
+                && choices.get(0) instanceof Map<?, ?> firstChoice
+                && firstChoice.get("message") instanceof Map<?, ?> message
+                && message.get("content") instanceof String content) {
+            return content;
+        }
+        throw new CustomException(ErrorCode.SUMMARY_EMPTY_CONTENT);
+    }
+
+    private List<String> joinAll(List<CompletableFuture<String>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(timeoutSeconds, TimeUnit.SECONDS);
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof CustomException customException) {
+                throw customException;
+            }
+            log.error("❌ 채팅 요약 실패: {}", e.getMessage(), e);
+            throw new CustomException(ErrorCode.SUMMARY_FAILURE);
+        } catch (TimeoutException e) {
+            futures.forEach(future -> future.cancel(true));
+            log.error("❌ 채팅 요약 시간 초과: {}초", timeoutSeconds);
+            throw new CustomException(ErrorCode.SUMMARY_FAILURE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.SUMMARY_FAILURE);
+        }
+    }
+
+    // ----------- 캐시 (Redis 장애 시 캐시 없이 진행) -----------
+
+    private String getCached(String key) {
+        try {
+            return stringRedisTemplate.opsForValue().get(key);
+        } catch (Exception e) {
+            log.warn("⚠️ 요약 캐시 조회 실패: {} - {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void putCached(String key, String summary) {
+        try {
+            stringRedisTemplate.opsForValue().set(key, summary, cacheTtl);
+        } catch (Exception e) {
+            log.warn("⚠️ 요약 캐시 저장 실패: {} - {}", key, e.getMessage());
+        }
+    }
+
+    // ----------- 토큰 추정 -----------
+
+    private int estimateTokens(String text) {
+        return text == null ? 0 : text.length() / CHARS_PER_TOKEN + 1;
+    }
+
+    /**
+     * 한 항목이 예산을 넘으면 잘라냄
+     */
+    private String truncate(String text) {
+        int maxChars = chunkTokenBudget * CHARS_PER_TOKEN;
+        return text != null && text.length() > maxChars ? text.substring(0, maxChars) : text;
+    }
+
+    /**
+     * 마지막 OpenAI 호출 직전 상태
+     * (이미 결과가 있으면 result, 아니면 마지막 호출의 프롬프트와 결과를 저장할 캐시 키)
+     */
+    @AllArgsConstructor
+    private class PreparedSummary {
+        private final String result;
+        private final String systemPrompt;
+        private final String userPrompt;
+        private final String cacheKey;
+
+        String complete() {
+            if (result != null) {
+                return result;
+            }
+            String summary = ChatSummarizer.this.complete(systemPrompt, userPrompt);
+            if (cacheKey != null) {
+                putCached(cacheKey, summary);
+            }
+            return summary;
+        }
+
+        Flux<String> stream() {
+            if (result != null) {
+                return Flux.just(result);
+            }
+            StringBuilder collected = new StringBuilder();
+            return streamingClient.stream(systemPrompt, userPrompt)
+                    .doOnNext(collected::append)
+                    .doOnComplete(() -> {
+                        if (cacheKey != null && collected.length() > 0) {
+                            Schedulers.boundedElastic().schedule(() -> putCached(cacheKey, collected.toString()));
+                        }
+                    });
+        }
+    }
+
+    /**
+     * 연속된 메시지 묶음
+     */
+    @Getter
+    private static class Chunk {
+        private final List<SummaryLineDTO> lines = new ArrayList<>();
+        private Long first;
+        private Long last;
+        private int tokens;
+
+        void add(SummaryLineDTO line, int lineTokens) {
+            if (first == null) {
+                first = line.getMessageNumber();
+            }
+            last = line.getMessageNumber();
+            lines.add(line);
+            tokens += lineTokens;
+        }
+
+        boolean isEmpty() {
+            return lines.isEmpty();
+        }
+    }
+}
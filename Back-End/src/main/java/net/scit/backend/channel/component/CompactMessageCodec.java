@@ -0,0 +1,156 @@
+package net.scit.backend.channel.component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 채팅 브로드캐스트 compact 포맷 변환기
+ *
+ * CONNECT 프레임에 x-payload-format: compact 헤더를 보낸 세션에만 적용된다.
+ * MessageDTO JSON을 짧은 키로 바꾸고, 발신자 프로필(email, 닉네임, 프로필 이미지)은 세션별 번호로 참조한다.
+ *
+ * <pre>
+ * i: messageNumber   m: messageId   q: channelSeq   c: channelNumber
+ * s: 발신자 번호     t: content     f: 파일 메시지면 true   n: fileName   d: sendTime   h: thumbnailUrl
+ * u: 발신자 정의 {id, e: email, k: nickname, a: profileImage, v: profileThumbnailUrl} - 세션에서 처음 나오는 발신자(또는 프로필 변경 시)에만 포함
+ * </pre>
+ */
+@Slf4j
+@Component
+public class CompactMessageCodec {
+
+    public static final String FORMAT_HEADER = "x-payload-format";
+    public static final String COMPACT = "compact";
+
+    private static final int MAX_SENDERS_PER_SESSION = 1000; // 세션별 발신자 사전 최대 크기
+
+    private final ObjectMapper objectMapper;
+
+    // sessionId -> 발신자 사전 (compact 세션만 등록)
+    private final Map<String, SenderDictionary> sessions = new ConcurrentHashMap<>();
+
+    public CompactMessageCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * CONNECT 시 요청한 포맷 등록 (compact가 아니면 기존 JSON 유지)
+     */
+    public void register(String sessionId, String format) {
+        if (sessionId != null && COMPACT.equalsIgnoreCase(format)) {
+            sessions.put(sessionId, new SenderDictionary());
+        }
+    }
+
+    public void remove(String sessionId) {
+        if (sessionId != null) {
+            sessions.remove(sessionId);
+        }
+    }
+
+    public boolean isCompact(String sessionId) {
+        return sessionId != null && sessions.containsKey(sessionId);
+    }
+
+    /**
+     * MessageDTO JSON을 compact 포맷으로 변환
+     *
+     * @param sessionId 수신 세션 ID
+     * @param json      MessageDTO JSON 본문
+     * @return 변환된 본문 (compact 세션이 아니거나 변환할 수 없으면 null)
+     */
+    public byte[] encode(String sessionId, byte[] json) {
+        SenderDictionary dictionary = sessionId != null ? sessions.get(sessionId) : null;
+        if (dictionary == null) {
+            return null;
+        }
+        try {
+            JsonNode source = objectMapper.readTree(json);
+            if (!source.isObject()) {
+                return null;
+            }
+
+            ObjectNode target = objectMapper.createObjectNode();
+            copy(source, "messageNumber", target, "i");
+            copy(source, "messageId", target, "m");
+            copy(source, "channelSeq", target, "q");
+            copy(source, "channelNumber", target, "c");
+            copy(source, "content", target, "t");
+            if (source.path("messageOrFile").asBoolean(false)) {
+                target.put("f", true);
+            }
+            copy(source, "fileName", target, "n");
+            copy(source, "thumbnailUrl", target, "h");
+            copy(source, "sendTime", target, "d");
+
+            String email = textOrNull(source, "sender");
+            if (email != null) {
+                String nickname = textOrNull(source, "nickname");
+                String profileImage = textOrNull(source, "profileImage");
+                String profileThumbnailUrl = textOrNull(source, "profileThumbnailUrl");
+                String profileKey = email + "\n" + nickname + "\n" + profileImage;
+
+                Integer senderId = dictionary.ids.get(profileKey);
+                if (senderId == null) {
+                    senderId = dictionary.define(profileKey);
+                    ObjectNode definition = target.putObject("u");
+                    definition.put("id", senderId);
+                    definition.put("e", email);
+                    if (nickname != null) {
+                        definition.put("k", nickname);
+                    }
+                    if (profileImage != null) {
+                        definition.put("a", profileImage);
+                    }
+                    if (profileThumbnailUrl != null) {
+                        definition.put("v", profileThumbnailUrl);
+                    }
+                }
+                target.put("s", senderId);
+            }
+            return objectMapper.writeValueAsBytes(target);
+        } catch (IOException e) {
+            log.warn("⚠️ compact 포맷 변환 실패: session={} - {}", sessionId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void copy(JsonNode source, String sourceField, ObjectNode target, String targetField) {
+        JsonNode value = source.get(sourceField);
+        if (value != null && !value.isNull()) {
+            target.set(targetField, value);
+        }
+    }
+
+    private String textOrNull(JsonNode source, String field) {
+        JsonNode value = source.get(field);
+        return value != null && !value.isNull() ? value.asText() : null;
+    }
+
+    /**
+     * 세션별 발신자 사전
+     * 발신자 정의는 항상 참조보다 먼저 전송된다 (아웃바운드 전송 순서는 세션별로 유지됨).
+     * 프로필이 바뀌면 새 번호로 다시 정의하고, 사전이 가득 차면 비운 뒤 새 번호로 다시 정의한다.
+     */
+    private static class SenderDictionary {
+        private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        private int define(String profileKey) {
+            if (ids.size() >= MAX_SENDERS_PER_SESSION) {
+                ids.clear();
+            }
+            int id = sequence.incrementAndGet();
+            ids.put(profileKey, id);
+            return id;
+        }
+    }
+}
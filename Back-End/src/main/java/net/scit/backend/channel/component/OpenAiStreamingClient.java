@@ -0,0 +1,124 @@
+package net.scit.backend.channel.component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.scit.backend.exception.CustomException;
+import net.scit.backend.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * OpenAI chat completion 스트리밍 클라이언트 (stream=true)
+ *
+ * 업스트림 SSE 응답을 논블로킹으로 읽어 토큰(delta.content) 단위로 흘려보낸다.
+ * - chat.summary.ttft           : 요청 후 첫 토큰까지 걸린 시간
+ * - chat.summary.stream.duration: 스트림 전체 시간
+ */
+@Slf4j
+@Component
+public class OpenAiStreamingClient {
+
+    private static final String DONE = "[DONE]";
+
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final String apiKey;
+    private final String model;
+    private final Timer timeToFirstToken;
+    private final Timer streamDuration;
+
+    public OpenAiStreamingClient(WebClient.Builder webClientBuilder,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${OPEN_AI_API_URL}") String apiUrl,
+                                 @Value("${OPEN_AI_API_KEY}") String apiKey,
+                                 @Value("${chat.summary.model:gpt-4}") String model) {
+        this.webClient = webClientBuilder.baseUrl(apiUrl).build();
+        this.objectMapper = objectMapper;
+        this.apiKey = apiKey;
+        this.model = model;
+        this.timeToFirstToken = Timer.builder("chat.summary.ttft")
+                .description("요약 요청 후 첫 토큰까지 걸린 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.streamDuration = Timer.builder("chat.summary.stream.duration")
+                .description("요약 스트림 전체 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * chat completion을 스트리밍으로 요청
+     *
+     * @param systemPrompt 시스템 프롬프트
+     * @param userPrompt   사용자 프롬프트
+     * @return 토큰 스트림
+     */
+    public Flux<String> stream(String systemPrompt, String userPrompt) {
+        Map<String, Object> request = Map.of(
+                "model", model,
+                "stream", true,
+                "messages", List.of(
+                        Map.of("role", "system", "content", systemPrompt),
+                        Map.of("role", "user", "content", userPrompt)
+                ));
+
+        return Flux.defer(() -> {
+            long startedAt = System.nanoTime();
+            AtomicBoolean firstToken = new AtomicBoolean(true);
+
+            return webClient.post()
+                    .uri("/chat/completions")
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .bodyValue(request)
+                    .retrieve()
+                    .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+                    .map(event -> event.data() != null ? event.data() : "")
+                    .takeWhile(data -> !DONE.equals(data.trim()))
+                    .map(this::extractToken)
+                    .filter(token -> !token.isEmpty())
+                    .doOnNext(token -> {
+                        if (firstToken.compareAndSet(true, false)) {
+                            timeToFirstToken.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                        }
+                    })
+                    .doFinally(signal -> streamDuration.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS))
+                    .onErrorMap(WebClientResponseException.class, e -> {
+                        log.error("❌ OpenAI 스트리밍 호출 실패: status={} - {}", e.getStatusCode(), e.getMessage());
+                        return new CustomException(ErrorCode.SUMMARY_API_ERROR);
+                    });
+        });
+    }
+
+    /**
+     * 스트림 청크(JSON)에서 choices[0].delta.content 추출
+     */
+    private String extractToken(String data) {
+        if (data.isBlank()) {
+            return "";
+        }
+        try {
+            JsonNode content = objectMapper.readTree(data).path("choices").path(0).path("delta").path("content");
+            return content.isTextual() ? content.asText() : "";
+        } catch (Exception e) {
+            log.warn("⚠️ OpenAI 스트림 청크 파싱 실패: {}", e.getMessage());
+            return "";
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package net.scit.backend.channel.component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+
+/**
+ * STOMP 채널(clientInbound, clientOutbound, broker) 실행기 대기열 지표
+ *
+ * - stomp.channel.queue.depth   : 처리 대기 중인 메시지 수
+ * - stomp.channel.active.threads: 처리 중인 스레드 수
+ */
+@Component
+public class StompChannelExecutorMetrics implements MeterBinder {
+
+    private final Executor inboundExecutor;
+    private final Executor outboundExecutor;
+    private final Executor brokerExecutor;
+
+    public StompChannelExecutorMetrics(@Qualifier("clientInboundChannelExecutor") Executor inboundExecutor,
+                                       @Qualifier("clientOutboundChannelExecutor") Executor outboundExecutor,
+                                       @Qualifier("brokerChannelExecutor") Executor brokerExecutor) {
+        this.inboundExecutor = inboundExecutor;
+        this.outboundExecutor = outboundExecutor;
+        this.brokerExecutor = brokerExecutor;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bind(registry, "inbound", inboundExecutor);
+        bind(registry, "outbound", outboundExecutor);
+        bind(registry, "broker", brokerExecutor);
+    }
+
+    private void bind(MeterRegistry registry, String channel, Executor executor) {
+        // 풀을 사용하지 않는 경우(동기 전달)에는 대기열이 없으므로 등록하지 않음
+        if (!(executor instanceof ThreadPoolTaskExecutor taskExecutor)) {
+            return;
+        }
+        Gauge.builder("stomp.channel.queue.depth", taskExecutor, StompChannelExecutorMetrics::queueDepth)
+                .description("STOMP 채널 처리 대기 메시지 수")
+                .tag("channel", channel)
+                .register(registry);
+        Gauge.builder("stomp.channel.active.threads", taskExecutor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("STOMP 채널 처리 중인 스레드 수")
+                .tag("channel", channel)
+                .register(registry);
+    }
+
+    private static double queueDepth(ThreadPoolTaskExecutor taskExecutor) {
+        try {
+            return taskExecutor.getThreadPoolExecutor().getQueue().size();
+        } catch (IllegalStateException e) {
+            return 0; // 아직 초기화되지 않았거나 종료된 경우
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package net.scit.backend.channel.component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * STOMP 인바운드/아웃바운드 경로 Micrometer 지표
+ *
+ * - stomp.inbound.presend        : StompHandler.preSend 처리 시간 (command 태그)
+ * - stomp.handler.latency        : @MessageMapping 핸들러 처리 시간 (목적지 패턴 태그)
+ * - stomp.payload.size           : 메시지 본문 크기 (direction 태그)
+ * - stomp.payload.broadcast      : 채팅 브로드캐스트 본문 크기 (format 태그: json 원본 / compact 변환 후)
+ * - stomp.sessions.active        : 연결된 STOMP 세션 수
+ * - stomp.subscriptions.active   : 활성 구독 수
+ *
+ * 모든 지표는 actuator(/actuator/metrics)로 노출된다.
+ */
+@Component
+public class StompMetrics {
+
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("\\d+");
+    private static final int MAX_DESTINATION_PATTERNS = 100; // 태그 카디널리티 제한
+    private static final String OTHER_DESTINATION = "other";
+
+    private final MeterRegistry meterRegistry;
+    private final long logSampleRate;
+    private final AtomicLong logCounter = new AtomicLong();
+
+    private final Map<String, Timer> preSendTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> handlerTimers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> payloadSummaries = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> broadcastSummaries = new ConcurrentHashMap<>();
+
+    // sessionId -> 구독 ID 목록
+    private final Map<String, Set<String>> subscriptions = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriptionCount = new AtomicInteger();
+
+    public StompMetrics(MeterRegistry meterRegistry,
+                        StompSessionContextRegistry sessionContextRegistry,
+                        @Value("${chat.stomp.log-sample-rate:100}") long logSampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.logSampleRate = Math.max(1, logSampleRate);
+
+        Gauge.builder("stomp.sessions.active", sessionContextRegistry, StompSessionContextRegistry::sessionCount)
+                .description("연결된 STOMP 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("stomp.subscriptions.active", subscriptionCount, AtomicInteger::get)
+                .description("활성 STOMP 구독 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * StompHandler.preSend 처리 시간 기록
+     */
+    public void recordPreSend(String command, long nanos) {
+        preSendTimers.computeIfAbsent(command, key -> Timer.builder("stomp.inbound.presend")
+                        .description("STOMP 인바운드 preSend 처리 시간")
+                        .tag("command", key)
+                        .register(meterRegistry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @MessageMapping 핸들러 처리 시간 기록 (숫자 경로는 {id}로 치환해 패턴 단위로 집계)
+     */
+    public void recordHandler(String destination, long nanos) {
+        String pattern = toDestinationPattern(destination);
+        if (!handlerTimers.containsKey(pattern) && handlerTimers.size() >= MAX_DESTINATION_PATTERNS) {
+            pattern = OTHER_DESTINATION;
+        }
+        handlerTimers.computeIfAbsent(pattern, key -> Timer.builder("stomp.handler.latency")
+                        .description("@MessageMapping 핸들러 처리 시간")
+                        .tag("destination", key)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(meterRegistry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 메시지 본문 크기 기록
+     *
+     * @param direction inbound / outbound
+     * @param bytes     본문 크기
+     */
+    public void recordPayloadSize(String direction, int bytes) {
+        payloadSummaries.computeIfAbsent(direction, key -> DistributionSummary.builder("stomp.payload.size")
+                        .description("STOMP 메시지 본문 크기")
+                        .baseUnit("bytes")
+                        .tag("direction", key)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(bytes);
+    }
+
+    /**
+     * 채팅 브로드캐스트 본문 크기 기록 (json 원본과 compact 변환 결과를 비교하기 위함)
+     *
+     * @param format json / compact
+     * @param bytes  본문 크기
+     */
+    public void recordBroadcastSize(String format, int bytes) {
+        broadcastSummaries.computeIfAbsent(format, key -> DistributionSummary.builder("stomp.payload.broadcast")
+                        .description("채팅 브로드캐스트 본문 크기")
+                        .baseUnit("bytes")
+                        .tag("format", key)
+                        .register(meterRegistry))
+                .record(bytes);
+    }
+
+    // ----------- 구독 추적 -----------
+
+    public void subscribed(String sessionId, String subscriptionId) {
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+        if (subscriptions.computeIfAbsent(sessionId, key -> ConcurrentHashMap.newKeySet()).add(subscriptionId)) {
+            subscriptionCount.incrementAndGet();
+        }
+    }
+
+    public void unsubscribed(String sessionId, String subscriptionId) {
+        Set<String> ids = sessionId != null ? subscriptions.get(sessionId) : null;
+        if (ids != null && subscriptionId != null && ids.remove(subscriptionId)) {
+            subscriptionCount.decrementAndGet();
+        }
+    }
+
+    public void sessionClosed(String sessionId) {
+        Set<String> ids = sessionId != null ? subscriptions.remove(sessionId) : null;
+        if (ids != null) {
+            subscriptionCount.addAndGet(-ids.size());
+        }
+    }
+
+    /**
+     * 메시지 단위 로그 샘플링 (chat.stomp.log-sample-rate 건 중 1건만 true)
+     */
+    public boolean shouldLogSample() {
+        return logCounter.getAndIncrement() % logSampleRate == 0;
+    }
+
+    private String toDestinationPattern(String destination) {
+        if (destination == null) {
+            return OTHER_DESTINATION;
+        }
+        return NUMERIC_SEGMENT.matcher(destination).replaceAll("{id}");
+    }
+}
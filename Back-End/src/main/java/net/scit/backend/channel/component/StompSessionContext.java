@@ -0,0 +1,36 @@
+package net.scit.backend.channel.component;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * STOMP 세션 단위 컨텍스트
+ * - CONNECT 시 인증된 사용자(username)
+ * - 채널별 워크스페이스 ID와 발신자 프로필 (SUBSCRIBE/첫 SEND 시 조회 후 캐시)
+ */
+@Getter
+public class StompSessionContext {
+
+    private final String username;
+    private final Map<Long, ChannelContext> channels = new ConcurrentHashMap<>();
+
+    public StompSessionContext(String username) {
+        this.username = username;
+    }
+
+    /**
+     * 채널 컨텍스트 (채널 -> 워크스페이스, 해당 워크스페이스에서의 발신자 프로필)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ChannelContext {
+        private final Long channelNumber;
+        private final Long wsId;
+        private final String nickname;
+        private final String profileImage;
+        private final long resolvedAt;
+    }
+}
@@ -0,0 +1,139 @@
+package net.scit.backend.channel.component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.scit.backend.channel.component.StompSessionContext.ChannelContext;
+import net.scit.backend.exception.CustomException;
+import net.scit.backend.exception.ErrorCode;
+import net.scit.backend.workspace.component.WorkspaceMemberProfileResolver;
+import net.scit.backend.workspace.dto.SenderProfileDTO;
+import net.scit.backend.workspace.entity.WorkspaceChannelEntity;
+import net.scit.backend.workspace.repository.WorkspaceChannelRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * STOMP 세션별 컨텍스트 저장소
+ *
+ * 메시지 전송 경로에서 채널/프로필 조회를 DB에 다시 하지 않도록 세션마다 캐시한다.
+ * 채널 수정·삭제, 워크스페이스 회원 정보 변경 이벤트로 무효화되며,
+ * 다른 노드에서 일어난 변경을 반영할 수 있도록 일정 시간이 지나면 다시 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompSessionContextRegistry {
+
+    private static final long CONTEXT_TTL_MS = TimeUnit.MINUTES.toMillis(10);
+
+    private final WorkspaceChannelRepository workspaceChannelRepository;
+    private final WorkspaceMemberProfileResolver profileResolver;
+
+    // sessionId -> 세션 컨텍스트
+    private final Map<String, StompSessionContext> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * CONNECT 성공 시 세션 등록
+     */
+    public void register(String sessionId, String username) {
+        sessions.put(sessionId, new StompSessionContext(username));
+    }
+
+    /**
+     * DISCONNECT 시 세션 제거
+     */
+    public void remove(String sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    /**
+     * 세션의 채널 컨텍스트 조회 (캐시에 없거나 만료되었으면 DB에서 조회 후 캐시)
+     *
+     * @param sessionId     STOMP 세션 ID
+     * @param channelNumber 채널 번호
+     * @return 채널 컨텍스트
+     * @throws CustomException 세션이 없거나, 채널이 없거나, 워크스페이스 멤버가 아닌 경우
+     */
+    public ChannelContext resolve(String sessionId, Long channelNumber) {
+        StompSessionContext session = sessions.get(sessionId);
+        if (session == null) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED);
+        }
+
+        ChannelContext cached = session.getChannels().get(channelNumber);
+        if (cached != null && System.currentTimeMillis() - cached.getResolvedAt() < CONTEXT_TTL_MS) {
+            return cached;
+        }
+
+        WorkspaceChannelEntity channel = workspaceChannelRepository.findById(channelNumber)
+                .orElseThrow(() -> new CustomException(ErrorCode.CHANNEL_NOT_FOUND));
+        Long wsId = channel.getWorkspace().getWsId();
+        SenderProfileDTO profile = profileResolver.resolve(wsId, session.getUsername());
+        if (profile == null) {
+            throw new CustomException(ErrorCode.WORKSPACE_MEMBER_NOT_FOUND);
+        }
+
+        ChannelContext context = new ChannelContext(channelNumber, wsId,
+                profile.getNickname(), profile.getProfileImage(), System.currentTimeMillis());
+        session.getChannels().put(channelNumber, context);
+        return context;
+    }
+
+    /**
+     * 발신자가 세션 사용자와 일치하는지 확인한 뒤 채널 컨텍스트 반환 (DB 조회 없음)
+     *
+     * @param sessionId     STOMP 세션 ID
+     * @param channelNumber 채널 번호
+     * @param sender        메시지에 담긴 발신자 이메일
+     * @return 채널 컨텍스트
+     * @throws CustomException 발신자가 세션 사용자와 다른 경우
+     */
+    public ChannelContext resolveForSender(String sessionId, Long channelNumber, String sender) {
+        StompSessionContext session = sessions.get(sessionId);
+        if (session == null) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED);
+        }
+        if (!session.getUsername().equals(sender)) {
+            log.warn("⚠️ 발신자 불일치: session={}, username={}, sender={}", sessionId, session.getUsername(), sender);
+            throw new CustomException(ErrorCode.ACCESS_DENIED);
+        }
+        return resolve(sessionId, channelNumber);
+    }
+
+    // ----------- 무효화 -----------
+
+    /**
+     * 특정 채널의 컨텍스트 무효화 (채널 수정)
+     */
+    public void evictChannel(Long channelNumber) {
+        sessions.values().forEach(session -> session.getChannels().remove(channelNumber));
+    }
+
+    /**
+     * 워크스페이스에 속한 모든 채널 컨텍스트 무효화 (채널 삭제 등 채널 번호를 알 수 없는 경우)
+     */
+    public void evictWorkspace(Long wsId) {
+        sessions.values().forEach(session ->
+                session.getChannels().values().removeIf(context -> context.getWsId().equals(wsId)));
+    }
+
+    /**
+     * 특정 회원의 워크스페이스 프로필 컨텍스트 무효화 (회원 정보 변경, 탈퇴)
+     */
+    public void evictMember(Long wsId, String email) {
+        sessions.values().stream()
+                .filter(session -> session.getUsername().equals(email))
+                .forEach(session ->
+                        session.getChannels().values().removeIf(context -> context.getWsId().equals(wsId)));
+    }
+
+    /**
+     * 현재 등록된 세션 수
+     */
+    public int sessionCount() {
+        return sessions.size();
+    }
+}
@@ -11,20 +11,28 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
 import lombok.RequiredArgsConstructor;
 
+import net.scit.backend.channel.DTO.ChannelResumeDTO;
+import net.scit.backend.channel.DTO.ChannelUnreadDTO;
 import net.scit.backend.channel.DTO.ChatRequestDTO;
 import net.scit.backend.channel.DTO.MessageDTO;
 import net.scit.backend.channel.DTO.SummaryDTO;
 import net.scit.backend.channel.service.ChannelService;
 import net.scit.backend.common.dto.ResultDTO;
 import net.scit.backend.common.dto.SuccessDTO;
+import net.scit.backend.exception.CustomException;
+import net.scit.backend.exception.ErrorCode;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
@@ -41,14 +49,15 @@ public class ChatController {
     @SendTo("/exchange/chat-exchange/msg.{channelId}")
     @Operation(
         summary = "채팅 메시지 전송 (WebSocket)",
-        description = "STOMP를 이용해 채널 ID에 따라 메시지를 전송합니다."
+        description = "STOMP를 이용해 채널 ID에 따라 메시지를 전송합니다. 같은 messageId로 다시 보낸 메시지는 한 번만 전송되며, 이미 저장된 메시지면 ack를 다시 보냅니다."
     )
     public MessageDTO sendMessage(
             @Parameter(description = "메시지 내용") @Payload MessageDTO messageDTO,
-            @Parameter(description = "채널 ID") @DestinationVariable("channelId") String channelId
+            @Parameter(description = "채널 ID") @DestinationVariable("channelId") String channelId,
+            @Header("simpSessionId") String sessionId
     ) {
-        chatService.processMessage(messageDTO);
-        return messageDTO;
+        // 중복 메시지는 null이 반환되어 브로드캐스트되지 않음
+        return chatService.processMessage(messageDTO, sessionId);
     }
 
     @PostMapping("/upload/{channelId}")
@@ -70,7 +79,7 @@ public class ChatController {
     @GetMapping("/messages/{channelId}")
     @Operation(
         summary = "채널 메시지 조회",
-        description = "특정 채널의 과거 메시지를 조회합니다.",
+        description = "특정 채널의 최근 메시지 한 페이지를 오래된 순으로 조회합니다.",
         responses = {
             @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(array = @ArraySchema(schema = @Schema(implementation = MessageDTO.class))))
         }
@@ -81,6 +90,66 @@ public class ChatController {
         return chatService.getMessagesByChannel(channelId);
     }
 
+    @GetMapping("/messages/{channelId}/history")
+    @Operation(
+        summary = "채널 메시지 커서 조회",
+        description = "messageNumber 커서(before/after)를 기준으로 채널 메시지를 최신순으로 조회합니다.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(array = @ArraySchema(schema = @Schema(implementation = MessageDTO.class))))
+        }
+    )
+    public List<MessageDTO> getMessagesPage(
+            @Parameter(description = "채널 ID") @PathVariable("channelId") Long channelId,
+            @Parameter(description = "이 메시지 번호 이전의 메시지 조회") @RequestParam(value = "before", required = false) Long before,
+            @Parameter(description = "이 메시지 번호 이후의 메시지 조회") @RequestParam(value = "after", required = false) Long after,
+            @Parameter(description = "페이지 크기 (최대 200)") @RequestParam(value = "size", required = false) Integer size
+    ) {
+        return chatService.getMessagesPage(channelId, before, after, size);
+    }
+
+    @GetMapping("/messages/{channelId}/resume")
+    @Operation(
+        summary = "재연결 후 놓친 메시지 조회",
+        description = "마지막으로 받은 channelSeq 이후의 메시지를 순번 순으로 조회합니다. 구독을 다시 맺은 뒤 호출하고 hasMore가 false가 될 때까지 lastSeq로 이어서 조회합니다.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = ChannelResumeDTO.class)))
+        }
+    )
+    public ChannelResumeDTO resumeMessages(
+            @Parameter(description = "채널 ID") @PathVariable("channelId") Long channelId,
+            @Parameter(description = "마지막으로 받은 채널 순번") @RequestParam("afterSeq") Long afterSeq,
+            @Parameter(description = "최대 메시지 수 (최대 200)") @RequestParam(value = "size", required = false) Integer size
+    ) {
+        return chatService.resumeMessages(channelId, afterSeq, size);
+    }
+
+    @PostMapping("/read-cursor/{channelId}")
+    @Operation(
+        summary = "채널 읽음 위치 갱신",
+        description = "마지막으로 읽은 메시지 번호를 갱신합니다. 더 작은 번호로는 되돌아가지 않습니다."
+    )
+    public ResponseEntity<Void> advanceReadCursor(
+            @Parameter(description = "채널 ID") @PathVariable("channelId") Long channelId,
+            @Parameter(description = "마지막으로 읽은 메시지 번호") @RequestParam("messageNumber") Long messageNumber
+    ) {
+        chatService.advanceReadCursor(channelId, messageNumber);
+        return ResponseEntity.accepted().build();
+    }
+
+    @GetMapping("/unread")
+    @Operation(
+        summary = "채널별 안 읽은 메시지 수 조회",
+        description = "워크스페이스의 채널별 안 읽은 메시지 수를 조회합니다. capped가 true이면 실제 수는 더 많을 수 있습니다.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(array = @ArraySchema(schema = @Schema(implementation = ChannelUnreadDTO.class))))
+        }
+    )
+    public List<ChannelUnreadDTO> getUnreadCounts(
+            @Parameter(description = "워크스페이스 ID") @RequestParam("wsId") Long wsId
+    ) {
+        return chatService.getUnreadCounts(wsId);
+    }
+
     @PostMapping("/summarize")
     @Operation(
         summary = "채팅 요약 요청",
@@ -101,6 +170,45 @@ public class ChatController {
         return ResponseEntity.ok(result);
     }
 
+    @PostMapping("/summarize/channel/{channelId}")
+    @Operation(
+        summary = "채널 메시지 범위 요약",
+        description = "서버에 저장된 채널 메시지를 messageNumber 범위로 읽어 요약합니다. 긴 범위는 나눠서 요약한 뒤 합칩니다.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "요약 성공", content = @Content(schema = @Schema(implementation = ResultDTO.class)))
+        }
+    )
+    public ResponseEntity<ResultDTO<String>> summarizeChannel(
+            @Parameter(description = "채널 ID") @PathVariable("channelId") Long channelId,
+            @Parameter(description = "시작 메시지 번호 (포함)") @RequestParam(value = "from", required = false) Long from,
+            @Parameter(description = "마지막 메시지 번호 (포함)") @RequestParam(value = "to", required = false) Long to
+    ) {
+        ResultDTO<String> result = chatService.summarizeChannel(channelId, from, to);
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping(value = "/summarize/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "채팅 요약 스트리밍",
+        description = "요약 결과를 토큰 단위 SSE(token 이벤트)로 전송하고, 끝나면 done 이벤트를 보냅니다."
+    )
+    public Flux<ServerSentEvent<String>> streamSummarizeChat(@RequestBody ChatRequestDTO chatRequestDTO) {
+        return toSummaryEvents(chatService.streamSummarizeChat(chatRequestDTO));
+    }
+
+    @PostMapping(value = "/summarize/channel/{channelId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "채널 메시지 범위 요약 스트리밍",
+        description = "서버에 저장된 채널 메시지 범위의 요약을 토큰 단위 SSE(token 이벤트)로 전송합니다."
+    )
+    public Flux<ServerSentEvent<String>> streamSummarizeChannel(
+            @Parameter(description = "채널 ID") @PathVariable("channelId") Long channelId,
+            @Parameter(description = "시작 메시지 번호 (포함)") @RequestParam(value = "from", required = false) Long from,
+            @Parameter(description = "마지막 메시지 번호 (포함)") @RequestParam(value = "to", required = false) Long to
+    ) {
+        return toSummaryEvents(chatService.streamSummarizeChannel(channelId, from, to));
+    }
+
     @PostMapping("/summarize/upload")
     @Operation(
         summary = "채팅 요약 업로드",
@@ -120,4 +228,18 @@ public class ChatController {
         ResultDTO<SuccessDTO> result = chatService.summarizeChatUpload(summaryDTO);
         return ResponseEntity.ok(result);
     }
+
+    /**
+     * 요약 토큰 스트림을 SSE 이벤트로 변환 (token -> done, 실패 시 error)
+     */
+    private Flux<ServerSentEvent<String>> toSummaryEvents(Flux<String> tokens) {
+        return tokens
+                .map(token -> ServerSentEvent.builder(token).event("token").build())
+                .concatWith(Flux.just(ServerSentEvent.builder("").event("done").build()))
+                .onErrorResume(e -> Flux.just(ServerSentEvent.builder(
+                        e instanceof CustomException customException
+                                ? customException.getMessage()
+                                : ErrorCode.SUMMARY_FAILURE.getMessage())
+                        .event("error").build()));
+    }
 }
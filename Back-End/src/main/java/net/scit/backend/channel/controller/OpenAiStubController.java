@@ -0,0 +1,92 @@
+package net.scit.backend.channel.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로컬 개발용 OpenAI chat completion 대체 엔드포인트
+ * local 프로필에서 OPEN_AI_API_URL을 http://localhost:8080/stub/openai 로 두면 실제 API 대신 호출된다.
+ * 요청에 stream=true가 있으면 실제 API처럼 SSE 청크로 나눠 보낸다.
+ */
+@Slf4j
+@Profile("local")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/stub/openai")
+public class OpenAiStubController {
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${chat.summary.stub-delay-ms:0}")
+    private long delayMs;
+
+    @PostMapping("/chat/completions")
+    public void completions(@RequestBody Map<String, Object> request, HttpServletResponse response)
+            throws IOException, InterruptedException {
+        String userContent = "";
+        if (request.get("messages") instanceof List<?> messages && !messages.isEmpty()
+                && messages.get(messages.size() - 1) instanceof Map<?, ?> last
+                && last.get("content") instanceof String content) {
+            userContent = content;
+        }
+
+        String preview = userContent.length() > 80 ? userContent.substring(0, 80) + "..." : userContent;
+        String summary = "[stub 요약] " + userContent.length() + "자 | " + preview.replace('\n', ' ');
+        String model = String.valueOf(request.getOrDefault("model", "stub"));
+        log.info("🧪 OpenAI stub 호출: 입력 {}자, stream={}", userContent.length(), request.get("stream"));
+
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        if (!Boolean.TRUE.equals(request.get("stream"))) {
+            sleep(delayMs); // 실제 API 응답 지연 흉내
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getWriter(), Map.of(
+                    "id", "stub-" + System.nanoTime(),
+                    "object", "chat.completion",
+                    "model", model,
+                    "choices", List.of(Map.of(
+                            "index", 0,
+                            "message", Map.of("role", "assistant", "content", summary),
+                            "finish_reason", "stop"))
+            ));
+            return;
+        }
+
+        // 스트리밍: 단어 단위로 delta 청크를 보내고 [DONE]으로 종료
+        response.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+        PrintWriter writer = response.getWriter();
+        String[] words = summary.split("(?<= )");
+        long wordDelayMs = words.length > 0 ? delayMs / words.length : 0;
+        for (String word : words) {
+            sleep(wordDelayMs);
+            writer.write("data: " + objectMapper.writeValueAsString(Map.of(
+                    "object", "chat.completion.chunk",
+                    "model", model,
+                    "choices", List.of(Map.of("index", 0, "delta", Map.of("content", word))))) + "\n\n");
+            writer.flush();
+        }
+        writer.write("data: [DONE]\n\n");
+        writer.flush();
+    }
+
+    private void sleep(long millis) throws InterruptedException {
+        if (millis > 0) {
+            Thread.sleep(millis);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package net.scit.backend.channel.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 채널 읽음 위치 (마지막으로 읽은 messageNumber)
+ */
+@Entity
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "channel_read_cursor",
+        uniqueConstraints = @UniqueConstraint(name = "uk_read_cursor_email_channel", columnNames = {"email", "channel_number"}))
+public class ChannelReadCursorEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long cursorNumber;
+
+    @Column(length = 100, nullable = false)
+    private String email;
+
+    @Column(nullable = false)
+    private Long channelNumber;
+
+    @Column(nullable = false)
+    private Long lastReadMessageNumber;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,54 @@
+package net.scit.backend.channel.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * write-behind 큐에서 저장하지 못한 채팅 메시지 (누락 확인 및 재처리용)
+ */
+@Entity
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "chat_message_dead_letter",
+        indexes = @Index(name = "idx_chat_dead_letter_channel", columnList = "channel_number, failed_at"))
+public class ChatMessageDeadLetterEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long deadLetterNumber;
+
+    @Column(length = 100)
+    private String messageId; // 클라이언트 또는 서버가 부여한 메시지 ID
+
+    @Column(nullable = false)
+    private Long channelNumber;
+
+    @Column(length = 50)
+    private String sender;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    private LocalDateTime sendTime;
+
+    private Long channelSeq; // 브로드캐스트 때 부여된 채널 순번
+
+    @Column(length = 1000)
+    private String errorMessage; // 마지막 실패 원인
+
+    @Column(nullable = false)
+    private LocalDateTime failedAt;
+}
@@ -0,0 +1,52 @@
+package net.scit.backend.channel.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 오래된 채널 메시지 보관 블록
+ * 한 채널의 같은 달 메시지를 messageNumber 순으로 묶어 gzip JSON으로 저장한다.
+ */
+@Entity
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "workspace_channel_message_archive",
+        indexes = @Index(name = "idx_channel_archive_range", columnList = "channel_number, last_message_number"))
+public class MessageArchiveEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long archiveNumber;
+
+    @Column(nullable = false)
+    private Long channelNumber;
+
+    @Column(length = 7, nullable = false)
+    private String archiveMonth; // yyyy-MM
+
+    private Long firstMessageNumber;
+
+    private Long lastMessageNumber;
+
+    private Integer messageCount;
+
+    @Lob
+    @Column(columnDefinition = "LONGBLOB", nullable = false)
+    private byte[] payload; // gzip으로 압축한 MessageDTO JSON 배열
+
+    private LocalDateTime archivedAt;
+}
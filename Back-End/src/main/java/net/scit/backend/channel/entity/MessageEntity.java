@@ -9,6 +9,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -22,7 +23,11 @@ import net.scit.backend.workspace.entity.WorkspaceChannelEntity;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "workspace_channel_message")
+@Table(name = "workspace_channel_message",
+        indexes = {
+                @Index(name = "idx_channel_message_number", columnList = "channel_number, message_number"),
+                @Index(name = "idx_channel_message_seq", columnList = "channel_number, channel_seq")
+        })
 @Builder
 public class MessageEntity 
 {
@@ -48,5 +53,7 @@ public class MessageEntity
 
     private String fileName;
 
+    // 채널 내 브로드캐스트 순번 (재연결 시 누락 구간 조회용)
+    private Long channelSeq;
 
 }
@@ -0,0 +1,49 @@
+package net.scit.backend.channel.handler;
+
+import lombok.RequiredArgsConstructor;
+import net.scit.backend.channel.component.CompactMessageCodec;
+import net.scit.backend.channel.component.StompMetrics;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * clientOutbound 채널에서 채팅 브로드캐스트를 세션이 요청한 포맷으로 변환하는 인터셉터
+ *
+ * /exchange/chat-exchange/msg.* 로 나가는 MESSAGE 프레임만 대상이며,
+ * compact 세션이면 CompactMessageCodec으로 본문을 바꾸고 원본/변환 크기를 stomp.payload.broadcast 로 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CompactPayloadInterceptor implements ChannelInterceptor {
+
+    private static final String CHAT_MESSAGE_PREFIX = "/exchange/chat-exchange/msg.";
+
+    private final CompactMessageCodec compactMessageCodec;
+    private final StompMetrics stompMetrics;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!(message.getPayload() instanceof byte[] payload)
+                || SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return message;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (destination == null || !destination.startsWith(CHAT_MESSAGE_PREFIX)) {
+            return message;
+        }
+
+        stompMetrics.recordBroadcastSize("json", payload.length);
+
+        byte[] compact = compactMessageCodec.encode(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()), payload);
+        if (compact == null) {
+            return message;
+        }
+        stompMetrics.recordBroadcastSize(CompactMessageCodec.COMPACT, compact.length);
+        return MessageBuilder.createMessage(compact, message.getHeaders());
+    }
+}
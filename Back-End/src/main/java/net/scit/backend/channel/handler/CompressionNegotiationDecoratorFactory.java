@@ -0,0 +1,50 @@
+package net.scit.backend.channel.handler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+/**
+ * WebSocket 압축(permessage-deflate) 협상 결과 집계
+ *
+ * 연결된 세션을 stomp.sessions.opened{compression=permessage-deflate|none} 으로 집계한다.
+ * SockJS 폴백(xhr-streaming 등) 세션은 확장이 없으므로 none 으로 집계된다.
+ */
+@Component
+public class CompressionNegotiationDecoratorFactory implements WebSocketHandlerDecoratorFactory {
+
+    private static final String PERMESSAGE_DEFLATE = "permessage-deflate";
+
+    private final Counter deflateCounter;
+    private final Counter plainCounter;
+
+    public CompressionNegotiationDecoratorFactory(MeterRegistry meterRegistry) {
+        this.deflateCounter = Counter.builder("stomp.sessions.opened")
+                .description("연결된 WebSocket 세션 수 (압축 협상 결과별)")
+                .tag("compression", PERMESSAGE_DEFLATE)
+                .register(meterRegistry);
+        this.plainCounter = Counter.builder("stomp.sessions.opened")
+                .description("연결된 WebSocket 세션 수 (압축 협상 결과별)")
+                .tag("compression", "none")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                boolean deflate = session.getExtensions().stream()
+                        .map(WebSocketExtension::getName)
+                        .anyMatch(PERMESSAGE_DEFLATE::equalsIgnoreCase);
+                (deflate ? deflateCounter : plainCounter).increment();
+                super.afterConnectionEstablished(session);
+            }
+        };
+    }
+}
@@ -0,0 +1,49 @@
+package net.scit.backend.channel.handler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+/**
+ * 느린 소비자 강제 종료 집계
+ *
+ * 전송 시간(send-time-limit) 또는 전송 버퍼(send-buffer-size-limit)를 넘긴 세션은
+ * Spring이 SESSION_NOT_RELIABLE 상태로 닫는다. 이 경우를 stomp.sessions.evicted 로 집계한다.
+ */
+@Slf4j
+@Component
+public class SlowConsumerEvictionDecoratorFactory implements WebSocketHandlerDecoratorFactory {
+
+    private final Counter evictedCounter;
+    private final Counter closedCounter;
+
+    public SlowConsumerEvictionDecoratorFactory(MeterRegistry meterRegistry) {
+        this.evictedCounter = Counter.builder("stomp.sessions.evicted")
+                .description("전송 지연/버퍼 초과로 강제 종료된 세션 수")
+                .register(meterRegistry);
+        this.closedCounter = Counter.builder("stomp.sessions.closed")
+                .description("종료된 WebSocket 세션 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                closedCounter.increment();
+                if (CloseStatus.SESSION_NOT_RELIABLE.equalsCode(closeStatus)) {
+                    evictedCounter.increment();
+                    log.warn("⚠️ 느린 소비자 세션 종료: session={}", session.getId());
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package net.scit.backend.channel.handler;
+
+import lombok.RequiredArgsConstructor;
+import net.scit.backend.common.component.RedisStompFanoutRelay;
+import net.scit.backend.common.component.StompFanoutRelay;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.util.UUID;
+
+/**
+ * brokerChannel 인터셉터: 로컬 브로커로 브로드캐스트된 메시지를 다른 노드로 릴레이
+ */
+@Component
+@RequiredArgsConstructor
+public class StompFanoutInterceptor implements ChannelInterceptor {
+
+    private static final String BROADCAST_PREFIX = "/exchange/";
+
+    private final StompFanoutRelay stompFanoutRelay;
+
+    /**
+     * 로컬 브로커 전송이 끝난 뒤 다른 노드로 발행
+     * (다른 노드에서 재주입된 메시지는 다시 발행하지 않음)
+     */
+    @Override
+    public void postSend(Message<?> message, MessageChannel channel, boolean sent) {
+        MessageHeaders headers = message.getHeaders();
+        if (!sent
+                || SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+                || headers.containsKey(RedisStompFanoutRelay.RELAYED_HEADER)
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return;
+        }
+
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (destination == null || !destination.startsWith(BROADCAST_PREFIX)) {
+            return;
+        }
+
+        UUID messageId = headers.getId();
+        stompFanoutRelay.publish(messageId != null ? messageId.toString() : null,
+                destination, payload, getContentType(headers));
+    }
+
+    private MimeType getContentType(MessageHeaders headers) {
+        Object contentType = headers.get(MessageHeaders.CONTENT_TYPE);
+        if (contentType instanceof MimeType mimeType) {
+            return mimeType;
+        }
+        return contentType instanceof String value ? MimeType.valueOf(value) : null;
+    }
+}
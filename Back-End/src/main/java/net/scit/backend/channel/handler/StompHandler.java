@@ -2,6 +2,10 @@ package net.scit.backend.channel.handler;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.scit.backend.channel.component.CompactMessageCodec;
+import net.scit.backend.channel.component.StompMetrics;
+import net.scit.backend.channel.component.StompSessionContextRegistry;
+import net.scit.backend.exception.CustomException;
 import net.scit.backend.jwt.JwtTokenProvider;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
@@ -15,7 +19,12 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class StompHandler implements ChannelInterceptor {
 
+    private static final String CHAT_SUBSCRIBE_PREFIX = "/exchange/chat-exchange/msg.";
+
     private final JwtTokenProvider jwtTokenProvider;
+    private final StompSessionContextRegistry sessionContextRegistry; // 세션별 채널/프로필 캐시
+    private final StompMetrics stompMetrics; // STOMP 지표 수집
+    private final CompactMessageCodec compactMessageCodec; // 세션별 브로드캐스트 포맷
 
     /**
      * STOMP 메시지를 처리하기 전 동작
@@ -26,13 +35,27 @@ public class StompHandler implements ChannelInterceptor {
      */
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        long startedAt = System.nanoTime();
         StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        StompCommand command = accessor.getCommand();
 
-        // STOMP 커맨드 처리
-        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
-            handleConnect(accessor); // CONNECT 요청 처리 메서드
-        } else if (StompCommand.SEND.equals(accessor.getCommand())) {
-            handleSend(accessor); // SEND 요청 처리 메서드
+        try {
+            // STOMP 커맨드 처리
+            if (StompCommand.CONNECT.equals(command)) {
+                handleConnect(accessor); // CONNECT 요청 처리 메서드
+            } else if (StompCommand.SEND.equals(command)) {
+                handleSend(accessor); // SEND 요청 처리 메서드
+            } else if (StompCommand.SUBSCRIBE.equals(command)) {
+                handleSubscribe(accessor); // SUBSCRIBE 요청 처리 메서드
+            } else if (StompCommand.UNSUBSCRIBE.equals(command)) {
+                stompMetrics.unsubscribed(accessor.getSessionId(), accessor.getSubscriptionId());
+            } else if (StompCommand.DISCONNECT.equals(command)) {
+                sessionContextRegistry.remove(accessor.getSessionId()); // 세션 컨텍스트 정리
+                compactMessageCodec.remove(accessor.getSessionId());
+                stompMetrics.sessionClosed(accessor.getSessionId());
+            }
+        } finally {
+            stompMetrics.recordPreSend(command != null ? command.name() : "NONE", System.nanoTime() - startedAt);
         }
 
         return message; // 메시지 반환
@@ -54,7 +77,13 @@ public class StompHandler implements ChannelInterceptor {
 
         String username = jwtTokenProvider.getUsernameFromToken(token); // 토큰에서 사용자 정보 추출
         accessor.getSessionAttributes().put("username", username); // 세션에 사용자 정보 저장
-        log.info("✅ STOMP CONNECT 성공: 사용자 [{}]", username);
+        sessionContextRegistry.register(accessor.getSessionId(), username); // 세션 컨텍스트 등록
+
+        // 브로드캐스트 본문 포맷 선택 (x-payload-format: compact, 없으면 JSON)
+        String payloadFormat = accessor.getFirstNativeHeader(CompactMessageCodec.FORMAT_HEADER);
+        compactMessageCodec.register(accessor.getSessionId(), payloadFormat);
+        log.info("✅ STOMP CONNECT 성공: 사용자 [{}], 포맷 [{}]", username,
+                compactMessageCodec.isCompact(accessor.getSessionId()) ? CompactMessageCodec.COMPACT : "json");
     }
 
     /**
@@ -70,7 +99,32 @@ public class StompHandler implements ChannelInterceptor {
             throw new IllegalArgumentException("STOMP 메시지 전송 실패: 사용자 정보 없음");
         }
 
-        log.info("📩 STOMP 메시지 전송 요청: 사용자 [{}]", username);
+        // 메시지마다 로그를 남기지 않고 샘플링 (chat.stomp.log-sample-rate)
+        if (stompMetrics.shouldLogSample()) {
+            log.info("📩 STOMP 메시지 전송 요청(샘플): 사용자 [{}], 목적지 [{}]", username, accessor.getDestination());
+        }
+    }
+
+    /**
+     * STOMP SUBSCRIBE 처리: 채널 구독 시 채널 -> 워크스페이스, 발신자 프로필을 미리 조회해 세션에 캐시
+     * (조회에 실패해도 구독은 막지 않고, 전송 시 다시 검증)
+     *
+     * @param accessor STOMP 헤더 접근 객체
+     */
+    private void handleSubscribe(StompHeaderAccessor accessor) {
+        stompMetrics.subscribed(accessor.getSessionId(), accessor.getSubscriptionId());
+
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(CHAT_SUBSCRIBE_PREFIX)) {
+            return;
+        }
+
+        try {
+            Long channelNumber = Long.parseLong(destination.substring(CHAT_SUBSCRIBE_PREFIX.length()));
+            sessionContextRegistry.resolve(accessor.getSessionId(), channelNumber);
+        } catch (NumberFormatException | CustomException e) {
+            log.warn("⚠️ 채널 컨텍스트 조회 실패: destination={} - {}", destination, e.getMessage());
+        }
     }
 
     /**
@@ -0,0 +1,59 @@
+package net.scit.backend.channel.handler;
+
+import net.scit.backend.channel.component.StompMetrics;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+
+/**
+ * clientInbound/clientOutbound 채널 지표 수집 인터셉터
+ *
+ * - 본문 크기를 방향(inbound/outbound)별로 기록
+ * - 인바운드 채널에서는 @MessageMapping 핸들러 처리 시간을 목적지 패턴별로 기록
+ */
+public class StompMetricsInterceptor implements ExecutorChannelInterceptor {
+
+    public static final String INBOUND = "inbound";
+    public static final String OUTBOUND = "outbound";
+
+    private final StompMetrics stompMetrics;
+    private final String direction;
+    private final ThreadLocal<Long> handleStartedAt = new ThreadLocal<>();
+
+    public StompMetricsInterceptor(StompMetrics stompMetrics, String direction) {
+        this.stompMetrics = stompMetrics;
+        this.direction = direction;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (message.getPayload() instanceof byte[] payload && payload.length > 0) {
+            stompMetrics.recordPayloadSize(direction, payload.length);
+        }
+        return message;
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (handler instanceof SimpAnnotationMethodMessageHandler
+                && SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+            handleStartedAt.set(System.nanoTime());
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        Long startedAt = handleStartedAt.get();
+        if (startedAt == null || !(handler instanceof SimpAnnotationMethodMessageHandler)) {
+            return;
+        }
+        handleStartedAt.remove();
+        stompMetrics.recordHandler(SimpMessageHeaderAccessor.getDestination(message.getHeaders()),
+                System.nanoTime() - startedAt);
+    }
+}
@@ -0,0 +1,57 @@
+package net.scit.backend.channel.listener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.scit.backend.channel.component.StompSessionContextRegistry;
+import net.scit.backend.workspace.event.WorkspaceChannelEvent;
+import net.scit.backend.workspace.event.WorkspaceEvent;
+import net.scit.backend.workspace.event.WorkspaceMemberProfileEvictedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 채널/워크스페이스 회원 변경 시 STOMP 세션 컨텍스트 캐시 무효화
+ * (커밋 이후에 무효화해야 변경 전 데이터가 다시 캐시되지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompSessionContextEventListener {
+
+    private final StompSessionContextRegistry sessionContextRegistry;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleWorkspaceChannelEvent(WorkspaceChannelEvent event) {
+        Long wsId = event.getWorkspace().getWsId();
+        switch (event.getEventType()) {
+            case "update" -> sessionContextRegistry.evictChannel(event.getChannelNumber());
+            case "delete" -> sessionContextRegistry.evictWorkspace(wsId); // 삭제 이벤트는 채널 번호가 없음
+            default -> {
+                return;
+            }
+        }
+        log.debug("STOMP 세션 채널 컨텍스트 무효화: {} | wsId={}", event.getEventType(), wsId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleWorkspaceEvent(WorkspaceEvent event) {
+        Long wsId = event.getWsId() != null ? event.getWsId() : event.getWorkspace().getWsId();
+        switch (event.getEventType()) {
+            case "member_update", "withdraw" -> sessionContextRegistry.evictMember(wsId, event.getReceiverEmail());
+            case "delete" -> sessionContextRegistry.evictWorkspace(wsId);
+            default -> {
+                return;
+            }
+        }
+        log.debug("STOMP 세션 회원 컨텍스트 무효화: {} | wsId={}", event.getEventType(), wsId);
+    }
+
+    // 다른 노드에서 바뀐 프로필 (이미 커밋된 변경이므로 바로 무효화)
+    @EventListener
+    public void handleProfileEvicted(WorkspaceMemberProfileEvictedEvent event) {
+        sessionContextRegistry.evictMember(event.getWsId(), event.getEmail());
+        log.debug("STOMP 세션 회원 컨텍스트 무효화 (다른 노드): wsId={}", event.getWsId());
+    }
+}
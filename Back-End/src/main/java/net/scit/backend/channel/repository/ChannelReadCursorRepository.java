@@ -0,0 +1,13 @@
+package net.scit.backend.channel.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import net.scit.backend.channel.entity.ChannelReadCursorEntity;
+
+public interface ChannelReadCursorRepository extends JpaRepository<ChannelReadCursorEntity, Long> {
+
+    List<ChannelReadCursorEntity> findByEmailAndChannelNumberIn(String email, Collection<Long> channelNumbers);
+}
@@ -0,0 +1,8 @@
+package net.scit.backend.channel.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import net.scit.backend.channel.entity.ChatMessageDeadLetterEntity;
+
+public interface ChatMessageDeadLetterRepository extends JpaRepository<ChatMessageDeadLetterEntity, Long> {
+}
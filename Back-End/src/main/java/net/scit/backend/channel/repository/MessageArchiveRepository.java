@@ -0,0 +1,19 @@
+package net.scit.backend.channel.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import net.scit.backend.channel.entity.MessageArchiveEntity;
+
+public interface MessageArchiveRepository extends JpaRepository<MessageArchiveEntity, Long> {
+
+    // 커서(before)보다 앞선 메시지를 담은 블록을 최신 블록부터 조회
+    List<MessageArchiveEntity> findByChannelNumberAndFirstMessageNumberLessThanOrderByLastMessageNumberDesc(
+            Long channelNumber, Long messageNumber, Pageable pageable);
+
+    // 커서(after)보다 뒤의 메시지를 담은 블록을 오래된 블록부터 조회
+    List<MessageArchiveEntity> findByChannelNumberAndLastMessageNumberGreaterThanOrderByFirstMessageNumberAsc(
+            Long channelNumber, Long messageNumber, Pageable pageable);
+}
@@ -1,14 +1,85 @@
 package net.scit.backend.channel.repository;
 
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.Stream;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import net.scit.backend.channel.DTO.SummaryLineDTO;
 import net.scit.backend.channel.entity.MessageEntity;
 
 public interface MessageReposittory extends JpaRepository<MessageEntity,Long>
 {
 
-    List<MessageEntity> findByWorkspaceChannelEntity_ChannelNumber(Long channelId);
+    // 최신 메시지부터 페이지 크기만큼 조회 (channel_number, message_number 인덱스 사용)
+    List<MessageEntity> findByWorkspaceChannelEntity_ChannelNumberOrderByMessageNumberDesc(Long channelId, Pageable pageable);
+
+    // 커서(before) 이전의 메시지를 최신순으로 조회
+    List<MessageEntity> findByWorkspaceChannelEntity_ChannelNumberAndMessageNumberLessThanOrderByMessageNumberDesc(
+            Long channelId, Long messageNumber, Pageable pageable);
+
+    // 커서(after) 이후의 메시지를 오래된 순으로 조회
+    List<MessageEntity> findByWorkspaceChannelEntity_ChannelNumberAndMessageNumberGreaterThanOrderByMessageNumberAsc(
+            Long channelId, Long messageNumber, Pageable pageable);
+
+    // 재연결 시 마지막으로 받은 순번(channelSeq) 이후의 메시지를 순번 순으로 조회
+    List<MessageEntity> findByWorkspaceChannelEntity_ChannelNumberAndChannelSeqGreaterThanOrderByChannelSeqAsc(
+            Long channelId, Long channelSeq, Pageable pageable);
+
+    // 브로드캐스트 요청한 파일 메시지를 서버 기준으로 확인 (같은 채널, 같은 발신자, 아직 순번이 없는 파일 메시지만)
+    @Query("SELECT m FROM MessageEntity m " +
+            "WHERE m.messageNumber = :messageNumber AND m.workspaceChannelEntity.channelNumber = :channelId " +
+            "AND m.sender = :sender AND m.messageOrFile = true AND m.channelSeq IS NULL")
+    Optional<MessageEntity> findUnsequencedFileMessage(@Param("messageNumber") Long messageNumber,
+                                                       @Param("channelId") Long channelId,
+                                                       @Param("sender") String sender);
+
+    // 파일 메시지는 업로드 시 저장되므로 브로드캐스트 시점에 순번만 기록
+    @Modifying
+    @Transactional
+    @Query("UPDATE MessageEntity m SET m.channelSeq = :channelSeq " +
+            "WHERE m.messageNumber = :messageNumber AND m.workspaceChannelEntity.channelNumber = :channelId AND m.channelSeq IS NULL")
+    int updateChannelSeq(@Param("messageNumber") Long messageNumber,
+                         @Param("channelId") Long channelId,
+                         @Param("channelSeq") Long channelSeq);
+
+    // 요약 대상 텍스트 메시지를 범위 내에서 최신순으로 스트리밍 조회 (최근 메시지부터 개수 제한을 적용하기 위함)
+    // (MySQL은 fetch size가 Integer.MIN_VALUE일 때 결과를 한 번에 메모리에 올리지 않고 행 단위로 읽음, 트랜잭션 안에서 소비해야 함)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"))
+    @Query("SELECT new net.scit.backend.channel.DTO.SummaryLineDTO(m.messageNumber, m.sender, m.content) " +
+            "FROM MessageEntity m " +
+            "WHERE m.workspaceChannelEntity.channelNumber = :channelId " +
+            "AND m.messageOrFile = false " +
+            "AND m.messageNumber BETWEEN :fromNumber AND :toNumber " +
+            "ORDER BY m.messageNumber DESC")
+    Stream<SummaryLineDTO> streamSummaryLines(@Param("channelId") Long channelId,
+                                              @Param("fromNumber") Long fromNumber,
+                                              @Param("toNumber") Long toNumber);
+
+    // 채널의 최근 메시지 번호 (안 읽은 수 집계용 Redis 초기화)
+    @Query("SELECT m.messageNumber FROM MessageEntity m WHERE m.workspaceChannelEntity.channelNumber = :channelId ORDER BY m.messageNumber DESC")
+    List<Long> findRecentMessageNumbers(@Param("channelId") Long channelId, Pageable pageable);
+
+    // 보관 대상(cutoff 이전) 메시지가 있는 채널 목록
+    @Query("SELECT DISTINCT m.workspaceChannelEntity.channelNumber FROM MessageEntity m WHERE m.sendTime < :cutoff")
+    List<Long> findChannelNumbersWithMessagesBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    // 파생 이미지 백필용: after 이후 파일 메시지의 (메시지 번호, 파일 URL)을 번호 순으로 조회
+    @Query("SELECT m.messageNumber, m.content FROM MessageEntity m " +
+            "WHERE m.messageOrFile = true AND m.messageNumber > :after ORDER BY m.messageNumber")
+    List<Object[]> findFileUrlsAfter(@Param("after") Long after, Pageable pageable);
+
+    // 채널의 보관 대상 메시지를 오래된 순으로 조회
+    List<MessageEntity> findByWorkspaceChannelEntity_ChannelNumberAndSendTimeBeforeOrderByMessageNumberAsc(
+            Long channelId, LocalDateTime cutoff, Pageable pageable);
 
 }
@@ -0,0 +1,193 @@
+package net.scit.backend.channel.service;
+
+import lombok.extern.slf4j.Slf4j;
+import net.scit.backend.channel.DTO.MessageDTO;
+import net.scit.backend.channel.entity.MessageArchiveEntity;
+import net.scit.backend.channel.entity.MessageEntity;
+import net.scit.backend.channel.repository.MessageArchiveRepository;
+import net.scit.backend.channel.repository.MessageReposittory;
+import net.scit.backend.common.component.ArchiveCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 채널 메시지 보관(archive) 서비스
+ *
+ * - 일정 기간(chat.archive.max-age-days)이 지난 메시지를 채널/월 단위 gzip 블록으로 옮기고 원본 행을 삭제한다.
+ * - 메시지 조회 시 커서가 보관 경계를 넘으면 보관 블록에서 이어서 읽는다.
+ */
+@Slf4j
+@Service
+public class ChannelMessageArchiveService {
+
+    private static final int BLOCK_FETCH_SIZE = 4; // 조회 시 한 번에 읽을 보관 블록 수
+
+    private final MessageReposittory messageReposittory;
+    private final MessageArchiveRepository messageArchiveRepository;
+    private final ArchiveCodec archiveCodec;
+    private final TransactionTemplate transactionTemplate;
+    private final long maxAgeDays;
+    private final int blockSize;
+
+    public ChannelMessageArchiveService(MessageReposittory messageReposittory,
+                                        MessageArchiveRepository messageArchiveRepository,
+                                        ArchiveCodec archiveCodec,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${chat.archive.max-age-days:180}") long maxAgeDays,
+                                        @Value("${chat.archive.block-size:1000}") int blockSize) {
+        this.messageReposittory = messageReposittory;
+        this.messageArchiveRepository = messageArchiveRepository;
+        this.archiveCodec = archiveCodec;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAgeDays = maxAgeDays;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * 매일 새벽 오래된 채널 메시지를 보관 블록으로 이동 (max-age-days가 0 이하이면 비활성화)
+     */
+    @Scheduled(cron = "${chat.archive.cron:0 30 3 * * *}")
+    public void archiveOldMessages() {
+        if (maxAgeDays <= 0) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(maxAgeDays);
+
+        int total = 0;
+        for (Long channelNumber : messageReposittory.findChannelNumbersWithMessagesBefore(cutoff)) {
+            try {
+                total += archiveChannel(channelNumber, cutoff);
+            } catch (Exception e) {
+                log.error("❌ 채널 메시지 보관 실패: channel={} - {}", channelNumber, e.getMessage(), e);
+            }
+        }
+        log.info("✅ 채널 메시지 보관 완료: {}건 (기준 {})", total, cutoff);
+    }
+
+    /**
+     * 한 채널의 보관 대상 메시지를 블록 단위로 이동 (블록마다 별도 트랜잭션)
+     */
+    private int archiveChannel(Long channelNumber, LocalDateTime cutoff) {
+        int total = 0;
+        while (true) {
+            Integer archived = transactionTemplate.execute(status -> archiveBlock(channelNumber, cutoff));
+            if (archived == null || archived == 0) {
+                return total;
+            }
+            total += archived;
+        }
+    }
+
+    /**
+     * 가장 오래된 메시지부터 같은 달에 속한 메시지를 최대 blockSize개 묶어 보관하고 원본 삭제
+     */
+    private int archiveBlock(Long channelNumber, LocalDateTime cutoff) {
+        List<MessageEntity> page = messageReposittory
+                .findByWorkspaceChannelEntity_ChannelNumberAndSendTimeBeforeOrderByMessageNumberAsc(
+                        channelNumber, cutoff, PageRequest.of(0, blockSize));
+        if (page.isEmpty()) {
+            return 0;
+        }
+
+        YearMonth month = YearMonth.from(page.get(0).getSendTime());
+        List<MessageEntity> block = page.stream()
+                .takeWhile(message -> YearMonth.from(message.getSendTime()).equals(month))
+                .toList();
+
+        List<MessageDTO> payload = block.stream()
+                .map(message -> MessageDTO.builder()
+                        .messageNumber(message.getMessageNumber())
+                        .channelNumber(channelNumber)
+                        .sender(message.getSender())
+                        .content(message.getContent())
+                        .messageOrFile(message.getMessageOrFile())
+                        .fileName(message.getFileName())
+                        .sendTime(message.getSendTime())
+                        .channelSeq(message.getChannelSeq())
+                        .build())
+                .toList();
+
+        messageArchiveRepository.save(MessageArchiveEntity.builder()
+                .channelNumber(channelNumber)
+                .archiveMonth(month.toString())
+                .firstMessageNumber(block.get(0).getMessageNumber())
+                .lastMessageNumber(block.get(block.size() - 1).getMessageNumber())
+                .messageCount(block.size())
+                .payload(archiveCodec.encode(payload))
+                .archivedAt(LocalDateTime.now())
+                .build());
+        messageReposittory.deleteAllByIdInBatch(block.stream().map(MessageEntity::getMessageNumber).toList());
+
+        return block.size();
+    }
+
+    // ----------- 조회 -----------
+
+    /**
+     * 보관된 메시지 중 before보다 이전 메시지를 최신순으로 최대 limit개 조회
+     */
+    public List<MessageDTO> readBefore(Long channelNumber, Long before, int limit) {
+        List<MessageDTO> result = new ArrayList<>(limit);
+        long boundary = before;
+        while (result.size() < limit) {
+            List<MessageArchiveEntity> blocks = messageArchiveRepository
+                    .findByChannelNumberAndFirstMessageNumberLessThanOrderByLastMessageNumberDesc(
+                            channelNumber, boundary, PageRequest.of(0, BLOCK_FETCH_SIZE));
+            if (blocks.isEmpty()) {
+                break;
+            }
+            for (MessageArchiveEntity block : blocks) {
+                long currentBoundary = boundary;
+                archiveCodec.decode(block.getPayload(), MessageDTO.class).stream()
+                        .filter(message -> message.getMessageNumber() < currentBoundary)
+                        .sorted(Comparator.comparing(MessageDTO::getMessageNumber).reversed())
+                        .limit(limit - result.size())
+                        .forEach(result::add);
+                boundary = Math.min(boundary, block.getFirstMessageNumber());
+                if (result.size() >= limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 보관된 메시지 중 after보다 이후 메시지를 오래된 순으로 최대 limit개 조회
+     */
+    public List<MessageDTO> readAfter(Long channelNumber, Long after, int limit) {
+        List<MessageDTO> result = new ArrayList<>(limit);
+        long boundary = after;
+        while (result.size() < limit) {
+            List<MessageArchiveEntity> blocks = messageArchiveRepository
+                    .findByChannelNumberAndLastMessageNumberGreaterThanOrderByFirstMessageNumberAsc(
+                            channelNumber, boundary, PageRequest.of(0, BLOCK_FETCH_SIZE));
+            if (blocks.isEmpty()) {
+                break;
+            }
+            for (MessageArchiveEntity block : blocks) {
+                long currentBoundary = boundary;
+                archiveCodec.decode(block.getPayload(), MessageDTO.class).stream()
+                        .filter(message -> message.getMessageNumber() > currentBoundary)
+                        .sorted(Comparator.comparing(MessageDTO::getMessageNumber))
+                        .limit(limit - result.size())
+                        .forEach(result::add);
+                boundary = Math.max(boundary, block.getLastMessageNumber());
+                if (result.size() >= limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+}
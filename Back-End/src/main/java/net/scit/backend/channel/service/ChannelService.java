@@ -2,6 +2,8 @@ package net.scit.backend.channel.service;
 
 import java.util.List;
 
+import net.scit.backend.channel.DTO.ChannelResumeDTO;
+import net.scit.backend.channel.DTO.ChannelUnreadDTO;
 import net.scit.backend.channel.DTO.ChatRequestDTO;
 import net.scit.backend.channel.DTO.SummaryDTO;
 import net.scit.backend.common.dto.ResultDTO;
@@ -9,15 +11,32 @@ import net.scit.backend.common.dto.SuccessDTO;
 import org.springframework.web.multipart.MultipartFile;
 
 import net.scit.backend.channel.DTO.MessageDTO;
+import reactor.core.publisher.Flux;
 
 public interface ChannelService {
-    MessageDTO processMessage(MessageDTO messageDTO);
+    MessageDTO processMessage(MessageDTO messageDTO, String sessionId);
 
     List<MessageDTO> getMessagesByChannel( Long channelId);
 
+    List<MessageDTO> getMessagesPage(Long channelId, Long before, Long after, Integer size);
+
+    ChannelResumeDTO resumeMessages(Long channelId, Long afterSeq, Integer size);
+
     MessageDTO uploadFile(MultipartFile file, String sender, Long channelId);
 
+    MessageDTO saveFileMessage(String sender, Long channelId, String fileUrl, String fileName);
+
+    void advanceReadCursor(Long channelId, Long messageNumber);
+
+    List<ChannelUnreadDTO> getUnreadCounts(Long wsId);
+
     ResultDTO<String> summarizeChat(ChatRequestDTO chatRequestDTO);
 
+    ResultDTO<String> summarizeChannel(Long channelId, Long from, Long to);
+
+    Flux<String> streamSummarizeChat(ChatRequestDTO chatRequestDTO);
+
+    Flux<String> streamSummarizeChannel(Long channelId, Long from, Long to);
+
     ResultDTO<SuccessDTO> summarizeChatUpload(SummaryDTO summaryDTO);
 }
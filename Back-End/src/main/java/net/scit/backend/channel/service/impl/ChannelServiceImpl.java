@@ -1,15 +1,23 @@
 package net.scit.backend.channel.service.impl;
 
-import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import net.scit.backend.channel.DTO.ChannelResumeDTO;
+import net.scit.backend.channel.DTO.ChannelUnreadDTO;
 import net.scit.backend.channel.DTO.ChatRequestDTO;
+import net.scit.backend.channel.DTO.MessageAckDTO;
 import net.scit.backend.channel.DTO.SummaryDTO;
-import net.scit.backend.channel.component.OpenAiClient;
+import net.scit.backend.channel.component.ChannelMessageSequencer;
+import net.scit.backend.channel.component.ChannelMessageWriteBehindQueue;
+import net.scit.backend.channel.component.ChannelReadCursorBuffer;
+import net.scit.backend.channel.component.ChannelUnreadCounter;
+import net.scit.backend.channel.component.ChatSummarizer;
+import net.scit.backend.channel.component.StompSessionContext.ChannelContext;
+import net.scit.backend.channel.component.StompSessionContextRegistry;
 import net.scit.backend.common.dto.ResultDTO;
 import net.scit.backend.common.dto.SuccessDTO;
 import net.scit.backend.jwt.AuthUtil;
@@ -22,21 +30,27 @@ import net.scit.backend.workdata.event.WorkdataEvent;
 import net.scit.backend.workdata.repository.WorkdataFileRepository;
 import net.scit.backend.workdata.repository.WorkdataFileTagRepository;
 import net.scit.backend.workdata.repository.WorkdataRepository;
+import net.scit.backend.workspace.component.WorkspaceMemberProfileResolver;
+import net.scit.backend.workspace.dto.SenderProfileDTO;
 import net.scit.backend.workspace.entity.WorkspaceMemberEntity;
 import net.scit.backend.workspace.repository.WorkspaceMemberRepository;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.multipart.MultipartFile;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 import net.scit.backend.channel.DTO.MessageDTO;
 import net.scit.backend.channel.entity.MessageEntity;
+import net.scit.backend.channel.repository.ChannelReadCursorRepository;
 import net.scit.backend.channel.repository.MessageReposittory;
+import net.scit.backend.channel.service.ChannelMessageArchiveService;
 import net.scit.backend.channel.service.ChannelService;
+import net.scit.backend.common.component.ImageDerivativeGenerator;
+import net.scit.backend.common.component.ImageVariant;
 import net.scit.backend.common.component.S3Uploader;
 import net.scit.backend.exception.CustomException;
 import net.scit.backend.exception.ErrorCode;
@@ -52,12 +66,24 @@ public class ChannelServiceImpl implements ChannelService {
     private final WorkspaceChannelRepository workspaceChannelRepository; // 워크스페이스 채널 관련 데이터 처리
     private final WorkspaceMemberRepository workspaceMemberRepository;
     private final S3Uploader s3Uploader; // S3 파일 업로드 기능 제공 컴포넌트
+    private final ImageDerivativeGenerator imageDerivativeGenerator; // 이미지 썸네일 비동기 생성
     private final MemberRepository memberRepository;
-    private final OpenAiClient openAiClient;
+    private final ChatSummarizer chatSummarizer; // 채팅 요약 (map-reduce)
+    private final ChannelMessageArchiveService archiveService; // 오래된 메시지 보관 블록
     private final WorkdataRepository workdataRepository;
     private final WorkdataFileRepository workdataFileRepository;
     private final WorkdataFileTagRepository workdataFileTagRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final WorkspaceMemberProfileResolver profileResolver; // 발신자 프로필 일괄 조회 및 캐시
+    private final ChannelMessageWriteBehindQueue writeBehindQueue; // 텍스트 메시지 배치 저장 큐
+    private final StompSessionContextRegistry sessionContextRegistry; // STOMP 세션별 채널/프로필 캐시
+    private final ChannelReadCursorRepository channelReadCursorRepository;
+    private final ChannelReadCursorBuffer readCursorBuffer; // 읽음 위치 갱신 병합 버퍼
+    private final ChannelUnreadCounter unreadCounter; // Redis 기반 안 읽은 수 집계
+    private final ChannelMessageSequencer messageSequencer; // 채널 순번, 중복 제거, 재전송 버퍼
+
+    private static final int DEFAULT_PAGE_SIZE = 50; // 채널 메시지 기본 페이지 크기
+    private static final int MAX_PAGE_SIZE = 200;    // 한 번에 조회할 수 있는 최대 메시지 수
 
     /**
      * 파일을 S3에 업로드하고 업로드된 파일의 URL 반환
@@ -96,47 +122,96 @@ public class ChannelServiceImpl implements ChannelService {
     }
 
     /**
-     * 텍스트 메시지를 처리하고 데이터베이스에 저장
+     * 채널이 속한 워크스페이스에서 발신자 프로필 조회 (캐시 사용)
+     *
+     * @param workspaceChannelEntity 채널 엔티티
+     * @param sender                 발신자 이메일
+     * @return 발신자 프로필
+     * @throws CustomException 발신자가 워크스페이스 멤버가 아닐 경우 예외 처리
+     */
+    private SenderProfileDTO getSenderProfile(WorkspaceChannelEntity workspaceChannelEntity, String sender) {
+        SenderProfileDTO profile = profileResolver.resolve(workspaceChannelEntity.getWorkspace().getWsId(), sender);
+        if (profile == null) {
+            throw new CustomException(ErrorCode.IMAGE_NOT_FOUND);
+        }
+        return profile;
+    }
+
+    /**
+     * 텍스트 메시지를 처리하고 저장 큐에 추가 (DB 저장은 write-behind 큐에서 배치로 처리)
+     * 채널/발신자 프로필은 STOMP 세션 컨텍스트 캐시에서 가져오므로 전송 경로에서 DB 조회가 없다.
      *
      * @param messageDTO 메시지 DTO
-     * @return 저장된 메시지 DTO (그대로 반환)
+     * @param sessionId  STOMP 세션 ID
+     * @return 브로드캐스트할 메시지 DTO (이미 처리된 중복 메시지면 null)
      */
     @Override
-    public MessageDTO processMessage(MessageDTO messageDTO) {
-        // 파일 메시지는 여기서 처리하지 않으므로 바로 반환
-        if (messageDTO.getMessageOrFile()) {
-            log.info("📂 파일 메시지는 processMessage에서 처리하지 않음.");
-            WorkspaceChannelEntity workspaceChannelEntity = getWorkspaceChannelById(messageDTO.getChannelNumber());
-            WorkspaceMemberEntity workspaceMember = workspaceMemberRepository.findByWorkspace_wsIdAndMember_Email(
-                            workspaceChannelEntity.getWorkspace().getWsId(),
-                            messageDTO.getSender())
-                    .orElseThrow(() -> new CustomException(ErrorCode.IMAGE_NOT_FOUND));
-
-            messageDTO.setNickname(workspaceMember.getNickname());
-            messageDTO.setProfileImage(workspaceMember.getProfileImage());
-            return messageDTO;
+    public MessageDTO processMessage(MessageDTO messageDTO, String sessionId) {
+        // 발신자 검증 및 채널 컨텍스트(워크스페이스, 닉네임, 프로필 이미지) 조회
+        ChannelContext context = sessionContextRegistry.resolveForSender(
+                sessionId, messageDTO.getChannelNumber(), messageDTO.getSender());
+        messageDTO.setNickname(context.getNickname());
+        messageDTO.setProfileImage(context.getProfileImage());
+        messageDTO.setProfileThumbnailUrl(ImageVariant.AVATAR_64.derive(context.getProfileImage()));
+
+        Long channelNumber = messageDTO.getChannelNumber();
+
+        // 클라이언트가 부여한 messageId로 재전송 중복 제거 (이미 처리된 메시지는 다시 브로드캐스트하지 않음)
+        boolean clientMessageId = messageDTO.getMessageId() != null && !messageDTO.getMessageId().isBlank();
+        if (clientMessageId && !messageSequencer.claim(channelNumber, messageDTO.getMessageId())) {
+            // 이미 저장된 메시지면 ack를 다시 보내 클라이언트가 재전송을 멈추게 함 (저장 중이면 저장 후 ack가 전송됨)
+            messageSequencer.findSaved(channelNumber, messageDTO.getMessageId(), messageDTO.getSender())
+                    .ifPresent(writeBehindQueue::resendAck);
+            log.info("🔁 중복 메시지 무시: channel={}, messageId={}", channelNumber, messageDTO.getMessageId());
+            return null;
         }
 
-        // 채널 엔티티 가져오기
-        WorkspaceChannelEntity workspaceChannelEntity = getWorkspaceChannelById(messageDTO.getChannelNumber());
-
-        // 프로필 이미지와 닉네임 가져오기 위해 사용
-        WorkspaceMemberEntity workspaceMember = workspaceMemberRepository.findByWorkspace_wsIdAndMember_Email(
-                                                    workspaceChannelEntity.getWorkspace().getWsId(),
-                                                    messageDTO.getSender())
-                                                    .orElseThrow(() -> new CustomException(ErrorCode.IMAGE_NOT_FOUND));
-
-        // 메시지 엔티티 생성 및 저장
-        MessageEntity messageEntity = MessageEntity.builder()
-                .workspaceChannelEntity(workspaceChannelEntity)
-                .sender(messageDTO.getSender())
-                .content(messageDTO.getContent())
-                .messageOrFile(false) // 텍스트 메시지임을 명시
-                .build();
-        messageReposittory.save(messageEntity);
+        try {
+            // 파일 메시지는 uploadFile에서 저장하므로 여기서는 순번만 기록
+            if (Boolean.TRUE.equals(messageDTO.getMessageOrFile())) {
+                if (messageDTO.getMessageNumber() != null) {
+                    // 클라이언트가 보낸 메시지 번호는 이 채널에서 본인이 올린 파일 메시지일 때만 인정하고, 내용은 저장된 값으로 덮어씀
+                    MessageEntity fileMessage = messageReposittory
+                            .findUnsequencedFileMessage(messageDTO.getMessageNumber(), channelNumber, messageDTO.getSender())
+                            .orElseThrow(() -> new CustomException(ErrorCode.ACCESS_DENIED));
+                    messageDTO.setContent(fileMessage.getContent());
+                    messageDTO.setFileName(fileMessage.getFileName());
+                    messageDTO.setSendTime(fileMessage.getSendTime());
+                    messageDTO.setThumbnailUrl(ImageVariant.THUMB_320.derive(fileMessage.getContent()));
+                }
+                messageDTO.setChannelSeq(messageSequencer.nextSeq(channelNumber));
+                if (messageDTO.getMessageNumber() != null) {
+                    messageReposittory.updateChannelSeq(messageDTO.getMessageNumber(), channelNumber, messageDTO.getChannelSeq());
+                    if (clientMessageId) {
+                        messageSequencer.recordSaved(List.of(MessageAckDTO.builder()
+                                .messageId(messageDTO.getMessageId())
+                                .messageNumber(messageDTO.getMessageNumber())
+                                .channelSeq(messageDTO.getChannelSeq())
+                                .channelNumber(channelNumber)
+                                .sender(messageDTO.getSender())
+                                .build()));
+                    }
+                }
+                messageSequencer.remember(messageDTO);
+                return messageDTO;
+            }
 
-        messageDTO.setNickname(workspaceMember.getNickname());
-        messageDTO.setProfileImage(workspaceMember.getProfileImage());
+            // 메시지 ID, 전송 시간, 채널 순번 부여 후 write-behind 큐에 저장 요청 (브로드캐스트는 즉시 진행)
+            if (!clientMessageId) {
+                messageDTO.setMessageId(UUID.randomUUID().toString());
+            }
+            messageDTO.setSendTime(LocalDateTime.now());
+            messageDTO.setMessageOrFile(false); // 텍스트 메시지임을 명시
+            messageDTO.setChannelSeq(messageSequencer.nextSeq(channelNumber));
+            writeBehindQueue.enqueue(messageDTO);
+            messageSequencer.remember(messageDTO);
+        } catch (RuntimeException e) {
+            // 처리하지 못한 메시지는 클라이언트가 같은 messageId로 다시 보낼 수 있도록 선점 해제
+            if (clientMessageId) {
+                messageSequencer.release(channelNumber, messageDTO.getMessageId());
+            }
+            throw e;
+        }
 
         // 입력된 DTO 데이터를 그대로 반환
         return messageDTO;
@@ -154,79 +229,308 @@ public class ChannelServiceImpl implements ChannelService {
     public MessageDTO uploadFile(MultipartFile file, String sender, Long channelId) {
         // 파일을 S3에 업로드하고 URL 받아오기
         String imageUrl = uploadImage(file, channelId);
+        return saveFileMessage(sender, channelId, imageUrl, file.getOriginalFilename());
+    }
 
+    /**
+     * 업로드가 끝난 파일로 파일 메시지 저장 (서버 경유 업로드, pre-signed URL 직접 업로드 공통)
+     *
+     * @param sender    파일을 업로드한 사용자
+     * @param channelId 채널 ID
+     * @param fileUrl   업로드된 파일 URL
+     * @param fileName  원본 파일명
+     * @return 저장된 메시지 정보와 파일 URL을 포함한 DTO
+     */
+    @Override
+    public MessageDTO saveFileMessage(String sender, Long channelId, String fileUrl, String fileName) {
         // 채널 엔티티 가져오기
         WorkspaceChannelEntity workspaceChannelEntity = getWorkspaceChannelById(channelId);
         // 프로필 이미지와 닉네임 가져오기 위해 사용
-        WorkspaceMemberEntity workspaceMember = workspaceMemberRepository.findByWorkspace_wsIdAndMember_Email(
-                        workspaceChannelEntity.getWorkspace().getWsId(),
-                        sender)
-                .orElseThrow(() -> new CustomException(ErrorCode.IMAGE_NOT_FOUND));
+        SenderProfileDTO profile = getSenderProfile(workspaceChannelEntity, sender);
 
         // 파일 메시지 엔티티 생성 및 저장
         MessageEntity messageEntity = MessageEntity.builder()
                 .workspaceChannelEntity(workspaceChannelEntity)
                 .sender(sender)
-                .content(imageUrl) // 받은 URL 저장
+                .content(fileUrl) // 받은 URL 저장
                 .messageOrFile(true) // 파일 메시지임을 명시
-                .fileName(file.getOriginalFilename()) // 원본 파일명 저장
+                .fileName(fileName) // 원본 파일명 저장
                 .build();
         messageReposittory.save(messageEntity);
 
+        // 이미지 파일이면 미리보기 썸네일 생성 요청 (요청 스레드에서는 등록만 함)
+        imageDerivativeGenerator.submit(fileUrl, ImageVariant.THUMBNAILS);
+
+        // 안 읽은 수 집계 반영 및 업로드한 사람의 읽음 위치 갱신
+        try {
+            unreadCounter.recordMessages(channelId, List.of(messageEntity.getMessageNumber()));
+        } catch (Exception e) {
+            log.warn("⚠️ 안 읽은 수 집계 반영 실패: channel={} - {}", channelId, e.getMessage());
+        }
+        readCursorBuffer.advance(sender, channelId, messageEntity.getMessageNumber());
+
         // 저장된 데이터를 DTO 형태로 반환
         return MessageDTO.builder()
+                .messageNumber(messageEntity.getMessageNumber())
                 .messageOrFile(true) // 파일 메시지 여부
                 .channelNumber(channelId)
-                .nickname(workspaceMember.getNickname())
-                .profileImage(workspaceMember.getProfileImage())
+                .nickname(profile.getNickname())
+                .profileImage(profile.getProfileImage())
+                .profileThumbnailUrl(ImageVariant.AVATAR_64.derive(profile.getProfileImage()))
                 .sender(sender)
-                .content(imageUrl) // 클라이언트에게 반환할 URL
-                .fileName(file.getOriginalFilename())
+                .content(fileUrl) // 클라이언트에게 반환할 URL
+                .fileName(fileName)
+                .thumbnailUrl(ImageVariant.THUMB_320.derive(fileUrl))
                 .build();
     }
 
     /**
-     * 특정 채널의 과거 메시지 조회
+     * 로그인 사용자의 채널 읽음 위치 갱신
+     * 갱신 요청은 버퍼에서 병합된 뒤 주기적으로 저장되며, 더 작은 번호로는 되돌아가지 않는다.
+     *
+     * @param channelId     채널 ID
+     * @param messageNumber 마지막으로 읽은 메시지 번호
+     */
+    @Override
+    public void advanceReadCursor(Long channelId, Long messageNumber) {
+        if (channelId == null || messageNumber == null || messageNumber <= 0) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+        readCursorBuffer.advance(AuthUtil.getLoginUserId(), channelId, messageNumber);
+    }
+
+    /**
+     * 워크스페이스의 채널별 안 읽은 메시지 수 조회
+     *
+     * @param wsId 워크스페이스 ID
+     * @return 채널별 읽음 위치와 안 읽은 수
+     */
+    @Override
+    public List<ChannelUnreadDTO> getUnreadCounts(Long wsId) {
+        String email = AuthUtil.getLoginUserId();
+        workspaceMemberRepository.findByMember_EmailAndWorkspace_WsId(email, wsId)
+                .orElseThrow(() -> new CustomException(ErrorCode.WORKSPACE_MEMBER_NOT_FOUND));
+
+        List<Long> channelNumbers = workspaceChannelRepository.findAllByWorkspace_WsId(wsId).stream()
+                .map(WorkspaceChannelEntity::getChannelNumber)
+                .toList();
+        if (channelNumbers.isEmpty()) {
+            return List.of();
+        }
+
+        // 저장된 읽음 위치에 아직 저장되지 않은 갱신분을 덮어씀
+        Map<Long, Long> lastReadByChannel = new LinkedHashMap<>();
+        channelNumbers.forEach(channelNumber -> lastReadByChannel.put(channelNumber, null));
+        channelReadCursorRepository.findByEmailAndChannelNumberIn(email, channelNumbers)
+                .forEach(cursor -> lastReadByChannel.put(cursor.getChannelNumber(), cursor.getLastReadMessageNumber()));
+        for (Long channelNumber : channelNumbers) {
+            Long pending = readCursorBuffer.getPending(email, channelNumber);
+            Long stored = lastReadByChannel.get(channelNumber);
+            if (pending != null && (stored == null || pending > stored)) {
+                lastReadByChannel.put(channelNumber, pending);
+            }
+        }
+
+        Map<Long, Long> unreadByChannel = unreadCounter.countUnread(lastReadByChannel);
+        return channelNumbers.stream()
+                .map(channelNumber -> {
+                    long unread = unreadByChannel.getOrDefault(channelNumber, 0L);
+                    return ChannelUnreadDTO.builder()
+                            .channelNumber(channelNumber)
+                            .lastReadMessageNumber(lastReadByChannel.get(channelNumber))
+                            .unreadCount(unread)
+                            .capped(unreadCounter.isCapped(unread))
+                            .build();
+                })
+                .toList();
+    }
+
+    /**
+     * 특정 채널의 최근 메시지 조회
+     * 전체 이력을 메모리에 올리지 않도록 최신 한 페이지만 오래된 순으로 반환
      *
      * @param channelNumber 채널 번호
      * @return 메시지 DTO 리스트
      */
     @Override
     public List<MessageDTO> getMessagesByChannel(Long channelNumber) {
-        // 채널의 메시지 엔티티를 조회하고 MessageDTO로 변환
-        return messageReposittory.findByWorkspaceChannelEntity_ChannelNumber(channelNumber).stream()
-                .map(this::convertToDTO) // 변환 메서드 사용
-                .collect(Collectors.toList());
+        List<MessageDTO> messages = getMessagesPage(channelNumber, null, null, DEFAULT_PAGE_SIZE);
+        Collections.reverse(messages);
+        return messages;
+    }
+
+    /**
+     * 특정 채널의 메시지를 messageNumber 커서 기준으로 조회 (최신순)
+     * 커서가 보관 경계를 넘으면 보관 블록에서 이어서 조회한다.
+     *
+     * @param channelNumber 채널 번호
+     * @param before        이 번호보다 이전 메시지 조회 (선택)
+     * @param after         이 번호보다 이후 메시지 조회 (선택)
+     * @param size          페이지 크기 (최대 MAX_PAGE_SIZE)
+     * @return 최신순으로 정렬된 메시지 DTO 리스트
+     */
+    @Override
+    public List<MessageDTO> getMessagesPage(Long channelNumber, Long before, Long after, Integer size) {
+        if (before != null && after != null) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+        int pageSize = (size == null || size <= 0) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        Pageable pageable = PageRequest.of(0, pageSize);
+
+        if (after != null) {
+            // after 커서는 가장 가까운 메시지부터 가져옴: 보관 블록 -> 현재 테이블 순서로 채운 뒤 최신순으로 뒤집음
+            List<MessageDTO> archived = archiveService.readAfter(channelNumber, after, pageSize);
+            long cursor = archived.isEmpty() ? after : archived.get(archived.size() - 1).getMessageNumber();
+            List<MessageDTO> messages = fillArchivedProfiles(channelNumber, archived);
+            if (messages.size() < pageSize) {
+                messages.addAll(convertToDTOs(messageReposittory
+                        .findByWorkspaceChannelEntity_ChannelNumberAndMessageNumberGreaterThanOrderByMessageNumberAsc(
+                                channelNumber, cursor, PageRequest.of(0, pageSize - messages.size()))));
+            }
+            Collections.reverse(messages);
+            return messages;
+        }
+
+        List<MessageEntity> entities;
+        if (before != null) {
+            entities = messageReposittory
+                    .findByWorkspaceChannelEntity_ChannelNumberAndMessageNumberLessThanOrderByMessageNumberDesc(channelNumber, before, pageable);
+        } else {
+            entities = messageReposittory
+                    .findByWorkspaceChannelEntity_ChannelNumberOrderByMessageNumberDesc(channelNumber, pageable);
+        }
+        List<MessageDTO> messages = convertToDTOs(entities);
+
+        // 현재 테이블에서 페이지를 다 채우지 못하면 보관 블록에서 이어서 조회
+        if (messages.size() < pageSize) {
+            long boundary = !entities.isEmpty()
+                    ? entities.get(entities.size() - 1).getMessageNumber()
+                    : (before != null ? before : Long.MAX_VALUE);
+            messages.addAll(fillArchivedProfiles(channelNumber,
+                    archiveService.readBefore(channelNumber, boundary, pageSize - messages.size())));
+        }
+        return messages;
+    }
+
+    /**
+     * 재연결 후 마지막으로 받은 순번(afterSeq) 이후의 메시지 조회
+     * Redis 재전송 버퍼에서 먼저 읽고, 버퍼가 가지고 있지 않은 구간은 DB에서 이어서 조회한다.
+     *
+     * @param channelId 채널 ID
+     * @param afterSeq  클라이언트가 마지막으로 받은 순번
+     * @param size      최대 메시지 수 (최대 MAX_PAGE_SIZE)
+     * @return 순번 오름차순 메시지와 다음 조회 위치
+     */
+    @Override
+    public ChannelResumeDTO resumeMessages(Long channelId, Long afterSeq, Integer size) {
+        if (afterSeq == null || afterSeq < 0) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+        String email = AuthUtil.getLoginUserId();
+        WorkspaceChannelEntity channel = workspaceChannelRepository.findById(channelId)
+                .orElseThrow(() -> new CustomException(ErrorCode.CHANNEL_NOT_FOUND));
+        workspaceMemberRepository.findByMember_EmailAndWorkspace_WsId(email, channel.getWorkspace().getWsId())
+                .orElseThrow(() -> new CustomException(ErrorCode.WORKSPACE_MEMBER_NOT_FOUND));
+
+        int pageSize = (size == null || size <= 0) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        List<MessageDTO> messages = new ArrayList<>(messageSequencer.readAfter(channelId, afterSeq, pageSize + 1));
+
+        // 버퍼에 없는 구간은 DB에서 이어서 조회 (그 사이 발급된 순번이 있을 때만)
+        if (messages.size() <= pageSize) {
+            long from = messages.isEmpty() ? afterSeq : messages.get(messages.size() - 1).getChannelSeq();
+            if (messageSequencer.currentSeq(channelId) > from) {
+                messages.addAll(convertToDTOs(messageReposittory
+                        .findByWorkspaceChannelEntity_ChannelNumberAndChannelSeqGreaterThanOrderByChannelSeqAsc(
+                                channelId, from, PageRequest.of(0, pageSize + 1 - messages.size()))));
+            }
+        }
+
+        boolean hasMore = messages.size() > pageSize;
+        if (hasMore) {
+            messages = new ArrayList<>(messages.subList(0, pageSize));
+        }
+        Long lastSeq = messages.isEmpty() ? afterSeq : messages.get(messages.size() - 1).getChannelSeq();
+        return ChannelResumeDTO.builder()
+                .messages(messages)
+                .lastSeq(lastSeq)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * 보관 블록에서 읽은 메시지에 발신자 프로필을 채움
+     *
+     * @param channelNumber 채널 번호
+     * @param messages      보관된 메시지 DTO 목록
+     * @return 프로필이 채워진 목록 (수정 가능한 리스트)
+     */
+    private List<MessageDTO> fillArchivedProfiles(Long channelNumber, List<MessageDTO> messages) {
+        if (messages.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Long wsId = workspaceChannelRepository.findById(channelNumber)
+                .orElseThrow(() -> new CustomException(ErrorCode.CHANNEL_NOT_FOUND))
+                .getWorkspace().getWsId();
+        Set<String> senders = messages.stream().map(MessageDTO::getSender).collect(Collectors.toSet());
+        Map<String, SenderProfileDTO> profiles = profileResolver.resolveAll(wsId, senders);
+        messages.forEach(message -> {
+            SenderProfileDTO profile = profiles.get(message.getSender());
+            message.setNickname(profile != null ? profile.getNickname() : null);
+            message.setProfileImage(profile != null ? profile.getProfileImage() : null);
+            message.setProfileThumbnailUrl(profile != null ? ImageVariant.AVATAR_64.derive(profile.getProfileImage()) : null);
+            message.setThumbnailUrl(Boolean.TRUE.equals(message.getMessageOrFile())
+                    ? ImageVariant.THUMB_320.derive(message.getContent()) : null);
+        });
+        return new ArrayList<>(messages);
+    }
+
+    /**
+     * MessageEntity 목록을 MessageDTO 목록으로 변환
+     * 페이지 내 발신자 프로필은 한 번에 조회하여 메시지마다 쿼리가 발생하지 않도록 한다.
+     *
+     * @param entities 같은 채널의 메시지 엔티티 목록
+     * @return MessageDTO 목록 (입력 순서 유지)
+     */
+    private List<MessageDTO> convertToDTOs(List<MessageEntity> entities) {
+        if (entities.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Long wsId = entities.get(0).getWorkspaceChannelEntity().getWorkspace().getWsId();
+        Set<String> senders = entities.stream()
+                .map(MessageEntity::getSender)
+                .collect(Collectors.toSet());
+        Map<String, SenderProfileDTO> profiles = profileResolver.resolveAll(wsId, senders);
+
+        return entities.stream()
+                .map(entity -> convertToDTO(entity, profiles.get(entity.getSender())))
+                .collect(Collectors.toCollection(ArrayList::new));
     }
 
     /**
      * MessageEntity를 MessageDTO로 변환하는 헬퍼 메서드
      *
      * @param messageEntity 메시지 엔티티
+     * @param profile       발신자 프로필 (워크스페이스를 떠난 발신자는 null)
      * @return MessageDTO
      */
-    private MessageDTO convertToDTO(MessageEntity messageEntity) {
-
-        // 프로필 사진을 찾기 위한 워크스페이스 아이디 찾기
-        WorkspaceChannelEntity workspaceChannelEntity = messageEntity.getWorkspaceChannelEntity();
-        WorkspaceMemberEntity workspaceMember = workspaceMemberRepository.findByWorkspace_wsIdAndMember_Email(workspaceChannelEntity.getWorkspace().getWsId(),messageEntity.getSender())
-                                                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
-
+    private MessageDTO convertToDTO(MessageEntity messageEntity, SenderProfileDTO profile) {
         return MessageDTO.builder()
+                .messageNumber(messageEntity.getMessageNumber())
                 .channelNumber(messageEntity.getWorkspaceChannelEntity().getChannelNumber())
                 .sender(messageEntity.getSender())
-                .nickname(workspaceMember.getNickname())
-                .profileImage(workspaceMember.getProfileImage())
+                .nickname(profile != null ? profile.getNickname() : null)
+                .profileImage(profile != null ? profile.getProfileImage() : null)
+                .profileThumbnailUrl(profile != null ? ImageVariant.AVATAR_64.derive(profile.getProfileImage()) : null)
                 .messageOrFile(messageEntity.getMessageOrFile())
+                .thumbnailUrl(Boolean.TRUE.equals(messageEntity.getMessageOrFile())
+                        ? ImageVariant.THUMB_320.derive(messageEntity.getContent()) : null)
                 .content(messageEntity.getContent())
                 .sendTime(messageEntity.getSendTime())
                 .fileName(messageEntity.getFileName())
+                .channelSeq(messageEntity.getChannelSeq())
                 .build();
     }
 
-    @Value("${OPEN_AI_API_KEY}")
-    private String OpenAiApiKey;
-
     @Override
     public ResultDTO<String> summarizeChat(ChatRequestDTO chatRequestDTO) {
 
@@ -234,47 +538,73 @@ public class ChannelServiceImpl implements ChannelService {
         MemberEntity member = memberRepository.findByEmail(email)
                 .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
 
-        try {
-            // 🔹 OpenAI API 요청 데이터 생성
-            Map<String, Object> request = new HashMap<>();
-            request.put("model", "gpt-4");  // ✅ 모델 이름 수정
-            request.put("messages", List.of(
-                    Map.of("role", "system", "content",
-                            "You are a chatbot that summarizes chat conversations. Provide the summary in " + member.getLanguage() + "."),
-                    Map.of("role", "user", "content", "Summarize this chat: " + chatRequestDTO.getChatHistory())
-            ));
-
-            // 🔹 Authorization 헤더 생성
-            String authorizationHeader = "Bearer " + OpenAiApiKey;
-
-            // 🔹 API 호출
-            Map<String, Object> response = openAiClient.getSummary(authorizationHeader, request);
-
-            // 🔹 응답 데이터 검증
-            if (response != null && response.containsKey("choices")) {
-                List<Map<String, Object>> choices = (List<Map<String, Object>>) response.get("choices");
-
-                if (!choices.isEmpty()) {
-                    Map<String, Object> firstChoice = choices.get(0);
-                    if (firstChoice.containsKey("message")) {
-                        Map<String, Object> message = (Map<String, Object>) firstChoice.get("message");
-                        String result = (String) Optional.ofNullable(message.get("content"))
-                                .orElseThrow(() -> new CustomException(ErrorCode.SUMMARY_EMPTY_CONTENT));
-
-                        return ResultDTO.of("요약에 성공 했습니다.", result);
-                    }
-                }
-            }
+        // 🔹 긴 대화는 토큰 예산 단위로 나눠 요약한 뒤 합침
+        String result = chatSummarizer.summarizeText(chatRequestDTO.getChatHistory(), member.getLanguage());
+        return ResultDTO.of("요약에 성공 했습니다.", result);
+    }
 
-            throw new CustomException(ErrorCode.SUMMARY_EMPTY_CONTENT);
+    /**
+     * 서버에 저장된 채널 메시지를 범위로 요약
+     *
+     * @param channelId 채널 ID
+     * @param from      시작 메시지 번호 (포함, 없으면 처음부터)
+     * @param to        마지막 메시지 번호 (포함, 없으면 끝까지)
+     * @return 요약 결과
+     */
+    @Override
+    public ResultDTO<String> summarizeChannel(Long channelId, Long from, Long to) {
+        SummaryTarget target = resolveSummaryTarget(channelId, from, to);
+        String result = chatSummarizer.summarizeRange(channelId, target.wsId(), from, to, target.language());
+        return ResultDTO.of("요약에 성공 했습니다.", result);
+    }
 
-        } catch (HttpClientErrorException e) {
-            e.printStackTrace();  // API 호출 관련 예외 처리
-            throw new CustomException(ErrorCode.SUMMARY_API_ERROR);
-        } catch (Exception e) {
-            e.printStackTrace();  // 기타 예외 처리
-            throw new CustomException(ErrorCode.SUMMARY_FAILURE);
+    /**
+     * 클라이언트가 보낸 대화 내용을 스트리밍으로 요약
+     * (인증 정보는 요청 스레드에서 미리 확인하고, 요약은 스트림 구독 이후에 진행)
+     */
+    @Override
+    public Flux<String> streamSummarizeChat(ChatRequestDTO chatRequestDTO) {
+        String email = AuthUtil.getLoginUserId();
+        MemberEntity member = memberRepository.findByEmail(email)
+                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+
+        return chatSummarizer.streamText(chatRequestDTO.getChatHistory(), member.getLanguage());
+    }
+
+    /**
+     * 서버에 저장된 채널 메시지 범위를 스트리밍으로 요약
+     */
+    @Override
+    public Flux<String> streamSummarizeChannel(Long channelId, Long from, Long to) {
+        SummaryTarget target = resolveSummaryTarget(channelId, from, to);
+        return chatSummarizer.streamRange(channelId, target.wsId(), from, to, target.language());
+    }
+
+    /**
+     * 채널 요약 요청 검증 (범위 확인, 채널이 속한 워크스페이스의 멤버만 요약 가능)
+     *
+     * @return 채널의 워크스페이스 ID와 요약 언어
+     * @throws CustomException 범위가 잘못되었거나 채널, 회원, 워크스페이스 멤버가 아닐 경우
+     */
+    private SummaryTarget resolveSummaryTarget(Long channelId, Long from, Long to) {
+        if (from != null && to != null && from > to) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
         }
+
+        String email = AuthUtil.getLoginUserId();
+        MemberEntity member = memberRepository.findByEmail(email)
+                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+
+        WorkspaceChannelEntity channel = workspaceChannelRepository.findById(channelId)
+                .orElseThrow(() -> new CustomException(ErrorCode.CHANNEL_NOT_FOUND));
+        Long wsId = channel.getWorkspace().getWsId();
+        workspaceMemberRepository.findByMember_EmailAndWorkspace_WsId(email, wsId)
+                .orElseThrow(() -> new CustomException(ErrorCode.WORKSPACE_MEMBER_NOT_FOUND));
+
+        return new SummaryTarget(wsId, member.getLanguage());
+    }
+
+    private record SummaryTarget(Long wsId, String language) {
     }
 
     @Transactional
@@ -289,86 +619,56 @@ public class ChannelServiceImpl implements ChannelService {
                 .orElseThrow(() -> new CustomException(ErrorCode.WORKSPACE_MEMBER_NOT_FOUND));
 
         String summaryString = summaryDTO.getSummaryString();
+        if (summaryString == null || summaryString.isBlank()) {
+            throw new CustomException(ErrorCode.SUMMARY_EMPTY_CONTENT);
+        }
         String title = "summary_" + LocalDate.now() + "_" + wsMember.getNickname();
         String content = wsMember.getNickname() + "이(가) 요청한 요약 파일";
 
-        // 로컬 임시 파일 생성
-        File tempFile;
-        try {
-            tempFile = File.createTempFile(title, ".txt");
+        // 요약 텍스트를 메모리에서 바로 S3에 업로드 (임시 파일 없이)
+        byte[] summaryBytes = summaryString.getBytes(StandardCharsets.UTF_8);
+        String fileName = title + ".txt";
+        String fileUrl = s3Uploader.upload(summaryBytes, "workdata-files", fileName, "text/plain; charset=UTF-8");
+
+        // WorkdataEntity 저장
+        WorkdataEntity workdataEntity = WorkdataEntity.builder()
+                .workspaceMember(wsMember)
+                .workspace(wsMember.getWorkspace())
+                .writer(email)
+                .title(title)
+                .content(content)
+                .regDate(LocalDateTime.now())
+                .build();
+        workdataRepository.save(workdataEntity);
 
-            // UTF-8로 정확하게 쓰기
-            try (OutputStreamWriter writer = new OutputStreamWriter(new FileOutputStream(tempFile), StandardCharsets.UTF_8)) {
-                writer.write(summaryString);  // summarizeString은 UTF-8로 저장된 텍스트여야 합니다.
-            }
-        } catch (IOException e) {
-            log.error("임시 파일 생성 중 오류 발생", e);
-            throw new CustomException(ErrorCode.FILE_CREATION_FAILED);
-        }
+        // WorkdataFileEntity 저장
+        WorkdataFileEntity fileEntity = WorkdataFileEntity.builder()
+                .workdataEntity(workdataEntity)
+                .file(fileUrl)
+                .fileName(fileName)
+                .build();
+        workdataFileRepository.save(fileEntity);
 
-        // S3 업로드 (MultipartFile 변환 후 업로드)
-        try {
-            MultipartFile multipartFile = new MockMultipartFile(
-                    tempFile.getName(),
-                    tempFile.getName(),
-                    "text/plain",
-                    new FileInputStream(tempFile)
-            );
-
-            String fileUrl = s3Uploader.upload(multipartFile, "workdata-files");
-
-            // WorkdataEntity 저장
-            WorkdataEntity workdataEntity = WorkdataEntity.builder()
-                    .workspaceMember(wsMember)
-                    .workspace(wsMember.getWorkspace())
-                    .writer(email)
-                    .title(title)
-                    .content(content)
-                    .regDate(LocalDateTime.now())
-                    .build();
-            workdataRepository.save(workdataEntity);
-
-            // WorkdataFileEntity 저장
-            WorkdataFileEntity fileEntity = WorkdataFileEntity.builder()
-                    .workdataEntity(workdataEntity)
-                    .file(fileUrl)
-                    .fileName(tempFile.getName()) // 기존 코드 수정
-                    .build();
-            workdataFileRepository.save(fileEntity);
-
-            // 태그 저장
-            String tag = "요약";
-            WorkDataFileTagEntity tagEntity = WorkDataFileTagEntity.builder()
-                    .workdataEntity(workdataEntity)
-                    .tag(tag)
-                    .build();
-            workdataFileTagRepository.save(tagEntity);
-
-            // 최신 데이터 다시 조회
-            workdataEntity = workdataRepository.findById(workdataEntity.getDataNumber())
-                    .orElseThrow(() -> new CustomException(ErrorCode.WORKDATA_NOT_FOUND));
-
-            // 자료글 생성 이벤트 (알림 전송)
-            String senderNickname = wsMember.getNickname();
-            eventPublisher.publishEvent(new WorkdataEvent(workdataEntity, email, senderNickname, "create"));
-
-            // 임시 파일 삭제
-            if (tempFile.exists()) {
-                tempFile.delete();
-            }
+        // 태그 저장
+        String tag = "요약";
+        WorkDataFileTagEntity tagEntity = WorkDataFileTagEntity.builder()
+                .workdataEntity(workdataEntity)
+                .tag(tag)
+                .build();
+        workdataFileTagRepository.save(tagEntity);
 
-            SuccessDTO result = SuccessDTO.builder()
-                    .success(true)
-                    .build();
+        // 최신 데이터 다시 조회
+        workdataEntity = workdataRepository.findById(workdataEntity.getDataNumber())
+                .orElseThrow(() -> new CustomException(ErrorCode.WORKDATA_NOT_FOUND));
 
-            return ResultDTO.of("자료실 업로드에 성공했습니다.", result);
+        // 자료글 생성 이벤트 (알림 전송)
+        String senderNickname = wsMember.getNickname();
+        eventPublisher.publishEvent(new WorkdataEvent(workdataEntity, email, senderNickname, "create"));
 
-        } catch (IOException e) {
-            log.error("파일 업로드 중 오류 발생: {}", tempFile.getName(), e);
-            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
-        } finally {
-            // 최종적으로 임시 파일 삭제
-            tempFile.delete();
-        }
+        SuccessDTO result = SuccessDTO.builder()
+                .success(true)
+                .build();
+
+        return ResultDTO.of("자료실 업로드에 성공했습니다.", result);
     }
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package net.scit.backend.common.component;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import net.scit.backend.exception.CustomException;
+import net.scit.backend.exception.ErrorCode;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 보관(archive) 메시지 블록 인코더
+ * 메시지 목록을 JSON 배열로 직렬화한 뒤 gzip으로 압축한다. (null 필드는 저장하지 않음)
+ */
+@Slf4j
+@Component
+public class ArchiveCodec {
+
+    private final ObjectMapper objectMapper;
+
+    public ArchiveCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper.copy().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    }
+
+    /**
+     * 목록을 gzip JSON 블록으로 인코딩
+     */
+    public byte[] encode(List<?> items) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(buffer)) {
+            objectMapper.writeValue(gzip, items);
+        } catch (IOException e) {
+            log.error("❌ 보관 블록 인코딩 실패: {}", e.getMessage(), e);
+            throw new CustomException(ErrorCode.MESSAGE_ARCHIVE_FAILED);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * gzip JSON 블록을 목록으로 디코딩
+     */
+    public <T> List<T> decode(byte[] payload, Class<T> type) {
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return objectMapper.readValue(gzip, objectMapper.getTypeFactory().constructCollectionType(List.class, type));
+        } catch (IOException e) {
+            log.error("❌ 보관 블록 디코딩 실패: {}", e.getMessage(), e);
+            throw new CustomException(ErrorCode.MESSAGE_ARCHIVE_FAILED);
+        }
+    }
+}
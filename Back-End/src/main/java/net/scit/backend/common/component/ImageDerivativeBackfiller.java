@@ -0,0 +1,125 @@
+package net.scit.backend.common.component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import net.scit.backend.channel.repository.MessageReposittory;
+import net.scit.backend.workspace.repository.WorkspaceMemberRepository;
+
+/**
+ * 파생 이미지 생성 기능 도입 전에 올라온 이미지의 파생 이미지를 채운다.
+ * 응답에는 파생 이미지 URL이 원본 URL에서 계산되어 항상 포함되므로, 기존 이미지도 파생 이미지가 있어야 한다.
+ *
+ * - 대상: 워크스페이스 멤버 프로필 이미지(AVATARS), 채널 이미지 메시지(THUMBNAILS, 보관 블록으로 옮겨진 메시지 제외)
+ * - 번호 순으로 batch-size개씩 읽어 ImageDerivativeGenerator에 빠진 파생 이미지만 생성하도록 등록하고,
+ *   다음 위치를 Redis에 저장해 재시작하거나 다른 노드가 실행해도 이어서 진행한다. (중복 실행되어도 결과는 같음)
+ * - 생성기 대기열에 여유가 없거나 max-run-ms가 지나면 멈추고 다음 주기에 이어서 한다.
+ * - 끝까지 읽으면 완료로 표시하며, 이후 새 이미지는 업로드 시 생성된다.
+ * - 생성할 수 없는 이미지(크기 제한 초과, 외부 URL 등)는 파생 이미지가 없으므로 클라이언트가 원본으로 대체한다.
+ */
+@Slf4j
+@Component
+public class ImageDerivativeBackfiller {
+
+    private static final String CURSOR_KEY_PREFIX = "image:derivative:backfill:";
+    private static final String DONE = "done";
+
+    private final ImageDerivativeGenerator imageDerivativeGenerator;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final List<Source> sources;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long maxRunMs;
+
+    public ImageDerivativeBackfiller(ImageDerivativeGenerator imageDerivativeGenerator,
+                                     StringRedisTemplate stringRedisTemplate,
+                                     WorkspaceMemberRepository workspaceMemberRepository,
+                                     MessageReposittory messageReposittory,
+                                     @Value("${image.derivative.backfill.enabled:true}") boolean enabled,
+                                     @Value("${image.derivative.backfill.batch-size:50}") int batchSize,
+                                     @Value("${image.derivative.backfill.max-run-ms:30000}") long maxRunMs) {
+        this.imageDerivativeGenerator = imageDerivativeGenerator;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.sources = List.of(
+                new Source("profile", ImageVariant.AVATARS, workspaceMemberRepository::findProfileImagesAfter),
+                new Source("channel-file", ImageVariant.THUMBNAILS, messageReposittory::findFileUrlsAfter));
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxRunMs = maxRunMs;
+    }
+
+    @Scheduled(initialDelayString = "${image.derivative.backfill.initial-delay-ms:60000}",
+            fixedDelayString = "${image.derivative.backfill.interval-ms:60000}")
+    public void backfill() {
+        if (!enabled) {
+            return;
+        }
+        long deadline = System.currentTimeMillis() + maxRunMs;
+        for (Source source : sources) {
+            try {
+                if (!backfill(source, deadline)) {
+                    return; // 대기열이 차 있거나 시간이 다 됨
+                }
+            } catch (Exception e) {
+                log.error("❌ 파생 이미지 백필 실패: {} - {}", source.name(), e.getMessage(), e);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 한 대상의 백필 진행
+     *
+     * @return 이 대상을 끝까지 처리했으면 true
+     */
+    private boolean backfill(Source source, long deadline) {
+        String cursorKey = CURSOR_KEY_PREFIX + source.name();
+        String cursor = stringRedisTemplate.opsForValue().get(cursorKey);
+        if (DONE.equals(cursor)) {
+            return true;
+        }
+        long after = cursor != null ? Long.parseLong(cursor) : 0L;
+        int submitted = 0;
+        boolean finished = false;
+
+        try {
+            while (!finished && System.currentTimeMillis() < deadline) {
+                List<Object[]> rows = source.reader().apply(after, PageRequest.of(0, batchSize));
+                finished = rows.isEmpty();
+                for (Object[] row : rows) {
+                    if (!imageDerivativeGenerator.submitMissing((String) row[1], source.variants())) {
+                        return false; // 이 행부터 다음 주기에 다시 시작
+                    }
+                    after = ((Number) row[0]).longValue();
+                    submitted++;
+                }
+            }
+            return finished;
+        } finally {
+            // 예외가 나도 등록까지 마친 위치는 저장
+            if (finished) {
+                stringRedisTemplate.opsForValue().set(cursorKey, DONE);
+                log.info("✅ 파생 이미지 백필 완료: {} (이번 실행 {}건)", source.name(), submitted);
+            } else if (submitted > 0) {
+                stringRedisTemplate.opsForValue().set(cursorKey, String.valueOf(after));
+                log.info("🖼️ 파생 이미지 백필 등록: {} {}건 (위치 {})", source.name(), submitted, after);
+            }
+        }
+    }
+
+    /**
+     * 백필 대상 (reader: 번호 after 이후의 (번호, 원본 URL) 목록)
+     */
+    private record Source(String name, Set<ImageVariant> variants,
+                          BiFunction<Long, Pageable, List<Object[]>> reader) {
+    }
+}
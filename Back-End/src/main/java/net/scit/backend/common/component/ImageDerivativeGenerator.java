@@ -0,0 +1,304 @@
+package net.scit.backend.common.component;
+
+import com.amazonaws.services.s3.model.S3Object;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 이미지 파생본(아바타, 썸네일) 생성기
+ *
+ * - 요청 스레드에서는 작업만 등록하고, 전용 스레드 풀(pool-size)이 S3에서 원본을 읽어 크기를 줄인 JPEG를 올린다.
+ * - 대기열(queue-capacity)이 가득 차면 작업을 버린다. 파생본은 없어도 원본으로 대체되므로 요청을 막지 않는다.
+ * - 원본 크기(max-source-bytes)와 픽셀 수(max-source-pixels)를 넘는 이미지는 처리하지 않고,
+ *   디코딩 시 목표 크기의 2배 정도로 서브샘플링해 작업당 메모리를 제한한다.
+ */
+@Slf4j
+@Component
+public class ImageDerivativeGenerator {
+
+    private static final String JPEG = "image/jpeg";
+
+    private final S3Uploader s3Uploader;
+    private final long maxSourceBytes;
+    private final long maxSourcePixels;
+    private final float jpegQuality;
+    private final int backfillReserve; // 백필 작업이 남겨 둘 대기열 여유 (실시간 업로드 몫)
+    private final ThreadPoolExecutor executor;
+
+    private final Timer generateTimer;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+
+    public ImageDerivativeGenerator(S3Uploader s3Uploader,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${image.derivative.pool-size:2}") int poolSize,
+                                    @Value("${image.derivative.queue-capacity:200}") int queueCapacity,
+                                    @Value("${image.derivative.max-source-bytes:20971520}") long maxSourceBytes,
+                                    @Value("${image.derivative.max-source-pixels:40000000}") long maxSourcePixels,
+                                    @Value("${image.derivative.jpeg-quality:0.85}") float jpegQuality) {
+        this.s3Uploader = s3Uploader;
+        this.maxSourceBytes = maxSourceBytes;
+        this.maxSourcePixels = maxSourcePixels;
+        this.jpegQuality = jpegQuality;
+        this.backfillReserve = (queueCapacity + 1) / 2;
+
+        ImageIO.setUseCache(false); // 디스크 임시 파일 대신 메모리 스트림 사용
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "image-derivative-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+
+        Gauge.builder("image.derivative.queue.depth", executor, e -> e.getQueue().size())
+                .description("생성 대기 중인 파생 이미지 작업 수")
+                .register(meterRegistry);
+        this.generateTimer = Timer.builder("image.derivative.generate")
+                .description("원본 한 장의 파생 이미지 생성 시간")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("image.derivative.dropped")
+                .description("대기열이 가득 차 버려진 작업 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("image.derivative.failed")
+                .description("생성에 실패하거나 제한을 넘어 건너뛴 원본 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 파생 이미지 생성 요청 (즉시 반환)
+     *
+     * @param originalUrl 업로드된 원본 URL
+     * @param variants    만들 파생 이미지 종류
+     */
+    public void submit(String originalUrl, Set<ImageVariant> variants) {
+        if (!ImageVariant.isSupported(originalUrl) || variants.isEmpty()) {
+            return;
+        }
+        try {
+            executor.execute(() -> generateTimer.record(() -> generate(originalUrl, variants)));
+        } catch (RejectedExecutionException e) {
+            droppedCounter.increment();
+            log.warn("⚠️ 파생 이미지 작업 대기열 가득 참: {}", originalUrl);
+        }
+    }
+
+    /**
+     * 기존 이미지의 빠진 파생 이미지만 생성 요청 (백필용, 즉시 반환)
+     * 실시간 업로드 작업이 밀리지 않도록 대기열이 절반 넘게 차 있으면 등록하지 않는다.
+     *
+     * @return 등록했거나 대상이 아니면 true, 대기열 여유가 없으면 false
+     */
+    public boolean submitMissing(String originalUrl, Set<ImageVariant> variants) {
+        if (!ImageVariant.isSupported(originalUrl) || variants.isEmpty()) {
+            return true;
+        }
+        if (executor.getQueue().remainingCapacity() < backfillReserve) {
+            return false;
+        }
+        try {
+            executor.execute(() -> generateMissing(originalUrl, variants));
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 원본과 함께 파생 이미지 삭제 (원본 교체 시)
+     */
+    public void delete(String originalUrl, Set<ImageVariant> variants) {
+        if (!ImageVariant.isSupported(originalUrl)) {
+            return;
+        }
+        for (ImageVariant variant : variants) {
+            try {
+                s3Uploader.deleteFile(variant.derive(s3Uploader.getKeyFromUrl(originalUrl)));
+            } catch (Exception e) {
+                log.warn("⚠️ 파생 이미지 삭제 실패: {} ({}) - {}", originalUrl, variant, e.getMessage());
+            }
+        }
+    }
+
+    // ----------- 생성 처리 -----------
+
+    private void generateMissing(String originalUrl, Set<ImageVariant> variants) {
+        Set<ImageVariant> missing = EnumSet.noneOf(ImageVariant.class);
+        try {
+            String originalKey = s3Uploader.getKeyFromUrl(originalUrl);
+            for (ImageVariant variant : variants) {
+                if (!s3Uploader.exists(variant.derive(originalKey))) {
+                    missing.add(variant);
+                }
+            }
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.warn("⚠️ 파생 이미지 존재 확인 실패: {} - {}", originalUrl, e.getMessage());
+            return;
+        }
+        if (!missing.isEmpty()) {
+            generateTimer.record(() -> generate(originalUrl, missing));
+        }
+    }
+
+    private void generate(String originalUrl, Set<ImageVariant> variants) {
+        String originalKey = s3Uploader.getKeyFromUrl(originalUrl);
+        int largest = variants.stream().mapToInt(ImageVariant::getSize).max().orElse(0);
+
+        BufferedImage source;
+        try {
+            source = readSubsampled(originalUrl, largest);
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.warn("⚠️ 파생 이미지 원본 읽기 실패: {} - {}", originalUrl, e.getMessage());
+            return;
+        }
+        if (source == null) {
+            failedCounter.increment();
+            return;
+        }
+
+        for (ImageVariant variant : variants) {
+            try {
+                byte[] encoded = encodeJpeg(resize(source, variant));
+                s3Uploader.putObject(variant.derive(originalKey), encoded, JPEG);
+            } catch (Exception e) {
+                failedCounter.increment();
+                log.warn("⚠️ 파생 이미지 생성 실패: {} ({}) - {}", originalUrl, variant, e.getMessage());
+            }
+        }
+        log.debug("🖼️ 파생 이미지 생성 완료: {} {}", originalKey, variants);
+    }
+
+    /**
+     * 원본을 읽되, 목표 크기의 2배보다 큰 이미지는 서브샘플링해서 디코딩 (제한을 넘으면 null)
+     */
+    private BufferedImage readSubsampled(String originalUrl, int targetSize) throws IOException {
+        try (S3Object object = s3Uploader.download(originalUrl)) {
+            long contentLength = object.getObjectMetadata().getContentLength();
+            if (contentLength > maxSourceBytes) {
+                object.getObjectContent().abort();
+                log.warn("⚠️ 파생 이미지 원본이 너무 큼: {} ({} bytes)", originalUrl, contentLength);
+                return null;
+            }
+
+            try (ImageInputStream input = ImageIO.createImageInputStream(object.getObjectContent())) {
+                Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+                if (!readers.hasNext()) {
+                    log.warn("⚠️ 읽을 수 없는 이미지 형식: {}", originalUrl);
+                    return null;
+                }
+                ImageReader reader = readers.next();
+                try {
+                    reader.setInput(input, true, true);
+                    int width = reader.getWidth(0);
+                    int height = reader.getHeight(0);
+                    if ((long) width * height > maxSourcePixels) {
+                        log.warn("⚠️ 파생 이미지 원본 픽셀 수 초과: {} ({}x{})", originalUrl, width, height);
+                        return null;
+                    }
+
+                    ImageReadParam param = reader.getDefaultReadParam();
+                    int factor = Math.max(1, Math.min(width, height) / (targetSize * 2));
+                    param.setSourceSubsampling(factor, factor, 0, 0);
+                    return reader.read(0, param);
+                } finally {
+                    reader.dispose();
+                }
+            }
+        }
+    }
+
+    /**
+     * 파생 이미지 크기로 변환 (확대는 하지 않고, 투명 영역은 흰색으로 채움)
+     */
+    private BufferedImage resize(BufferedImage source, ImageVariant variant) {
+        int srcX = 0;
+        int srcY = 0;
+        int srcWidth = source.getWidth();
+        int srcHeight = source.getHeight();
+        int targetWidth;
+        int targetHeight;
+
+        if (variant.isSquare()) {
+            int side = Math.min(srcWidth, srcHeight);
+            srcX = (srcWidth - side) / 2;
+            srcY = (srcHeight - side) / 2;
+            srcWidth = side;
+            srcHeight = side;
+            targetWidth = Math.min(variant.getSize(), side);
+            targetHeight = targetWidth;
+        } else {
+            double scale = Math.min(1.0, (double) variant.getSize() / Math.max(srcWidth, srcHeight));
+            targetWidth = Math.max(1, (int) Math.round(srcWidth * scale));
+            targetHeight = Math.max(1, (int) Math.round(srcHeight * scale));
+        }
+
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, targetWidth, targetHeight);
+            graphics.drawImage(source, 0, 0, targetWidth, targetHeight,
+                    srcX, srcY, srcX + srcWidth, srcY + srcHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(buffer)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,64 @@
+package net.scit.backend.common.component;
+
+import java.util.Set;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * 업로드 이미지의 파생 이미지 종류
+ *
+ * 파생 이미지 키는 원본 키에서 결정된다: {원본 키(확장자 제외)}_{suffix}.jpg
+ * 예) workspace-images/uuid.png -> workspace-images/uuid_avatar128.jpg
+ * 파생 이미지는 비동기로 만들어지므로, 아직 없거나 생성에 실패했으면 클라이언트는 원본 URL을 사용한다.
+ */
+public enum ImageVariant {
+
+    AVATAR_64("avatar64", 64, true),    // 멤버 목록, 채팅 발신자 아이콘
+    AVATAR_128("avatar128", 128, true), // 프로필 카드
+    THUMB_320("thumb320", 320, false);  // 채팅 이미지 미리보기
+
+    public static final Set<ImageVariant> AVATARS = Set.of(AVATAR_64, AVATAR_128);
+    public static final Set<ImageVariant> THUMBNAILS = Set.of(THUMB_320);
+
+    private static final Set<String> SOURCE_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif", "bmp");
+
+    private final String suffix;
+    private final int size;
+    private final boolean square; // true: 가운데를 정사각형으로 잘라 size x size, false: 비율 유지하며 size 안에 맞춤
+
+    ImageVariant(String suffix, int size, boolean square) {
+        this.suffix = suffix;
+        this.size = size;
+        this.square = square;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isSquare() {
+        return square;
+    }
+
+    /**
+     * 파생 이미지를 만들 수 있는 파일인지 (확장자 기준)
+     */
+    public static boolean isSupported(String fileNameOrUrl) {
+        if (fileNameOrUrl == null) {
+            return false;
+        }
+        String path = fileNameOrUrl.contains("?") ? fileNameOrUrl.substring(0, fileNameOrUrl.indexOf('?')) : fileNameOrUrl;
+        String extension = StringUtils.getFilenameExtension(path);
+        return extension != null && SOURCE_EXTENSIONS.contains(extension.toLowerCase());
+    }
+
+    /**
+     * 원본 키 또는 URL로부터 파생 이미지 키/URL 계산 (지원하지 않는 파일이면 null)
+     */
+    public String derive(String originalKeyOrUrl) {
+        if (!isSupported(originalKeyOrUrl)) {
+            return null;
+        }
+        return StringUtils.stripFilenameExtension(originalKeyOrUrl) + "_" + suffix + ".jpg";
+    }
+}
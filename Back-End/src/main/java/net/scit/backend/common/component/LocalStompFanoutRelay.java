@@ -0,0 +1,18 @@
+package net.scit.backend.common.component;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+/**
+ * 단일 노드용 릴레이: 로컬 브로커만 사용하므로 다른 노드로 전달하지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "chat.relay.type", havingValue = "local", matchIfMissing = true)
+public class LocalStompFanoutRelay implements StompFanoutRelay {
+
+    @Override
+    public void publish(String messageId, String destination, byte[] payload, MimeType contentType) {
+        // 단일 노드에서는 로컬 브로커 전달로 충분
+    }
+}
@@ -0,0 +1,138 @@
+package net.scit.backend.common.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis pub/sub 기반 STOMP 브로드캐스트 릴레이
+ *
+ * - 로컬 브로커로 나간 메시지를 Redis 채널에 발행하고,
+ *   다른 노드는 이를 받아 자신의 로컬 브로커(SimpleBroker)에 재주입한다.
+ * - 자신이 발행한 메시지와 이미 처리한 메시지 ID는 건너뛴다.
+ *   (메시지 ID는 브로커로 보낸 Spring 메시지의 id 헤더이므로, 같은 메시지가 다시 발행되거나 중복 수신되어도 한 번만 재주입)
+ * - RedisConfig의 연결을 그대로 사용하므로 로컬 Redis 하나로도 동작을 확인할 수 있다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.relay.type", havingValue = "redis")
+public class RedisStompFanoutRelay implements StompFanoutRelay, MessageListener {
+
+    public static final String TOPIC = "stomp:fanout";
+    // 재주입된 메시지임을 표시하는 헤더 (다시 발행하지 않도록)
+    public static final String RELAYED_HEADER = "relayedFrom";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectProvider<SimpMessagingTemplate> messagingTemplateProvider;
+    private final ObjectMapper objectMapper;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 이미 재주입한 메시지 ID (중복 수신 방지)
+    private final Cache<String, Boolean> seenMessageIds = Caffeine.newBuilder()
+            .expireAfterWrite(1, TimeUnit.MINUTES)
+            .maximumSize(100_000)
+            .build();
+
+    public RedisStompFanoutRelay(StringRedisTemplate stringRedisTemplate,
+                                 RedisMessageListenerContainer listenerContainer,
+                                 ObjectProvider<SimpMessagingTemplate> messagingTemplateProvider,
+                                 ObjectMapper objectMapper) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.messagingTemplateProvider = messagingTemplateProvider;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(TOPIC));
+        log.info("✅ STOMP fan-out 릴레이 구독 시작: node={}", nodeId);
+    }
+
+    @Override
+    public void publish(String messageId, String destination, byte[] payload, MimeType contentType) {
+        RelayEnvelope envelope = new RelayEnvelope(
+                messageId != null ? messageId : UUID.randomUUID().toString(),
+                nodeId,
+                destination,
+                contentType != null ? contentType.toString() : null,
+                payload);
+        try {
+            stringRedisTemplate.convertAndSend(TOPIC, objectMapper.writeValueAsString(envelope));
+        } catch (Exception e) {
+            // 릴레이 실패가 로컬 전송까지 막지 않도록 로그만 남김
+            log.error("❌ STOMP fan-out 발행 실패: destination={} - {}", destination, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드에서 발행한 메시지를 로컬 브로커에 재주입
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            RelayEnvelope envelope = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), RelayEnvelope.class);
+
+            if (nodeId.equals(envelope.getOrigin())) {
+                return; // 자신이 발행한 메시지
+            }
+            if (seenMessageIds.asMap().putIfAbsent(envelope.getId(), Boolean.TRUE) != null) {
+                return; // 이미 처리한 메시지
+            }
+
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setDestination(envelope.getDestination());
+            if (envelope.getContentType() != null) {
+                accessor.setContentType(MimeType.valueOf(envelope.getContentType()));
+            }
+            accessor.setHeader(RELAYED_HEADER, envelope.getOrigin());
+            accessor.setLeaveMutable(true);
+
+            messagingTemplateProvider.getObject().send(envelope.getDestination(),
+                    MessageBuilder.createMessage(envelope.getPayload(), accessor.getMessageHeaders()));
+        } catch (Exception e) {
+            log.error("❌ STOMP fan-out 수신 처리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Redis로 주고받는 릴레이 메시지
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RelayEnvelope {
+        private String id;          // 메시지 ID (중복 제거용)
+        private String origin;      // 발행한 노드 ID
+        private String destination; // 브로커 목적지
+        private String contentType;
+        private byte[] payload;     // 직렬화된 메시지 본문 (JSON에서는 base64)
+    }
+}
@@ -0,0 +1,216 @@
+package net.scit.backend.common.component;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.*;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.scit.backend.exception.CustomException;
+import net.scit.backend.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * S3 멀티파트 업로드
+ *
+ * - 스트림을 part-size 단위로 읽어 제한된 스레드 풀에서 병렬로 업로드한다.
+ * - 한 업로드가 동시에 메모리에 들고 있는 파트는 parallelism 개를 넘지 않는다.
+ * - 파트마다 개별로 재시도하고, 최종 실패 시 남은 파트를 취소한 뒤 멀티파트 업로드를 abort 한다.
+ * - 진행률은 파트가 끝날 때마다 ProgressListener로 전달한다.
+ */
+@Slf4j
+@Component
+public class S3MultipartUploader {
+
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024; // S3 최소 파트 크기 (마지막 파트 제외)
+
+    private final AmazonS3 amazonS3;
+    private final String bucket;
+    private final long partSize;
+    private final int parallelism;
+    private final int maxPartAttempts;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer uploadTimer;
+    private final Counter partRetryCounter;
+    private final Counter abortCounter;
+
+    public S3MultipartUploader(AmazonS3 amazonS3,
+                               MeterRegistry meterRegistry,
+                               @Value("${spring.cloud.s3.bucket}") String bucket,
+                               @Value("${spring.cloud.s3.multipart.part-size-bytes:8388608}") long partSize,
+                               @Value("${spring.cloud.s3.multipart.parallelism:4}") int parallelism,
+                               @Value("${spring.cloud.s3.multipart.pool-size:8}") int poolSize,
+                               @Value("${spring.cloud.s3.multipart.max-part-attempts:3}") int maxPartAttempts) {
+        this.amazonS3 = amazonS3;
+        this.bucket = bucket;
+        this.partSize = Math.max(MIN_PART_SIZE, partSize);
+        this.parallelism = Math.max(1, parallelism);
+        this.maxPartAttempts = Math.max(1, maxPartAttempts);
+
+        // 풀이 가득 차면 요청 스레드가 직접 파트를 올려 속도를 맞춤
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(poolSize * 4),
+                r -> {
+                    Thread thread = new Thread(r, "s3-multipart-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+
+        this.uploadTimer = Timer.builder("s3.multipart.upload")
+                .description("S3 멀티파트 업로드 전체 시간")
+                .register(meterRegistry);
+        this.partRetryCounter = Counter.builder("s3.multipart.part.retries")
+                .description("재시도한 파트 업로드 수")
+                .register(meterRegistry);
+        this.abortCounter = Counter.builder("s3.multipart.aborted")
+                .description("실패로 중단된 멀티파트 업로드 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 업로드 진행률 콜백
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onProgress(String key, long uploadedBytes, long totalBytes);
+    }
+
+    /**
+     * 길이를 알고 있는 스트림을 멀티파트로 업로드 (스트림은 호출한 쪽에서 닫는다)
+     *
+     * @param inputStream   업로드할 스트림
+     * @param contentLength 스트림 길이 (byte)
+     * @param key           S3 키
+     * @param metadata      객체 메타데이터 (Content-Type 등)
+     * @param listener      진행률 콜백 (null이면 로그만 남김)
+     * @throws CustomException 업로드 실패 시 (업로드는 abort 됨)
+     */
+    public void upload(InputStream inputStream, long contentLength, String key, ObjectMetadata metadata,
+                       ProgressListener listener) {
+        ProgressListener progress = listener != null ? listener : this::logProgress;
+        long startedAt = System.nanoTime();
+
+        String uploadId = amazonS3.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucket, key, metadata)
+                .withCannedACL(CannedAccessControlList.PublicRead)).getUploadId();
+        int totalParts = (int) ((contentLength + partSize - 1) / partSize);
+        log.info("📤 멀티파트 업로드 시작: key={}, {} bytes, {}개 파트", key, contentLength, totalParts);
+
+        List<Future<PartETag>> futures = new ArrayList<>(totalParts);
+        Semaphore inFlight = new Semaphore(parallelism);
+        AtomicLong uploadedBytes = new AtomicLong();
+        try {
+            for (int partNumber = 1; partNumber <= totalParts; partNumber++) {
+                int size = (int) Math.min(partSize, contentLength - (partNumber - 1) * partSize);
+                inFlight.acquire();
+                byte[] part;
+                try {
+                    part = inputStream.readNBytes(size);
+                } catch (IOException e) {
+                    inFlight.release();
+                    throw e;
+                }
+                if (part.length != size) {
+                    inFlight.release();
+                    throw new IOException("스트림이 Content-Length보다 짧음: part=" + partNumber);
+                }
+                failFast(futures);
+
+                int currentPart = partNumber;
+                futures.add(executor.submit(() -> {
+                    try {
+                        PartETag etag = uploadPart(key, uploadId, currentPart, part);
+                        progress.onProgress(key, uploadedBytes.addAndGet(part.length), contentLength);
+                        return etag;
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+
+            List<PartETag> etags = new ArrayList<>(totalParts);
+            for (Future<PartETag> future : futures) {
+                etags.add(future.get());
+            }
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, etags));
+            uploadTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            log.info("✅ 멀티파트 업로드 완료: key={}", key);
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            futures.forEach(future -> future.cancel(true));
+            abort(key, uploadId);
+            log.error("❌ 멀티파트 업로드 실패: key={} - {}", key, e.getMessage(), e);
+            throw new CustomException(ErrorCode.FAILED_IMAGE_SAVE);
+        }
+    }
+
+    /**
+     * 파트 하나를 업로드하고, 실패하면 이 파트만 재시도
+     */
+    private PartETag uploadPart(String key, String uploadId, int partNumber, byte[] part) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return amazonS3.uploadPart(new UploadPartRequest()
+                        .withBucketName(bucket)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber)
+                        .withPartSize(part.length)
+                        .withInputStream(new ByteArrayInputStream(part))).getPartETag();
+            } catch (RuntimeException e) {
+                if (attempt >= maxPartAttempts || Thread.currentThread().isInterrupted()) {
+                    throw e;
+                }
+                partRetryCounter.increment();
+                log.warn("⚠️ 파트 업로드 재시도 ({}/{}): key={}, part={} - {}", attempt, maxPartAttempts, key, partNumber, e.getMessage());
+                Thread.sleep(500L * attempt);
+            }
+        }
+    }
+
+    /**
+     * 이미 실패한 파트가 있으면 남은 스트림을 더 읽지 않고 중단
+     */
+    private void failFast(List<Future<PartETag>> futures) throws ExecutionException, InterruptedException {
+        for (Future<PartETag> future : futures) {
+            if (future.isDone()) {
+                future.get();
+            }
+        }
+    }
+
+    private void abort(String key, String uploadId) {
+        abortCounter.increment();
+        try {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+        } catch (Exception e) {
+            log.error("❌ 멀티파트 업로드 abort 실패: key={}, uploadId={} - {}", key, uploadId, e.getMessage());
+        }
+    }
+
+    private void logProgress(String key, long uploadedBytes, long totalBytes) {
+        log.debug("📤 멀티파트 업로드 진행: key={}, {}/{} bytes ({}%)", key, uploadedBytes, totalBytes,
+                totalBytes > 0 ? uploadedBytes * 100 / totalBytes : 100);
+    }
+}
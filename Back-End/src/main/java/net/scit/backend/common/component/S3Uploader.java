@@ -1,13 +1,18 @@
 package net.scit.backend.common.component;
 
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.HttpMethod;
 import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.Headers;
 import com.amazonaws.services.s3.model.*;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Date;
 import java.util.UUID;
 import net.scit.backend.exception.CustomException;
 import net.scit.backend.exception.ErrorCode;
@@ -20,11 +25,22 @@ import org.springframework.web.multipart.MultipartFile;
 public class S3Uploader {
 
     private final AmazonS3 amazonS3;
+    private final S3MultipartUploader multipartUploader;
     private final String bucket;
+    private final long multipartThreshold;
+    private final boolean pathStyleAccess;
 
-    public S3Uploader(AmazonS3 amazonS3, @Value("${spring.cloud.s3.bucket}") String bucket) {
+    public S3Uploader(AmazonS3 amazonS3,
+                      S3MultipartUploader multipartUploader,
+                      @Value("${spring.cloud.s3.bucket}") String bucket,
+                      @Value("${spring.cloud.s3.multipart.threshold-bytes:16777216}") long multipartThreshold,
+                      @Value("${spring.cloud.s3.endpoint:}") String endpoint) {
         this.amazonS3 = amazonS3;
+        this.multipartUploader = multipartUploader;
         this.bucket = bucket;
+        this.multipartThreshold = multipartThreshold;
+        // S3Configuration과 같이 endpoint를 지정하면 path-style 주소(endpoint/bucket/key)를 사용
+        this.pathStyleAccess = StringUtils.hasText(endpoint);
     }
 
     /**
@@ -35,12 +51,47 @@ public class S3Uploader {
      * @throws IOException 파일 처리 오류 발생 시
      */
     public String upload(MultipartFile file, String dirName) throws IOException {
-        String fileName = createFileName(dirName, file);
-        ObjectMetadata metadata = createMetadata(file);
+        try (InputStream inputStream = file.getInputStream()) {
+            return upload(inputStream, file.getSize(), dirName, file.getOriginalFilename(), file.getContentType());
+        }
+    }
+
+    /**
+     * 서버에서 생성한 내용(byte 배열)을 로컬 디스크를 거치지 않고 S3에 업로드
+     * @param content 업로드할 내용
+     * @param dirName 업로드할 디렉토리 이름
+     * @param originalFileName 원본 파일 이름 (확장자 추출용)
+     * @param contentType Content-Type
+     * @return 업로드된 파일의 URL
+     */
+    public String upload(byte[] content, String dirName, String originalFileName, String contentType) {
+        return upload(new ByteArrayInputStream(content), content.length, dirName, originalFileName, contentType);
+    }
+
+    /**
+     * 길이를 알고 있는 스트림을 S3에 업로드 (Content-Length를 지정해 SDK가 스트림 전체를 메모리에 버퍼링하지 않도록 함)
+     * threshold-bytes 이상이면 멀티파트로 병렬 업로드한다. 스트림은 호출한 쪽에서 닫는다.
+     * @param inputStream 업로드할 스트림
+     * @param contentLength 스트림 길이 (byte)
+     * @param dirName 업로드할 디렉토리 이름
+     * @param originalFileName 원본 파일 이름 (확장자 추출용)
+     * @param contentType Content-Type
+     * @return 업로드된 파일의 URL
+     */
+    public String upload(InputStream inputStream, long contentLength, String dirName, String originalFileName, String contentType) {
+        String fileName = createFileName(dirName, originalFileName);
+        ObjectMetadata metadata = createMetadata(contentLength, contentType);
+
+        if (contentLength >= multipartThreshold) {
+            ObjectMetadata multipartMetadata = new ObjectMetadata();
+            multipartMetadata.setContentType(contentType); // 파트별 길이는 업로드 시 지정
+            multipartUploader.upload(inputStream, contentLength, fileName, multipartMetadata, null);
+            return amazonS3.getUrl(bucket, fileName).toString();
+        }
 
         try {
             // S3에 파일 업로드
-            amazonS3.putObject(new PutObjectRequest(bucket, fileName, file.getInputStream(), metadata)
+            amazonS3.putObject(new PutObjectRequest(bucket, fileName, inputStream, metadata)
                     .withCannedAcl(CannedAccessControlList.PublicRead));
             // 업로드된 파일의 URL 반환
             return amazonS3.getUrl(bucket, fileName).toString();
@@ -50,6 +101,95 @@ public class S3Uploader {
         }
     }
 
+    /**
+     * 지정한 키로 내용을 업로드 (파생 이미지처럼 키가 원본에서 결정되는 경우)
+     * @param key S3 키
+     * @param content 업로드할 내용
+     * @param contentType Content-Type
+     * @return 업로드된 파일의 URL
+     */
+    public String putObject(String key, byte[] content, String contentType) {
+        try {
+            amazonS3.putObject(new PutObjectRequest(bucket, key, new ByteArrayInputStream(content),
+                    createMetadata(content.length, contentType))
+                    .withCannedAcl(CannedAccessControlList.PublicRead));
+            return amazonS3.getUrl(bucket, key).toString();
+        } catch (Exception e) {
+            throw new CustomException(ErrorCode.FAILED_IMAGE_SAVE);
+        }
+    }
+
+    /**
+     * 파일 URL에서 S3 키 추출
+     * @param fileUrl 파일 URL
+     * @return S3 키
+     */
+    public String getKeyFromUrl(String fileUrl) {
+        return extractS3KeyFromUrl(fileUrl);
+    }
+
+    /**
+     * S3에 해당 키의 객체가 있는지 확인
+     * @param key S3 키
+     * @return 존재 여부
+     */
+    public boolean exists(String key) {
+        return amazonS3.doesObjectExist(bucket, key);
+    }
+
+    /**
+     * 클라이언트가 S3에 직접 올릴 수 있는 pre-signed PUT URL 생성
+     * Content-Type과 x-amz-acl(public-read)이 서명에 포함되므로 업로드 시 같은 헤더를 보내야 한다.
+     * @param key S3 키
+     * @param contentType Content-Type
+     * @param expiration URL 만료 시각
+     * @return pre-signed URL
+     */
+    public URL createPresignedPutUrl(String key, String contentType, Date expiration) {
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key)
+                .withMethod(HttpMethod.PUT)
+                .withExpiration(expiration)
+                .withContentType(contentType);
+        request.putCustomRequestHeader(Headers.S3_CANNED_ACL, CannedAccessControlList.PublicRead.toString());
+        return amazonS3.generatePresignedUrl(request);
+    }
+
+    /**
+     * 업로드된 객체의 메타데이터 조회 (HEAD)
+     * @param key S3 키
+     * @return 메타데이터 (객체가 없으면 null)
+     */
+    public ObjectMetadata getObjectMetadata(String key) {
+        try {
+            return amazonS3.getObjectMetadata(bucket, key);
+        } catch (AmazonServiceException e) {
+            if (e.getStatusCode() == 404) {
+                return null;
+            }
+            handleAmazonServiceException(e);
+            return null;
+        }
+    }
+
+    /**
+     * S3 키로 객체 URL 조회
+     * @param key S3 키
+     * @return 객체 URL
+     */
+    public String getUrl(String key) {
+        return amazonS3.getUrl(bucket, key).toString();
+    }
+
+    /**
+     * 업로드할 객체의 S3 키 생성 (디렉토리 이름 + UUID + 확장자)
+     * @param dirName 디렉토리 이름
+     * @param originalFileName 원본 파일 이름
+     * @return S3 키
+     */
+    public String createObjectKey(String dirName, String originalFileName) {
+        return createFileName(dirName, originalFileName);
+    }
+
     /**
      * 파일 삭제
      * @param fileName 삭제할 파일 이름
@@ -88,23 +228,24 @@ public class S3Uploader {
     /**
      * S3 키 생성 (디렉토리 이름 + UUID + 확장자)
      * @param dirName 디렉토리 이름
-     * @param file 파일 객체
+     * @param originalFileName 원본 파일 이름
      * @return 생성된 파일 이름
      */
-    private String createFileName(String dirName, MultipartFile file) {
-        String fileExtension = StringUtils.getFilenameExtension(file.getOriginalFilename());
+    private String createFileName(String dirName, String originalFileName) {
+        String fileExtension = StringUtils.getFilenameExtension(originalFileName);
         return dirName + "/" + UUID.randomUUID() + "." + fileExtension;
     }
 
     /**
      * ObjectMetadata 생성
-     * @param file 파일 객체
+     * @param contentLength 파일 크기
+     * @param contentType Content-Type
      * @return 생성된 ObjectMetadata
      */
-    private ObjectMetadata createMetadata(MultipartFile file) {
+    private ObjectMetadata createMetadata(long contentLength, String contentType) {
         ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentLength(file.getSize());
-        metadata.setContentType(file.getContentType());
+        metadata.setContentLength(contentLength);
+        metadata.setContentType(contentType);
         return metadata;
     }
 
@@ -116,7 +257,13 @@ public class S3Uploader {
     private String extractS3KeyFromUrl(String fileUrl) {
         try {
             URL url = new URL(fileUrl);
-            return url.getPath().substring(1); // 맨 앞의 '/' 제거
+            String key = url.getPath().substring(1); // 맨 앞의 '/' 제거
+            // path-style 주소는 경로가 버킷 이름으로 시작하므로 제거
+            String bucketPrefix = bucket + "/";
+            if (pathStyleAccess && key.startsWith(bucketPrefix)) {
+                key = key.substring(bucketPrefix.length());
+            }
+            return key;
         } catch (MalformedURLException e) {
             throw new CustomException(ErrorCode.IMAGE_EXCEPTION); // URL 형식 오류
         }
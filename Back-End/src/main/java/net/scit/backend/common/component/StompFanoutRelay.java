@@ -0,0 +1,24 @@
+package net.scit.backend.common.component;
+
+import org.springframework.util.MimeType;
+
+/**
+ * 로컬 브로커로 브로드캐스트된 STOMP 메시지를 다른 서버 노드에 전달하는 릴레이
+ *
+ * - local : 단일 노드 실행용 (아무것도 전달하지 않음)
+ * - redis : Redis pub/sub 으로 다른 노드의 로컬 브로커에 재주입
+ *
+ * chat.relay.type 속성으로 구현체를 선택한다.
+ */
+public interface StompFanoutRelay {
+
+    /**
+     * 로컬에서 브로드캐스트된 메시지를 다른 노드로 전달
+     *
+     * @param messageId   메시지 ID (같은 메시지가 여러 번 발행되어도 다른 노드에서 한 번만 재주입하는 기준)
+     * @param destination 브로커 목적지 (예: /exchange/chat-exchange/msg.1)
+     * @param payload     직렬화된 메시지 본문
+     * @param contentType 본문 content-type (없으면 null)
+     */
+    void publish(String messageId, String destination, byte[] payload, MimeType contentType);
+}
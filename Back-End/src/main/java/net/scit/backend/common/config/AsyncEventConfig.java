@@ -0,0 +1,39 @@
+package net.scit.backend.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 도메인 이벤트(알림) 비동기 처리 설정
+ *
+ * 알림 리스너는 커밋 이후 eventDispatchExecutor에서 실행되어 API 응답 시간에 포함되지 않는다.
+ * 대기열까지 가득 차면 호출한 스레드에서 직접 처리(CallerRuns)해 이벤트를 버리지 않고 발행 속도를 늦춘다.
+ */
+@Configuration
+@EnableAsync
+public class AsyncEventConfig {
+
+    public static final String EVENT_DISPATCH_EXECUTOR = "eventDispatchExecutor";
+
+    @Bean(name = EVENT_DISPATCH_EXECUTOR)
+    public ThreadPoolTaskExecutor eventDispatchExecutor(
+            @Value("${event.dispatch.core-pool-size:4}") int corePoolSize,
+            @Value("${event.dispatch.max-pool-size:8}") int maxPoolSize,
+            @Value("${event.dispatch.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("event-dispatch-");
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(Math.max(corePoolSize, maxPoolSize));
+        executor.setQueueCapacity(queueCapacity);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
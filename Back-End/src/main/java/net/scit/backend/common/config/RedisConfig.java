@@ -6,6 +6,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration // 해당 클래스가 Spring의 설정(Configuration) 클래스임을 나타냄
@@ -46,6 +47,15 @@ public class RedisConfig {
 
         return template;
     }
-}
-
 
+    /**
+     * Redis pub/sub 메시지 수신 컨테이너 (노드 간 브로드캐스트 릴레이 등에서 사용)
+     * @return RedisMessageListenerContainer 객체 반환
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        return container;
+    }
+}
@@ -59,6 +59,7 @@ public class SecurityConfig {
                                 "/workspace/**",
                                 "/ws/**",
                                 "/actuator/**",
+                                "/stub/openai/**", // 로컬 OpenAI stub (local 프로필에서만 등록됨)
                                 "/global/health-check",
                                 "/error",
                                 "/notification/subscribe")
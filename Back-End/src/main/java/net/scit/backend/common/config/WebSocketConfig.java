@@ -1,26 +1,73 @@
 package net.scit.backend.common.config;
 
 import lombok.RequiredArgsConstructor;
+import net.scit.backend.channel.component.StompMetrics;
+import net.scit.backend.channel.handler.CompactPayloadInterceptor;
+import net.scit.backend.channel.handler.CompressionNegotiationDecoratorFactory;
+import net.scit.backend.channel.handler.SlowConsumerEvictionDecoratorFactory;
+import net.scit.backend.channel.handler.StompFanoutInterceptor;
 import net.scit.backend.channel.handler.StompHandler;
+import net.scit.backend.channel.handler.StompMetricsInterceptor;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 @Configuration
 @EnableWebSocketMessageBroker
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompHandler stompHandler; // ✅ STOMP 메시지 인터셉터
+    private final StompFanoutInterceptor stompFanoutInterceptor; // ✅ 다른 노드로 브로드캐스트 릴레이
+    private final StompMetrics stompMetrics; // ✅ STOMP 지표 수집
+    private final SlowConsumerEvictionDecoratorFactory slowConsumerEvictionDecoratorFactory; // ✅ 느린 소비자 종료 집계
+    private final CompactPayloadInterceptor compactPayloadInterceptor; // ✅ 세션별 compact 포맷 변환
+    private final CompressionNegotiationDecoratorFactory compressionNegotiationDecoratorFactory; // ✅ permessage-deflate 협상 집계
+
+    // ✅ 인바운드 채널(클라이언트 -> 서버) 실행기
+    @Value("${chat.websocket.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+    @Value("${chat.websocket.inbound.max-pool-size:16}")
+    private int inboundMaxPoolSize;
+    @Value("${chat.websocket.inbound.queue-capacity:5000}")
+    private int inboundQueueCapacity;
+
+    // ✅ 아웃바운드 채널(서버 -> 클라이언트) 실행기
+    @Value("${chat.websocket.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+    @Value("${chat.websocket.outbound.max-pool-size:32}")
+    private int outboundMaxPoolSize;
+    @Value("${chat.websocket.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
+    @Value("${chat.websocket.keep-alive-seconds:60}")
+    private int keepAliveSeconds;
+
+    // ✅ 세션 전송 제한 (넘기면 느린 소비자로 보고 세션 종료)
+    @Value("${chat.websocket.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+    @Value("${chat.websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+    @Value("${chat.websocket.message-size-limit:65536}")
+    private int messageSizeLimit;
+    @Value("${chat.websocket.time-to-first-message-ms:60000}")
+    private int timeToFirstMessageMs;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         registry.enableSimpleBroker("/exchange/chat-exchange","/exchange/dm-exchange");
         registry.setApplicationDestinationPrefixes("/app");
+        registry.configureBrokerChannel().interceptors(stompFanoutInterceptor); // ✅ 노드 간 fan-out
+        registry.setPreservePublishOrder(true); // ✅ 아웃바운드 스레드가 여러 개여도 세션별 전송 순서 유지
     }
 
     @Override
@@ -28,10 +75,49 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/ws/chat")
                 .setAllowedOriginPatterns("*")
                 .withSockJS(); // ✅ SockJS 설정 (여기서는 addInterceptors 사용 X)
+        // ✅ permessage-deflate는 Tomcat WebSocket 구현이 클라이언트 요청 시 자동으로 협상 (협상 결과는 stomp.sessions.opened 로 집계)
     }
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(stompHandler); // ✅ STOMP 메시지 인증을 위한 인터셉터 추가
+        registration.interceptors(stompHandler, // ✅ STOMP 메시지 인증을 위한 인터셉터 추가
+                new StompMetricsInterceptor(stompMetrics, StompMetricsInterceptor.INBOUND)); // ✅ 본문 크기, 핸들러 처리 시간
+        registration.taskExecutor(createChannelExecutor("ws-inbound-",
+                inboundCorePoolSize, inboundMaxPoolSize, inboundQueueCapacity));
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(compactPayloadInterceptor, // ✅ compact 세션 본문 변환 (크기 지표는 변환 후 기준)
+                new StompMetricsInterceptor(stompMetrics, StompMetricsInterceptor.OUTBOUND)); // ✅ 전송 본문 크기
+        registration.taskExecutor(createChannelExecutor("ws-outbound-",
+                outboundCorePoolSize, outboundMaxPoolSize, outboundQueueCapacity));
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registry) {
+        registry.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit)
+                .setTimeToFirstMessage(timeToFirstMessageMs)
+                .addDecoratorFactory(slowConsumerEvictionDecoratorFactory)
+                .addDecoratorFactory(compressionNegotiationDecoratorFactory);
+    }
+
+    /**
+     * 크기가 제한된 채널 실행기 생성
+     * 대기열까지 가득 차면 호출한 스레드에서 직접 처리(CallerRuns)해 메시지를 버리지 않고 생산 속도를 늦춘다.
+     * 아웃바운드는 세션별 전송 시간/버퍼 제한이 있으므로 호출 스레드가 무한정 묶이지 않는다.
+     */
+    private ThreadPoolTaskExecutor createChannelExecutor(String threadNamePrefix, int corePoolSize, int maxPoolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(Math.max(corePoolSize, maxPoolSize));
+        executor.setQueueCapacity(queueCapacity);
+        executor.setKeepAliveSeconds(keepAliveSeconds);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
     }
 }
@@ -0,0 +1,29 @@
+package net.scit.backend.dm.DTO;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DM 대화 목록 항목 (방마다 하나)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DmInboxDTO
+{
+    private String roomId;
+    private Long wsId;
+    private String peer;             // 상대방 이메일
+    private String peerNickname;     // 상대방 워크스페이스 닉네임
+    private String peerProfileImage; // 상대방 워크스페이스 프로필 이미지
+    private Long lastDmNumber;
+    private String lastMessage;      // 마지막 메시지 미리보기 (파일이면 파일명)
+    private boolean lastIsFile;
+    private LocalDateTime lastSendTime;
+    private int unreadCount;
+}
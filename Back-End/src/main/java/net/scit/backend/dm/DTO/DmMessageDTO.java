@@ -23,4 +23,6 @@ public class DmMessageDTO
     private boolean isRead;
     private LocalDateTime sendTime;
     private String roomId;
+    private String nickname;     // 발신자의 워크스페이스 닉네임
+    private String profileImage; // 발신자의 워크스페이스 프로필 이미지
 }
@@ -0,0 +1,22 @@
+package net.scit.backend.dm.DTO;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DM 메시지 커서 조회 결과
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DmMessagePageDTO
+{
+    private List<DmMessageDTO> messages; // 최신순 메시지
+    private String nextCursor;           // 다음(더 오래된) 페이지 조회용 커서 (없으면 null)
+    private boolean hasMore;             // 더 오래된 메시지가 남아 있으면 true
+}
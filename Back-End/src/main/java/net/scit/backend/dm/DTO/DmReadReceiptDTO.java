@@ -0,0 +1,25 @@
+package net.scit.backend.dm.DTO;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DM 읽음 알림 (/exchange/dm-exchange/read.{roomId} 로 전송)
+ * 상대방은 lastReadDmNumber 이하의 자기 메시지를 읽음으로 표시하면 된다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DmReadReceiptDTO
+{
+    private String roomId;
+    private String reader;           // 읽은 사람 이메일
+    private Long lastReadDmNumber;   // 읽은 사람이 마지막으로 읽은 dmNumber
+    private int updatedCount;        // 이번 요청으로 읽음 처리된 메시지 수
+    private LocalDateTime readTime;
+}
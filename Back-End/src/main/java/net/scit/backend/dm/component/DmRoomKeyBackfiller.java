@@ -0,0 +1,87 @@
+package net.scit.backend.dm.component;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+import net.scit.backend.dm.entity.DmMessageEntity;
+import net.scit.backend.dm.repository.DmRepository;
+
+/**
+ * room_key 컬럼 추가 전에 저장된 DM에 room_key를 채운다.
+ * 새 메시지는 저장 시(@PrePersist) 채워지므로, 기존 데이터를 다 채운 뒤에는 빈 조회만 한 번씩 실행된다.
+ *
+ * - 한 번 실행될 때 남은 방이 없어지거나 max-run-ms가 지날 때까지 rooms-per-run개씩 반복해서 채운다.
+ * - 다 채우기 전까지 isComplete()가 false이며, 그동안 방 조회는 room_key가 NULL인 메시지도 함께 읽는다.
+ */
+@Slf4j
+@Component
+public class DmRoomKeyBackfiller {
+
+    private final DmRepository dmRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int roomsPerRun;
+    private final long maxRunMs;
+
+    // room_key가 없는 메시지가 더 이상 없으면 true (새 메시지는 항상 room_key가 채워져 저장됨)
+    private volatile boolean complete;
+
+    public DmRoomKeyBackfiller(DmRepository dmRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${chat.dm.room-key.backfill-rooms-per-run:500}") int roomsPerRun,
+                               @Value("${chat.dm.room-key.backfill-max-run-ms:60000}") long maxRunMs) {
+        this.dmRepository = dmRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.roomsPerRun = roomsPerRun;
+        this.maxRunMs = maxRunMs;
+    }
+
+    /**
+     * 기존 메시지의 room_key를 모두 채웠는지 여부
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    @Scheduled(initialDelayString = "${chat.dm.room-key.backfill-initial-delay-ms:5000}",
+            fixedDelayString = "${chat.dm.room-key.backfill-interval-ms:600000}")
+    public void backfill() {
+        if (complete) {
+            return;
+        }
+        long deadline = System.currentTimeMillis() + maxRunMs;
+        int rooms = 0;
+        int total = 0;
+        while (System.currentTimeMillis() < deadline) {
+            List<String> roomIds = dmRepository.findRoomIdsWithoutRoomKey(PageRequest.of(0, roomsPerRun));
+            if (roomIds.isEmpty()) {
+                complete = true;
+                break;
+            }
+            int failed = 0;
+            for (String roomId : roomIds) {
+                try {
+                    Integer updated = transactionTemplate.execute(status ->
+                            dmRepository.assignRoomKey(roomId, DmMessageEntity.roomKeyOf(roomId)));
+                    total += updated != null ? updated : 0;
+                } catch (Exception e) {
+                    failed++;
+                    log.error("❌ DM room_key 채우기 실패: roomId={} - {}", roomId, e.getMessage(), e);
+                }
+            }
+            rooms += roomIds.size();
+            if (failed == roomIds.size()) {
+                break; // 같은 방을 계속 다시 읽지 않도록 다음 주기에 재시도
+            }
+        }
+        if (rooms > 0) {
+            log.info("✅ DM room_key 채우기: {}개 방, {}건{}", rooms, total, complete ? " (완료)" : "");
+        }
+    }
+}
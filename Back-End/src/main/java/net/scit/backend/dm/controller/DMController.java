@@ -11,7 +11,9 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import net.scit.backend.dm.DTO.DmInboxDTO;
 import net.scit.backend.dm.DTO.DmMessageDTO;
+import net.scit.backend.dm.DTO.DmMessagePageDTO;
 import net.scit.backend.dm.service.DmService;
 
 import org.springframework.messaging.handler.annotation.MessageMapping;
@@ -79,7 +81,8 @@ public class DMController {
     @GetMapping("/messages")
     @Operation(
             summary = "DM 메시지 조회",
-            description = "워크스페이스와 DM 방 ID를 기준으로 기존 DM 메시지를 조회합니다.",
+            description = "워크스페이스와 DM 방 ID를 기준으로 최근 DM 메시지 50개를 오래된 순으로 조회합니다. "
+                    + "그 이전 메시지는 /messages/history로 조회합니다.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(array = @ArraySchema(schema = @Schema(implementation = DmMessageDTO.class))))
             }
@@ -92,17 +95,53 @@ public class DMController {
         return dmService.getMessages(wsId, roomId);
     }
 
+    @GetMapping("/messages/history")
+    @Operation(
+            summary = "DM 메시지 커서 조회",
+            description = "DM 방 메시지를 최신순으로 한 페이지씩 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달해 조회합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = DmMessagePageDTO.class)))
+            }
+    )
+    public DmMessagePageDTO getMessagesPage(
+            @Parameter(description = "워크스페이스 ID") @RequestParam("wsId") Long wsId,
+            @Parameter(description = "DM 방 ID") @RequestParam("roomId") String roomId,
+            @Parameter(description = "이전 응답의 nextCursor (없으면 최신 메시지부터)") @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 200)") @RequestParam(value = "size", required = false) Integer size
+    ) {
+        return dmService.getMessagesPage(wsId, roomId, cursor, size);
+    }
+
+    @GetMapping("/inbox")
+    @Operation(
+            summary = "DM 대화 목록 조회",
+            description = "로그인 사용자의 워크스페이스 DM 대화 목록을 최근 메시지 순으로 조회합니다. 방마다 상대방, 마지막 메시지, 안 읽은 수를 포함합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(array = @ArraySchema(schema = @Schema(implementation = DmInboxDTO.class))))
+            }
+    )
+    public List<DmInboxDTO> getInbox(
+            @Parameter(description = "워크스페이스 ID") @RequestParam("wsId") Long wsId,
+            @Parameter(description = "페이지 번호 (0부터)") @RequestParam(value = "page", defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        return dmService.getInbox(wsId, page, size);
+    }
+
     @PostMapping("/read")
     @Operation(
             summary = "DM 메시지 읽음 처리",
-            description = "워크스페이스 ID, 발신자, 수신자를 기준으로 메시지를 읽음 처리합니다."
+            description = "워크스페이스 ID, 발신자, 수신자를 기준으로 로그인 사용자가 받은 메시지를 읽음 처리합니다. "
+                    + "로그인 사용자가 발신자나 수신자가 아니면 403을 반환하고, "
+                    + "읽음 위치가 바뀌면 커밋 이후 /exchange/dm-exchange/read.{roomId} 로 읽음 알림이 전송됩니다."
     )
     public void markMessagesAsRead(
             @Parameter(description = "워크스페이스 ID") @RequestParam("wsId") Long wsId,
             @Parameter(description = "보낸 사람 이메일") @RequestParam("sender") String sender,
-            @Parameter(description = "받는 사람 이메일") @RequestParam("receiver") String receiver
+            @Parameter(description = "받는 사람 이메일") @RequestParam("receiver") String receiver,
+            @Parameter(description = "마지막으로 읽은 dmNumber (없으면 최신 메시지까지)") @RequestParam(value = "upTo", required = false) Long upTo
     ) {
-        log.info("📖 메시지 읽음 처리 요청: wsId={}, sender={}, receiver={}", wsId, sender, receiver);
-        dmService.markMessagesAsRead(wsId, sender, receiver);
+        log.info("📖 메시지 읽음 처리 요청: wsId={}, sender={}, receiver={}, upTo={}", wsId, sender, receiver, upTo);
+        dmService.markMessagesAsRead(wsId, sender, receiver, upTo);
     }
 }
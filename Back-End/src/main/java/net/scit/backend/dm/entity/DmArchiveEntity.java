@@ -0,0 +1,48 @@
+package net.scit.backend.dm.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 오래된 DM 보관 블록
+ * 한 방(roomId)의 같은 달 메시지를 dmNumber 순으로 묶어 gzip JSON으로 저장한다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "dm_archive",
+        indexes = @Index(name = "idx_dm_archive_room_range", columnList = "room_id, last_dm_number"))
+public class DmArchiveEntity
+{
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long archiveNumber;
+
+    @Column(nullable = false)
+    private String roomId; // ✅ 방 아이디
+
+    private Long wsId; // ✅ 워크스페이스 ID
+
+    @Column(length = 7, nullable = false)
+    private String archiveMonth; // ✅ yyyy-MM
+
+    private Long firstDmNumber;
+
+    private Long lastDmNumber;
+
+    private Integer messageCount;
+
+    @Lob
+    @Column(columnDefinition = "LONGBLOB", nullable = false)
+    private byte[] payload; // ✅ gzip으로 압축한 DmMessageDTO JSON 배열
+
+    private LocalDateTime archivedAt;
+}
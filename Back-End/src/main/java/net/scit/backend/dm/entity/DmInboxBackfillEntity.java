@@ -0,0 +1,36 @@
+package net.scit.backend.dm.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 DM 대화 목록을 기존 메시지에서 한 번 집계했는지 기록 (워크스페이스마다 한 행)
+ * 대화 목록 행이 있어도(도입 후 새 메시지로 생긴 행) 집계 전이면 예전 대화가 빠져 있으므로 따로 표시한다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "dm_inbox_backfill",
+        uniqueConstraints = @UniqueConstraint(name = "uk_dm_inbox_backfill_owner_ws", columnNames = {"owner", "ws_id"}))
+public class DmInboxBackfillEntity
+{
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long backfillNumber;
+
+    @Column(length = 100, nullable = false)
+    private String owner; // ✅ 목록 주인 이메일
+
+    @Column(nullable = false)
+    private Long wsId; // ✅ 워크스페이스 ID
+
+    private LocalDateTime backfilledAt;
+}
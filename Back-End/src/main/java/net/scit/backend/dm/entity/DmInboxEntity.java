@@ -0,0 +1,51 @@
+package net.scit.backend.dm.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 DM 대화 목록 (방마다 한 행)
+ * 메시지 저장 시 보낸 사람, 받은 사람의 행을 함께 갱신하고, 읽음 처리 시 안 읽은 수를 줄인다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "dm_inbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_dm_inbox_owner_room", columnNames = {"owner", "room_id"}),
+        indexes = @Index(name = "idx_dm_inbox_owner_ws_time", columnList = "owner, ws_id, last_send_time"))
+public class DmInboxEntity
+{
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long inboxNumber;
+
+    @Column(length = 100, nullable = false)
+    private String owner; // ✅ 목록 주인 이메일
+
+    @Column(nullable = false)
+    private String roomId; // ✅ 방 아이디
+
+    private Long wsId; // ✅ 워크스페이스 ID
+
+    @Column(length = 100, nullable = false)
+    private String peer; // ✅ 상대방 이메일
+
+    private Long lastDmNumber;
+
+    @Column(length = 200)
+    private String lastPreview; // ✅ 마지막 메시지 미리보기 (파일이면 파일명)
+
+    private boolean lastIsFile;
+
+    private LocalDateTime lastSendTime;
+
+    private int unreadCount; // ✅ 주인이 받은 안 읽은 메시지 수
+}
@@ -1,5 +1,9 @@
 package net.scit.backend.dm.entity;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 
 import jakarta.persistence.*;
@@ -15,7 +19,11 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "dm")
+@Table(name = "dm",
+        indexes = {
+                @Index(name = "idx_dm_room_receiver_read", columnList = "room_id, receiver, is_read"),
+                @Index(name = "idx_dm_room_key_time", columnList = "room_key, send_time, dm_number")
+        })
 public class DmMessageEntity 
 {
     @Id
@@ -31,7 +39,28 @@ public class DmMessageEntity
     private boolean isFile; // ✅ 파일 여부
     private boolean isRead; // ✅ 읽음 여부
     private String roomId; // ✅ 방 아이디
+    private Long roomKey; // ✅ 방 아이디 해시 (인덱스 조회용, roomId로 결정됨)
 
     @CurrentTimestamp
     private LocalDateTime sendTime; // ✅ 메시지 전송 시간
+
+    @PrePersist
+    private void assignRoomKey() {
+        if (roomKey == null && roomId != null) {
+            roomKey = roomKeyOf(roomId);
+        }
+    }
+
+    /**
+     * 방 아이디(dm-{wsId}-{email}-{email})를 64비트 숫자 키로 변환 (SHA-256 앞 8바이트)
+     * 긴 문자열 대신 숫자 인덱스로 방을 찾고, 해시 충돌은 조회 시 roomId 비교로 걸러낸다.
+     */
+    public static long roomKeyOf(String roomId) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(roomId.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest, 0, Long.BYTES).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없음", e);
+        }
+    }
 }
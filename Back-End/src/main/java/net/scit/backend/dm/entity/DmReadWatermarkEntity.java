@@ -0,0 +1,43 @@
+package net.scit.backend.dm.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DM 방별 읽음 위치 (읽은 사람이 마지막으로 읽은 dmNumber)
+ */
+@Entity
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "dm_read_watermark",
+        uniqueConstraints = @UniqueConstraint(name = "uk_dm_watermark_room_reader", columnNames = {"room_id", "reader"}))
+public class DmReadWatermarkEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long watermarkNumber;
+
+    @Column(nullable = false)
+    private String roomId;
+
+    @Column(length = 100, nullable = false)
+    private String reader;
+
+    @Column(nullable = false)
+    private Long lastReadDmNumber;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,14 @@
+package net.scit.backend.dm.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.scit.backend.dm.DTO.DmReadReceiptDTO;
+
+/**
+ * DM 읽음 처리 이벤트 (커밋 이후 상대방에게 읽음 알림 전송)
+ */
+@Getter
+@RequiredArgsConstructor
+public class DmReadEvent {
+    private final DmReadReceiptDTO receipt;
+}
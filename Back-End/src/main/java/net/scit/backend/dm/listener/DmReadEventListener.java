@@ -0,0 +1,32 @@
+package net.scit.backend.dm.listener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.scit.backend.dm.DTO.DmReadReceiptDTO;
+import net.scit.backend.dm.event.DmReadEvent;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * DM 읽음 알림 전송
+ * (커밋 이후에 보내야 상대방이 알림을 받고 다시 조회했을 때 읽음 상태가 반영되어 있음, 롤백되면 보내지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DmReadEventListener {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleDmReadEvent(DmReadEvent event) {
+        DmReadReceiptDTO receipt = event.getReceipt();
+        try {
+            messagingTemplate.convertAndSend("/exchange/dm-exchange/read." + receipt.getRoomId(), receipt);
+        } catch (Exception e) {
+            log.warn("⚠️ DM 읽음 알림 전송 실패: roomId={}, reader={} - {}", receipt.getRoomId(), receipt.getReader(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package net.scit.backend.dm.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import net.scit.backend.dm.entity.DmArchiveEntity;
+
+public interface DmArchiveRepository extends JpaRepository<DmArchiveEntity, Long>
+{
+    // before보다 이전 메시지를 포함한 블록을 최신 순으로 조회
+    List<DmArchiveEntity> findByRoomIdAndFirstDmNumberLessThanOrderByLastDmNumberDesc(String roomId, Long before, Pageable pageable);
+
+    // 방의 가장 최근 보관 블록
+    Optional<DmArchiveEntity> findFirstByRoomIdOrderByLastDmNumberDesc(String roomId);
+
+    // 워크스페이스의 보관된 방 중 방 아이디가 pattern과 일치하는 방 (대화 목록 집계용)
+    @Query("SELECT DISTINCT a.roomId FROM DmArchiveEntity a WHERE a.wsId = :wsId AND a.roomId LIKE :pattern")
+    List<String> findRoomIdsByWsIdAndRoomIdLike(@Param("wsId") Long wsId, @Param("pattern") String pattern);
+}
@@ -0,0 +1,22 @@
+package net.scit.backend.dm.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import net.scit.backend.dm.entity.DmInboxBackfillEntity;
+
+public interface DmInboxBackfillRepository extends JpaRepository<DmInboxBackfillEntity, Long>
+{
+    boolean existsByOwnerAndWsId(String owner, Long wsId);
+
+    // 집계 완료 표시 (동시에 두 번 집계되어도 한 행만 남음)
+    @Modifying
+    @Query(value = "INSERT INTO dm_inbox_backfill (owner, ws_id, backfilled_at) VALUES (:owner, :wsId, :backfilledAt) "
+            + "ON DUPLICATE KEY UPDATE backfilled_at = VALUES(backfilled_at)", nativeQuery = true)
+    int markBackfilled(@Param("owner") String owner, @Param("wsId") Long wsId,
+                       @Param("backfilledAt") LocalDateTime backfilledAt);
+}
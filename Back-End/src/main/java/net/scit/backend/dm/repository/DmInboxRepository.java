@@ -0,0 +1,62 @@
+package net.scit.backend.dm.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import net.scit.backend.dm.entity.DmInboxEntity;
+
+public interface DmInboxRepository extends JpaRepository<DmInboxEntity, Long>
+{
+    // 들어온 메시지가 더 최신일 때만 미리보기 교체 (last_dm_number 갱신 전에 비교해야 함)
+    String LATEST_PREVIEW_UPDATE =
+            "last_preview = CASE WHEN VALUES(last_dm_number) > last_dm_number THEN VALUES(last_preview) ELSE last_preview END, "
+            + "last_is_file = CASE WHEN VALUES(last_dm_number) > last_dm_number THEN VALUES(last_is_file) ELSE last_is_file END, "
+            + "last_send_time = CASE WHEN VALUES(last_dm_number) > last_dm_number THEN VALUES(last_send_time) ELSE last_send_time END, ";
+
+    List<DmInboxEntity> findByOwnerAndWsIdOrderByLastSendTimeDescInboxNumberDesc(String owner, Long wsId, Pageable pageable);
+
+    /**
+     * 새 메시지 반영 (행이 없으면 생성)
+     * 늦게 도착한 이전 메시지가 최신 미리보기를 덮어쓰지 않도록 dmNumber가 더 클 때만 미리보기를 바꾼다.
+     * (MySQL은 SET 절을 왼쪽부터 적용하므로 last_dm_number는 마지막에 갱신)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO dm_inbox (owner, room_id, ws_id, peer, last_dm_number, last_preview, last_is_file, last_send_time, unread_count) "
+            + "VALUES (:owner, :roomId, :wsId, :peer, :dmNumber, :preview, :isFile, :sendTime, :unreadIncrement) "
+            + "ON DUPLICATE KEY UPDATE "
+            + LATEST_PREVIEW_UPDATE
+            + "unread_count = unread_count + VALUES(unread_count), "
+            + "last_dm_number = GREATEST(last_dm_number, VALUES(last_dm_number))", nativeQuery = true)
+    int upsertMessage(@Param("owner") String owner, @Param("roomId") String roomId, @Param("wsId") Long wsId,
+                      @Param("peer") String peer, @Param("dmNumber") Long dmNumber, @Param("preview") String preview,
+                      @Param("isFile") boolean isFile, @Param("sendTime") LocalDateTime sendTime,
+                      @Param("unreadIncrement") int unreadIncrement);
+
+    /**
+     * 기존 메시지 집계 결과 반영 (행이 없으면 생성)
+     * 도입 후 새 메시지로 이미 생긴 행은 더 최신 미리보기를 유지하고, 안 읽은 수는 dm 테이블에서 센 값과 비교해 큰 쪽을 쓴다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO dm_inbox (owner, room_id, ws_id, peer, last_dm_number, last_preview, last_is_file, last_send_time, unread_count) "
+            + "VALUES (:owner, :roomId, :wsId, :peer, :dmNumber, :preview, :isFile, :sendTime, :unreadCount) "
+            + "ON DUPLICATE KEY UPDATE "
+            + LATEST_PREVIEW_UPDATE
+            + "unread_count = GREATEST(unread_count, VALUES(unread_count)), "
+            + "last_dm_number = GREATEST(last_dm_number, VALUES(last_dm_number))", nativeQuery = true)
+    int upsertBackfill(@Param("owner") String owner, @Param("roomId") String roomId, @Param("wsId") Long wsId,
+                       @Param("peer") String peer, @Param("dmNumber") Long dmNumber, @Param("preview") String preview,
+                       @Param("isFile") boolean isFile, @Param("sendTime") LocalDateTime sendTime,
+                       @Param("unreadCount") int unreadCount);
+
+    // 읽음 처리된 수만큼 안 읽은 수 감소
+    @Modifying
+    @Query("UPDATE DmInboxEntity i SET i.unreadCount = CASE WHEN i.unreadCount > :count THEN i.unreadCount - :count ELSE 0 END "
+            + "WHERE i.owner = :owner AND i.roomId = :roomId")
+    int decreaseUnread(@Param("owner") String owner, @Param("roomId") String roomId, @Param("count") int count);
+}
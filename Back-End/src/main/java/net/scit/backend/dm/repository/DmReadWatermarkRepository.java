@@ -0,0 +1,26 @@
+package net.scit.backend.dm.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import net.scit.backend.dm.entity.DmReadWatermarkEntity;
+
+public interface DmReadWatermarkRepository extends JpaRepository<DmReadWatermarkEntity, Long> {
+
+    Optional<DmReadWatermarkEntity> findByRoomIdAndReader(String roomId, String reader);
+
+    List<DmReadWatermarkEntity> findByRoomId(String roomId);
+
+    // 읽음 위치 저장 (더 작은 번호로는 되돌아가지 않음)
+    @Modifying
+    @Query(value = "INSERT INTO dm_read_watermark (room_id, reader, last_read_dm_number, updated_at) "
+            + "VALUES (:roomId, :reader, :dmNumber, NOW()) "
+            + "ON DUPLICATE KEY UPDATE last_read_dm_number = GREATEST(last_read_dm_number, VALUES(last_read_dm_number)), "
+            + "updated_at = VALUES(updated_at)", nativeQuery = true)
+    int upsert(@Param("roomId") String roomId, @Param("reader") String reader, @Param("dmNumber") Long dmNumber);
+}
@@ -1,8 +1,13 @@
 package net.scit.backend.dm.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import net.scit.backend.dm.entity.DmMessageEntity;
 
@@ -11,4 +16,56 @@ public interface DmRepository extends JpaRepository<DmMessageEntity, Long>
     List<DmMessageEntity> findByWsIdAndSenderAndReceiver(Long wsId, String sender, String receiver);
     List<DmMessageEntity> findByWsIdAndRoomIdOrderBySendTimeAsc(Long wsId, String roomId);
 	List<DmMessageEntity> findByRoomIdOrderBySendTimeAsc(String roomId);
+
+    // 방 조회 조건: room_key 인덱스 사용, 해시 충돌은 roomId로 제외
+    // includeLegacy = true 이면 room_key를 아직 채우지 못한 기존 메시지(NULL)도 포함 (DmRoomKeyBackfiller 완료 전)
+    String ROOM_CONDITION = "(d.roomKey = :roomKey OR (:includeLegacy = true AND d.roomKey IS NULL)) AND d.roomId = :roomId";
+
+    // 방의 최신 메시지부터 조회
+    @Query("SELECT d FROM DmMessageEntity d WHERE " + ROOM_CONDITION + " ORDER BY d.sendTime DESC, d.Id DESC")
+    List<DmMessageEntity> findRoomLatest(@Param("roomKey") Long roomKey, @Param("roomId") String roomId,
+                                         @Param("includeLegacy") boolean includeLegacy, Pageable pageable);
+
+    // 커서 (sendTime, dmNumber) 이전의 메시지를 최신순으로 조회
+    @Query("SELECT d FROM DmMessageEntity d WHERE " + ROOM_CONDITION + " "
+            + "AND (d.sendTime < :sendTime OR (d.sendTime = :sendTime AND d.Id < :dmNumber)) "
+            + "ORDER BY d.sendTime DESC, d.Id DESC")
+    List<DmMessageEntity> findRoomBefore(@Param("roomKey") Long roomKey, @Param("roomId") String roomId,
+                                         @Param("includeLegacy") boolean includeLegacy,
+                                         @Param("sendTime") LocalDateTime sendTime, @Param("dmNumber") Long dmNumber,
+                                         Pageable pageable);
+
+    // room_key가 아직 없는 방 (기존 데이터 채우기용)
+    @Query("SELECT DISTINCT d.roomId FROM DmMessageEntity d WHERE d.roomKey IS NULL")
+    List<String> findRoomIdsWithoutRoomKey(Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE DmMessageEntity d SET d.roomKey = :roomKey WHERE d.roomId = :roomId AND d.roomKey IS NULL")
+    int assignRoomKey(@Param("roomId") String roomId, @Param("roomKey") Long roomKey);
+
+    // 보관 대상(cutoff 이전) 메시지가 있는 방 목록
+    @Query("SELECT DISTINCT d.roomId FROM DmMessageEntity d WHERE d.sendTime < :cutoff")
+    List<String> findRoomIdsWithMessagesBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    // 방의 보관 대상 메시지를 오래된 순으로 조회
+    @Query("SELECT d FROM DmMessageEntity d WHERE d.roomId = :roomId AND d.sendTime < :cutoff ORDER BY d.Id ASC")
+    List<DmMessageEntity> findArchivableByRoomId(@Param("roomId") String roomId, @Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // 방의 가장 최근 메시지 번호
+    @Query("SELECT MAX(d.Id) FROM DmMessageEntity d WHERE d.roomId = :roomId")
+    Long findMaxIdByRoomId(@Param("roomId") String roomId);
+
+    // 사용자가 참여한 방별 마지막 메시지 번호 (대화 목록 초기 생성용)
+    @Query("SELECT MAX(d.Id) FROM DmMessageEntity d WHERE d.wsId = :wsId AND (d.sender = :email OR d.receiver = :email) GROUP BY d.roomId")
+    List<Long> findLastIdPerRoomByMember(@Param("wsId") Long wsId, @Param("email") String email);
+
+    // 사용자가 받은 방별 안 읽은 메시지 수 (대화 목록 초기 생성용) - [roomId, count]
+    @Query("SELECT d.roomId, COUNT(d) FROM DmMessageEntity d WHERE d.wsId = :wsId AND d.receiver = :email AND d.isRead = false GROUP BY d.roomId")
+    List<Object[]> countUnreadPerRoomByReceiver(@Param("wsId") Long wsId, @Param("email") String email);
+
+    // 받은 사람 기준으로 upTo 이하의 안 읽은 메시지를 한 번에 읽음 처리
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE DmMessageEntity d SET d.isRead = true "
+            + "WHERE d.roomId = :roomId AND d.receiver = :reader AND d.isRead = false AND d.Id <= :upTo")
+    int markReadUpTo(@Param("roomId") String roomId, @Param("reader") String reader, @Param("upTo") Long upTo);
 }
@@ -0,0 +1,180 @@
+package net.scit.backend.dm.service;
+
+import lombok.extern.slf4j.Slf4j;
+import net.scit.backend.common.component.ArchiveCodec;
+import net.scit.backend.dm.DTO.DmMessageDTO;
+import net.scit.backend.dm.entity.DmArchiveEntity;
+import net.scit.backend.dm.entity.DmMessageEntity;
+import net.scit.backend.dm.repository.DmArchiveRepository;
+import net.scit.backend.dm.repository.DmRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * DM 보관(archive) 서비스
+ *
+ * - 일정 기간(chat.archive.max-age-days)이 지난 DM을 방/월 단위 gzip 블록으로 옮기고 원본 행을 삭제한다.
+ * - 방 메시지 조회 시 보관 블록의 메시지를 앞에 이어 붙인다.
+ */
+@Slf4j
+@Service
+public class DmArchiveService {
+
+    private static final int BLOCK_FETCH_SIZE = 4; // 조회 시 한 번에 읽을 보관 블록 수
+
+    private final DmRepository dmRepository;
+    private final DmArchiveRepository dmArchiveRepository;
+    private final ArchiveCodec archiveCodec;
+    private final TransactionTemplate transactionTemplate;
+    private final long maxAgeDays;
+    private final int blockSize;
+
+    public DmArchiveService(DmRepository dmRepository,
+                            DmArchiveRepository dmArchiveRepository,
+                            ArchiveCodec archiveCodec,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${chat.archive.max-age-days:180}") long maxAgeDays,
+                            @Value("${chat.archive.block-size:1000}") int blockSize) {
+        this.dmRepository = dmRepository;
+        this.dmArchiveRepository = dmArchiveRepository;
+        this.archiveCodec = archiveCodec;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAgeDays = maxAgeDays;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * 매일 새벽 오래된 DM을 보관 블록으로 이동 (max-age-days가 0 이하이면 비활성화)
+     */
+    @Scheduled(cron = "${chat.archive.dm-cron:0 45 3 * * *}")
+    public void archiveOldMessages() {
+        if (maxAgeDays <= 0) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(maxAgeDays);
+
+        int total = 0;
+        for (String roomId : dmRepository.findRoomIdsWithMessagesBefore(cutoff)) {
+            try {
+                total += archiveRoom(roomId, cutoff);
+            } catch (Exception e) {
+                log.error("❌ DM 보관 실패: roomId={} - {}", roomId, e.getMessage(), e);
+            }
+        }
+        log.info("✅ DM 보관 완료: {}건 (기준 {})", total, cutoff);
+    }
+
+    private int archiveRoom(String roomId, LocalDateTime cutoff) {
+        int total = 0;
+        while (true) {
+            Integer archived = transactionTemplate.execute(status -> archiveBlock(roomId, cutoff));
+            if (archived == null || archived == 0) {
+                return total;
+            }
+            total += archived;
+        }
+    }
+
+    /**
+     * 가장 오래된 메시지부터 같은 달에 속한 메시지를 최대 blockSize개 묶어 보관하고 원본 삭제
+     */
+    private int archiveBlock(String roomId, LocalDateTime cutoff) {
+        List<DmMessageEntity> page = dmRepository.findArchivableByRoomId(roomId, cutoff, PageRequest.of(0, blockSize));
+        if (page.isEmpty()) {
+            return 0;
+        }
+
+        YearMonth month = YearMonth.from(page.get(0).getSendTime());
+        List<DmMessageEntity> block = page.stream()
+                .takeWhile(message -> YearMonth.from(message.getSendTime()).equals(month))
+                .toList();
+
+        List<DmMessageDTO> payload = block.stream()
+                .map(message -> DmMessageDTO.builder()
+                        .dmNumber(message.getId())
+                        .wsId(message.getWsId())
+                        .roomId(message.getRoomId())
+                        .sender(message.getSender())
+                        .receiver(message.getReceiver())
+                        .dmContent(message.getDmContent())
+                        .fileName(message.getFileName())
+                        .isFile(message.isFile())
+                        .isRead(message.isRead())
+                        .sendTime(message.getSendTime())
+                        .build())
+                .toList();
+
+        dmArchiveRepository.save(DmArchiveEntity.builder()
+                .roomId(roomId)
+                .wsId(block.get(0).getWsId())
+                .archiveMonth(month.toString())
+                .firstDmNumber(block.get(0).getId())
+                .lastDmNumber(block.get(block.size() - 1).getId())
+                .messageCount(block.size())
+                .payload(archiveCodec.encode(payload))
+                .archivedAt(LocalDateTime.now())
+                .build());
+        dmRepository.deleteAllByIdInBatch(block.stream().map(DmMessageEntity::getId).toList());
+
+        return block.size();
+    }
+
+    /**
+     * 방의 가장 최근 보관 블록 메시지 (보관된 메시지가 없으면 빈 리스트)
+     */
+    public List<DmMessageDTO> readLatestBlock(String roomId) {
+        return dmArchiveRepository.findFirstByRoomIdOrderByLastDmNumberDesc(roomId)
+                .map(block -> archiveCodec.decode(block.getPayload(), DmMessageDTO.class))
+                .orElse(List.of());
+    }
+
+    /**
+     * 사용자가 참여했을 수 있는 보관된 방 목록 (방 아이디에 이메일 아이디가 들어 있는 방)
+     * 아이디만으로는 같은 아이디의 다른 도메인 사용자와 구분되지 않으므로, 호출한 쪽에서 메시지의 참여자로 다시 확인해야 한다.
+     */
+    public List<String> findRoomIdCandidates(Long wsId, String email) {
+        String localPart = email.toLowerCase().split("@")[0];
+        String prefix = "dm-" + wsId + "-";
+        return dmArchiveRepository.findRoomIdsByWsIdAndRoomIdLike(wsId, prefix + "%" + localPart + "%").stream()
+                .filter(roomId -> roomId.startsWith(prefix + localPart + "-") || roomId.endsWith("-" + localPart))
+                .toList();
+    }
+
+    /**
+     * 방의 보관된 메시지 중 before보다 이전 메시지를 최신순으로 최대 limit개 조회
+     */
+    public List<DmMessageDTO> readBefore(String roomId, Long before, int limit) {
+        List<DmMessageDTO> result = new ArrayList<>(limit);
+        long boundary = before;
+        while (result.size() < limit) {
+            List<DmArchiveEntity> blocks = dmArchiveRepository
+                    .findByRoomIdAndFirstDmNumberLessThanOrderByLastDmNumberDesc(roomId, boundary, PageRequest.of(0, BLOCK_FETCH_SIZE));
+            if (blocks.isEmpty()) {
+                break;
+            }
+            for (DmArchiveEntity block : blocks) {
+                long currentBoundary = boundary;
+                archiveCodec.decode(block.getPayload(), DmMessageDTO.class).stream()
+                        .filter(message -> message.getDmNumber() < currentBoundary)
+                        .sorted(Comparator.comparing(DmMessageDTO::getDmNumber).reversed())
+                        .limit(limit - result.size())
+                        .forEach(result::add);
+                boundary = Math.min(boundary, block.getFirstDmNumber());
+                if (result.size() >= limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,174 @@
+package net.scit.backend.dm.service;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.scit.backend.dm.DTO.DmInboxDTO;
+import net.scit.backend.dm.DTO.DmMessageDTO;
+import net.scit.backend.dm.entity.DmInboxEntity;
+import net.scit.backend.dm.entity.DmMessageEntity;
+import net.scit.backend.dm.repository.DmInboxBackfillRepository;
+import net.scit.backend.dm.repository.DmInboxRepository;
+import net.scit.backend.dm.repository.DmRepository;
+import net.scit.backend.workspace.component.WorkspaceMemberProfileResolver;
+import net.scit.backend.workspace.dto.SenderProfileDTO;
+
+/**
+ * DM 대화 목록(inbox) 서비스
+ *
+ * - 메시지가 저장될 때마다 보낸 사람, 받은 사람의 대화 목록 행을 upsert 한다. (받은 사람만 안 읽은 수 +1)
+ * - 대화 목록 조회는 (owner, ws_id, last_send_time) 인덱스를 타는 쿼리 한 번으로 끝난다.
+ * - 사용자가 워크스페이스에서 처음 조회할 때 dm 테이블과 보관 블록에서 기존 대화를 한 번 집계해 upsert 하고,
+ *   dm_inbox_backfill에 집계 완료를 기록한다. (도입 후 새 메시지로 생긴 행이 있어도 예전 대화가 빠지지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DmInboxService {
+
+    private static final int PREVIEW_LENGTH = 100; // 미리보기 최대 길이
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final DmInboxRepository dmInboxRepository;
+    private final DmRepository dmRepository;
+    private final DmInboxBackfillRepository dmInboxBackfillRepository;
+    private final DmArchiveService dmArchiveService;
+    private final WorkspaceMemberProfileResolver profileResolver;
+
+    /**
+     * 저장된 메시지를 두 참여자의 대화 목록에 반영
+     */
+    @Transactional
+    public void recordMessage(DmMessageEntity message) {
+        String preview = preview(message);
+        LocalDateTime sendTime = message.getSendTime() != null ? message.getSendTime() : LocalDateTime.now();
+
+        dmInboxRepository.upsertMessage(message.getSender(), message.getRoomId(), message.getWsId(), message.getReceiver(),
+                message.getId(), preview, message.isFile(), sendTime, 0);
+        if (!message.getSender().equalsIgnoreCase(message.getReceiver())) {
+            dmInboxRepository.upsertMessage(message.getReceiver(), message.getRoomId(), message.getWsId(), message.getSender(),
+                    message.getId(), preview, message.isFile(), sendTime, 1);
+        }
+    }
+
+    /**
+     * 읽음 처리된 수만큼 읽은 사람의 안 읽은 수 감소
+     */
+    @Transactional
+    public void markRead(String reader, String roomId, int count) {
+        if (count > 0) {
+            dmInboxRepository.decreaseUnread(reader, roomId, count);
+        }
+    }
+
+    /**
+     * 사용자의 워크스페이스 DM 대화 목록 조회 (최근 메시지 순)
+     *
+     * @param wsId  워크스페이스 ID
+     * @param owner 사용자 이메일
+     * @param page  페이지 번호 (0부터)
+     * @param size  페이지 크기
+     */
+    @Transactional
+    public List<DmInboxDTO> getInbox(Long wsId, String owner, int page, int size) {
+        if (page == 0 && !dmInboxBackfillRepository.existsByOwnerAndWsId(owner, wsId)) {
+            backfill(wsId, owner);
+        }
+
+        List<DmInboxEntity> rows = dmInboxRepository.findByOwnerAndWsIdOrderByLastSendTimeDescInboxNumberDesc(
+                owner, wsId, PageRequest.of(Math.max(0, page), Math.min(Math.max(1, size), MAX_PAGE_SIZE)));
+
+        Set<String> peers = rows.stream().map(DmInboxEntity::getPeer).collect(Collectors.toSet());
+        Map<String, SenderProfileDTO> profiles = profileResolver.resolveAll(wsId, peers);
+
+        return rows.stream()
+                .map(row -> {
+                    SenderProfileDTO profile = profiles.get(row.getPeer());
+                    return DmInboxDTO.builder()
+                            .roomId(row.getRoomId())
+                            .wsId(row.getWsId())
+                            .peer(row.getPeer())
+                            .peerNickname(profile != null ? profile.getNickname() : null)
+                            .peerProfileImage(profile != null ? profile.getProfileImage() : null)
+                            .lastDmNumber(row.getLastDmNumber())
+                            .lastMessage(row.getLastPreview())
+                            .lastIsFile(row.isLastIsFile())
+                            .lastSendTime(row.getLastSendTime())
+                            .unreadCount(row.getUnreadCount())
+                            .build();
+                })
+                .toList();
+    }
+
+    /**
+     * dm 테이블과 보관 블록에서 사용자의 대화 목록을 한 번 집계해 upsert (이후에는 메시지 저장 시 증분 갱신)
+     * 보관된 방의 안 읽은 수는 가장 최근 보관 블록 기준이다.
+     */
+    private void backfill(Long wsId, String owner) {
+        Map<String, Long> unreadCounts = new HashMap<>();
+        for (Object[] row : dmRepository.countUnreadPerRoomByReceiver(wsId, owner)) {
+            unreadCounts.put((String) row[0], (Long) row[1]);
+        }
+
+        // 현재 테이블에 메시지가 있는 방
+        Set<String> liveRooms = new HashSet<>();
+        for (DmMessageEntity message : dmRepository.findAllById(dmRepository.findLastIdPerRoomByMember(wsId, owner))) {
+            liveRooms.add(message.getRoomId());
+            dmInboxRepository.upsertBackfill(owner, message.getRoomId(), wsId,
+                    peerOf(owner, message.getSender(), message.getReceiver()), message.getId(), preview(message),
+                    message.isFile(), message.getSendTime(), unreadCounts.getOrDefault(message.getRoomId(), 0L).intValue());
+        }
+
+        // 메시지가 모두 보관 블록으로 옮겨진 방
+        int archivedRooms = 0;
+        for (String roomId : dmArchiveService.findRoomIdCandidates(wsId, owner)) {
+            if (liveRooms.contains(roomId)) {
+                continue;
+            }
+            List<DmMessageDTO> block = dmArchiveService.readLatestBlock(roomId);
+            DmMessageDTO last = block.stream().max(Comparator.comparing(DmMessageDTO::getDmNumber)).orElse(null);
+            if (last == null || !(owner.equalsIgnoreCase(last.getSender()) || owner.equalsIgnoreCase(last.getReceiver()))) {
+                continue; // 아이디만 같은 다른 사용자의 방
+            }
+            int unread = (int) block.stream()
+                    .filter(message -> owner.equalsIgnoreCase(message.getReceiver()) && !message.isRead())
+                    .count();
+            dmInboxRepository.upsertBackfill(owner, roomId, wsId, peerOf(owner, last.getSender(), last.getReceiver()),
+                    last.getDmNumber(), preview(last.isFile(), last.getFileName(), last.getDmContent()),
+                    last.isFile(), last.getSendTime(), unread);
+            archivedRooms++;
+        }
+
+        dmInboxBackfillRepository.markBackfilled(owner, wsId, LocalDateTime.now());
+        log.info("✅ DM 대화 목록 집계: wsId={}, owner={}, {}개 방 (보관된 방 {}개)",
+                wsId, owner, liveRooms.size() + archivedRooms, archivedRooms);
+    }
+
+    private String peerOf(String owner, String sender, String receiver) {
+        return owner.equalsIgnoreCase(sender) ? receiver : sender;
+    }
+
+    private String preview(DmMessageEntity message) {
+        return preview(message.isFile(), message.getFileName(), message.getDmContent());
+    }
+
+    private String preview(boolean isFile, String fileName, String content) {
+        String text = isFile ? fileName : content;
+        if (text == null) {
+            return null;
+        }
+        return text.length() > PREVIEW_LENGTH ? text.substring(0, PREVIEW_LENGTH) : text;
+    }
+}
@@ -3,7 +3,9 @@ package net.scit.backend.dm.service;
 import java.util.List;
 import org.springframework.web.multipart.MultipartFile;
 
+import net.scit.backend.dm.DTO.DmInboxDTO;
 import net.scit.backend.dm.DTO.DmMessageDTO;
+import net.scit.backend.dm.DTO.DmMessagePageDTO;
 
 public interface DmService 
 {
@@ -11,7 +13,15 @@ public interface DmService
 
     DmMessageDTO uploadFile(MultipartFile file, String sender, String receiver, Long wsId);
 
+    DmMessageDTO saveFileMessage(String sender, String receiver, Long wsId, String fileUrl, String fileName);
+
+    String getRoomId(Long wsId, String senderEmail, String receiverEmail);
+
     List<DmMessageDTO> getMessages(Long wsId, String roomId);
 
-    void markMessagesAsRead(Long wsId, String sender, String receiver);
+    DmMessagePageDTO getMessagesPage(Long wsId, String roomId, String cursor, Integer size);
+
+    void markMessagesAsRead(Long wsId, String sender, String receiver, Long upTo);
+
+    List<DmInboxDTO> getInbox(Long wsId, int page, int size);
 }
@@ -1,35 +1,65 @@
 package net.scit.backend.dm.service.impl;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import net.scit.backend.exception.CustomException;
-import net.scit.backend.exception.ErrorCode;
-import net.scit.backend.workspace.entity.WorkspaceMemberEntity;
-import net.scit.backend.workspace.repository.WorkspaceMemberRepository;
+import net.scit.backend.workspace.component.WorkspaceMemberProfileResolver;
+import net.scit.backend.workspace.dto.SenderProfileDTO;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.messaging.simp.SimpMessagingTemplate; // ✅ 추가
 
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.scit.backend.dm.DTO.DmInboxDTO;
 import net.scit.backend.dm.DTO.DmMessageDTO;
+import net.scit.backend.dm.DTO.DmMessagePageDTO;
+import net.scit.backend.dm.DTO.DmReadReceiptDTO;
+import net.scit.backend.dm.component.DmRoomKeyBackfiller;
 import net.scit.backend.dm.entity.DmMessageEntity;
+import net.scit.backend.dm.entity.DmReadWatermarkEntity;
+import net.scit.backend.dm.repository.DmReadWatermarkRepository;
 import net.scit.backend.dm.repository.DmRepository;
+import net.scit.backend.dm.service.DmArchiveService;
+import net.scit.backend.dm.service.DmInboxService;
 import net.scit.backend.dm.service.DmService;
 import net.scit.backend.common.component.S3Uploader;
+import net.scit.backend.dm.event.DmReadEvent;
+import net.scit.backend.exception.CustomException;
+import net.scit.backend.exception.ErrorCode;
+import net.scit.backend.jwt.AuthUtil;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class DmServiceImpl implements DmService {
+    private static final int DEFAULT_PAGE_SIZE = 50; // DM 메시지 기본 페이지 크기
+    private static final int MAX_PAGE_SIZE = 200;    // 한 번에 조회할 수 있는 최대 메시지 수
+
     private final DmRepository dmRepository;
-    private final WorkspaceMemberRepository workspaceMemberRepository;
+    private final DmReadWatermarkRepository watermarkRepository; // 방별 읽음 위치
+    private final WorkspaceMemberProfileResolver profileResolver; // 발신자 프로필 일괄 조회 및 캐시
+    private final DmArchiveService dmArchiveService; // 오래된 DM 보관 블록
+    private final DmInboxService dmInboxService; // 사용자별 대화 목록
+    private final DmRoomKeyBackfiller dmRoomKeyBackfiller; // 기존 메시지 room_key 채우기 진행 상태
     private final S3Uploader s3Uploader;
     private final SimpMessagingTemplate messagingTemplate; // ✅ WebSocket 메시지 전송을 위한 객체 추가
+    private final ApplicationEventPublisher eventPublisher; // 커밋 이후 읽음 알림 전송
 
 
     /**
@@ -54,6 +84,14 @@ public class DmServiceImpl implements DmService {
         return "dm-" + wsId + "-" + emails[0] + "-" + emails[1];
     }
 
+    /**
+     * DM 방 ID 조회 (파일 저장 경로 등 외부에서 방 단위로 구분할 때 사용)
+     */
+    @Override
+    public String getRoomId(Long wsId, String senderEmail, String receiverEmail) {
+        return generateRoomId(wsId, senderEmail, receiverEmail);
+    }
+
     /**
      * 메시지를 처리하고 저장
      * @param messageDTO 메시지 DTO
@@ -72,7 +110,10 @@ public class DmServiceImpl implements DmService {
         messageEntity.setRead(false); // 기본값으로 읽지 않음 설정
 
         dmRepository.save(messageEntity);
+        recordInbox(messageEntity);
 
+        messageDTO.setDmNumber(messageEntity.getId()); // 읽음 위치(upTo)로 사용할 수 있도록 번호 전달
+        messageDTO.setSendTime(messageEntity.getSendTime());
         return messageDTO;
     }
 
@@ -97,6 +138,22 @@ public class DmServiceImpl implements DmService {
             throw new RuntimeException("파일 업로드 중 오류 발생", e);
         }
 
+        return saveFileMessage(sender, receiver, wsId, fileUrl, file.getOriginalFilename());
+    }
+
+    /**
+     * 업로드가 끝난 파일로 파일 메시지 저장 후 방에 전송 (서버 경유 업로드, pre-signed URL 직접 업로드 공통)
+     * @param sender 발신자
+     * @param receiver 수신자
+     * @param wsId 워크스페이스 ID
+     * @param fileUrl 업로드된 파일 URL
+     * @param fileName 원본 파일명
+     * @return 저장된 메시지 DTO
+     */
+    @Override
+    public DmMessageDTO saveFileMessage(String sender, String receiver, Long wsId, String fileUrl, String fileName) {
+        String roomId = generateRoomId(wsId, sender, receiver);
+
         // 파일 업로드 후 메시지 엔티티 생성 및 저장
         DmMessageEntity messageEntity = DmMessageEntity.builder()
                 .wsId(wsId)
@@ -104,53 +161,224 @@ public class DmServiceImpl implements DmService {
                 .sender(sender)
                 .receiver(receiver)
                 .dmContent(fileUrl)
-                .fileName(file.getOriginalFilename())
+                .fileName(fileName)
                 .isFile(true)
                 .isRead(false)
                 .build();
 
         dmRepository.save(messageEntity);
+        recordInbox(messageEntity);
 
-        DmMessageDTO messageDTO = mapToDTO(messageEntity);
+        SenderProfileDTO profile = profileResolver.resolve(wsId, sender);
+        DmMessageDTO messageDTO = mapToDTO(messageEntity, profile); // Entity -> DTO 변환
         messagingTemplate.convertAndSend("/exchange/dm-exchange/msg." + roomId, messageDTO);
 
-        return mapToDTO(messageEntity); // Entity -> DTO 변환
+        return messageDTO;
     }
 
     /**
-     * 특정 방의 메시지를 조회
+     * 특정 방의 최근 메시지 조회
+     * 전체 이력을 메모리에 올리지 않도록 최신 한 페이지만 오래된 순으로 반환하며,
+     * 그보다 이전 메시지는 커서 조회(getMessagesPage)로 이어서 가져온다.
      * @param wsId 워크스페이스 ID
      * @param roomId 방 ID
      * @return 메시지 DTO 리스트
      */
     @Override
     public List<DmMessageDTO> getMessages(Long wsId, String roomId) {
-        List<DmMessageEntity> messages = dmRepository.findByRoomIdOrderBySendTimeAsc(roomId);
+        List<DmMessageDTO> messages = getMessagesPage(wsId, roomId, null, DEFAULT_PAGE_SIZE).getMessages();
+        Collections.reverse(messages);
+        return messages;
+    }
+
+    /**
+     * 특정 방의 메시지를 (sendTime, dmNumber) 커서 기준으로 최신순 조회
+     * 현재 테이블에서 페이지를 다 채우지 못하면 보관 블록에서 이어서 조회한다.
+     * @param wsId 워크스페이스 ID
+     * @param roomId 방 ID
+     * @param cursor 이전 응답의 nextCursor (없으면 최신 메시지부터)
+     * @param size 페이지 크기 (최대 MAX_PAGE_SIZE)
+     * @return 최신순 메시지와 다음 페이지 커서
+     */
+    @Override
+    public DmMessagePageDTO getMessagesPage(Long wsId, String roomId, String cursor, Integer size) {
+        int pageSize = (size == null || size <= 0) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        long roomKey = DmMessageEntity.roomKeyOf(roomId);
+        boolean includeLegacy = !dmRoomKeyBackfiller.isComplete(); // room_key 채우기 전 메시지 포함 여부
+        Pageable pageable = PageRequest.of(0, pageSize + 1); // 다음 페이지 존재 여부 확인용으로 1개 더 조회
 
-        // 리스트를 DTO로 변환
-        return messages.stream().map(this::mapToDTO).collect(Collectors.toList());
+        List<DmMessageEntity> messages;
+        long boundary;
+        if (cursor == null || cursor.isBlank()) {
+            messages = dmRepository.findRoomLatest(roomKey, roomId, includeLegacy, pageable);
+            boundary = Long.MAX_VALUE;
+        } else {
+            CursorPosition position = decodeCursor(cursor);
+            messages = dmRepository.findRoomBefore(roomKey, roomId, includeLegacy,
+                    position.sendTime(), position.dmNumber(), pageable);
+            boundary = position.dmNumber();
+        }
+
+        // 보관된 메시지는 모두 현재 테이블 메시지보다 오래되었으므로 뒤에 이어 붙임
+        List<DmMessageDTO> archived = List.of();
+        if (messages.size() <= pageSize) {
+            if (!messages.isEmpty()) {
+                boundary = messages.get(messages.size() - 1).getId();
+            }
+            archived = dmArchiveService.readBefore(roomId, boundary, pageSize + 1 - messages.size());
+        }
+
+        Map<String, SenderProfileDTO> profiles = resolveProfiles(wsId, archived, messages);
+        fillArchived(roomId, archived, profiles);
+
+        List<DmMessageDTO> page = new ArrayList<>(messages.size() + archived.size());
+        messages.forEach(message -> page.add(mapToDTO(message, profiles.get(message.getSender()))));
+        page.addAll(archived);
+
+        boolean hasMore = page.size() > pageSize;
+        List<DmMessageDTO> result = hasMore ? new ArrayList<>(page.subList(0, pageSize)) : page;
+        DmMessageDTO last = result.isEmpty() ? null : result.get(result.size() - 1);
+
+        return DmMessagePageDTO.builder()
+                .messages(result)
+                .nextCursor(hasMore && last != null ? encodeCursor(last.getSendTime(), last.getDmNumber()) : null)
+                .hasMore(hasMore)
+                .build();
     }
 
     /**
      * 특정 방의 메시지를 읽음 처리
+     * - 로그인 사용자가 받은 메시지 중 upTo 이하의 안 읽은 메시지만 UPDATE 한 번으로 처리한다.
+     * - 방별 읽음 위치(watermark)를 저장하고, 위치가 앞으로 움직였으면 커밋 이후 상대방에게 읽음 알림을 보낸다.
      * @param wsId 워크스페이스 ID
      * @param sender 발신자
      * @param receiver 수신자
+     * @param upTo 마지막으로 읽은 dmNumber (null이면 방의 최신 메시지까지)
      */
     @Override
-    public void markMessagesAsRead(Long wsId, String sender, String receiver) {
+    @Transactional
+    public void markMessagesAsRead(Long wsId, String sender, String receiver, Long upTo) {
         String roomId = generateRoomId(wsId, sender, receiver);
+        String reader = resolveReader(sender, receiver);
+
+        Long lastDmNumber = upTo != null ? upTo : dmRepository.findMaxIdByRoomId(roomId);
+        if (lastDmNumber == null) {
+            return; // 메시지가 없는 방
+        }
 
-        // 메시지 읽기 처리
-        List<DmMessageEntity> messages = dmRepository.findByWsIdAndRoomIdOrderBySendTimeAsc(wsId, roomId);
-        messages.forEach(msg -> msg.setRead(true)); // 메시지 읽음 처리
+        Long previous = watermarkRepository.findByRoomIdAndReader(roomId, reader)
+                .map(DmReadWatermarkEntity::getLastReadDmNumber)
+                .orElse(0L);
+        int updated = dmRepository.markReadUpTo(roomId, reader, lastDmNumber);
+        if (lastDmNumber <= previous && updated == 0) {
+            return; // 이미 읽은 위치 (알림 불필요)
+        }
+        watermarkRepository.upsert(roomId, reader, lastDmNumber);
+        dmInboxService.markRead(reader, roomId, updated);
+
+        DmReadReceiptDTO receipt = DmReadReceiptDTO.builder()
+                .roomId(roomId)
+                .reader(reader)
+                .lastReadDmNumber(Math.max(previous, lastDmNumber))
+                .updatedCount(updated)
+                .readTime(LocalDateTime.now())
+                .build();
+        eventPublisher.publishEvent(new DmReadEvent(receipt));
+        log.info("✅ 메시지 읽음 처리 완료: roomId={}, reader={}, upTo={}, {}건", roomId, reader, lastDmNumber, updated);
+    }
+
+    /**
+     * 사용자의 DM 대화 목록 조회 (최근 메시지 순)
+     * @param wsId 워크스페이스 ID
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기
+     * @return 대화 목록
+     */
+    @Override
+    public List<DmInboxDTO> getInbox(Long wsId, int page, int size) {
+        return dmInboxService.getInbox(wsId, AuthUtil.getLoginUserId(), page, size);
+    }
+
+    /**
+     * 대화 목록 갱신 (실패해도 메시지 전송은 계속 진행)
+     */
+    private void recordInbox(DmMessageEntity messageEntity) {
+        try {
+            dmInboxService.recordMessage(messageEntity);
+        } catch (Exception e) {
+            log.error("❌ DM 대화 목록 갱신 실패: roomId={}, dmNumber={} - {}",
+                    messageEntity.getRoomId(), messageEntity.getId(), e.getMessage(), e);
+        }
+    }
 
-        dmRepository.saveAll(messages); // 변경된 메시지를 배치 저장
-        log.info("✅ 메시지 읽음 처리 완료: roomId={}, sender={}, receiver={}", roomId, sender, receiver);
+    /**
+     * 읽은 사람 결정 (로그인 사용자가 방 참여자일 때만 허용)
+     * @throws CustomException 로그인 사용자가 sender, receiver 어느 쪽도 아닌 경우
+     */
+    private String resolveReader(String sender, String receiver) {
+        String loginUser = AuthUtil.getLoginUserId();
+        if (loginUser != null && (loginUser.equalsIgnoreCase(sender) || loginUser.equalsIgnoreCase(receiver))) {
+            return loginUser;
+        }
+        throw new CustomException(ErrorCode.ACCESS_DENIED);
     }
 
     // ----------- 공통 매핑 메서드 -----------
 
+    /**
+     * 보관 메시지와 현재 테이블 메시지의 발신자 프로필을 한 번에 조회
+     */
+    private Map<String, SenderProfileDTO> resolveProfiles(Long wsId, List<DmMessageDTO> archived, List<DmMessageEntity> messages) {
+        Set<String> senders = Stream.concat(
+                        archived.stream().map(DmMessageDTO::getSender),
+                        messages.stream().map(DmMessageEntity::getSender))
+                .collect(Collectors.toSet());
+        return profileResolver.resolveAll(wsId, senders);
+    }
+
+    /**
+     * 보관된 메시지에 발신자 프로필을 채우고, 읽음 여부를 받은 사람의 읽음 위치로 다시 계산
+     * (보관 블록의 읽음 여부는 보관 시점 값)
+     */
+    private void fillArchived(String roomId, List<DmMessageDTO> archived, Map<String, SenderProfileDTO> profiles) {
+        if (archived.isEmpty()) {
+            return;
+        }
+        Map<String, Long> watermarks = watermarkRepository.findByRoomId(roomId).stream()
+                .collect(Collectors.toMap(DmReadWatermarkEntity::getReader, DmReadWatermarkEntity::getLastReadDmNumber));
+        archived.forEach(message -> {
+            SenderProfileDTO profile = profiles.get(message.getSender());
+            message.setNickname(profile != null ? profile.getNickname() : null);
+            message.setProfileImage(profile != null ? profile.getProfileImage() : null);
+            Long watermark = watermarks.get(message.getReceiver());
+            if (watermark != null && message.getDmNumber() != null && message.getDmNumber() <= watermark) {
+                message.setRead(true);
+            }
+        });
+    }
+
+    /**
+     * 페이지 커서 인코딩: base64url("{sendTime}|{dmNumber}")
+     */
+    private String encodeCursor(LocalDateTime sendTime, Long dmNumber) {
+        String raw = (sendTime != null ? sendTime : LocalDateTime.MIN) + "|" + dmNumber;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private CursorPosition decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new CursorPosition(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+    }
+
+    private record CursorPosition(LocalDateTime sendTime, Long dmNumber) {
+    }
+
     /**
      * DmMessageDTO -> DmMessageEntity 변환
      * @param dto DTO 객체
@@ -173,15 +401,15 @@ public class DmServiceImpl implements DmService {
     /**
      * DmMessageEntity -> DmMessageDTO 변환
      * @param entity Entity 객체
+     * @param profile 발신자 프로필 (워크스페이스를 떠난 발신자는 null)
      * @return 변환된 DTO
      */
-    private DmMessageDTO mapToDTO(DmMessageEntity entity) {
-        WorkspaceMemberEntity workspaceMember = workspaceMemberRepository.findByWorkspace_wsIdAndMember_Email(entity.getWsId(),entity.getSender())
-                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+    private DmMessageDTO mapToDTO(DmMessageEntity entity, SenderProfileDTO profile) {
         return DmMessageDTO.builder()
                 .dmNumber(entity.getId())
                 .wsId(entity.getWsId())
-//                .nickname(workspaceMember.getNickname())
+                .nickname(profile != null ? profile.getNickname() : null)
+                .profileImage(profile != null ? profile.getProfileImage() : null)
                 .roomId(entity.getRoomId())
                 .sender(entity.getSender())
                 .receiver(entity.getReceiver())
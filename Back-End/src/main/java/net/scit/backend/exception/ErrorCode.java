@@ -50,6 +50,9 @@ public enum ErrorCode {
     INVALID_EMAIL_CODE("인증 코드가 잘못되었습니다.", HttpStatus.BAD_REQUEST),
     INVALID_TOKEN("잘못된 토큰 입니다.", HttpStatus.UNAUTHORIZED),
     FILE_CREATION_FAILED("임시 파일 생성 중 오류가 발생했습니다", HttpStatus.INTERNAL_SERVER_ERROR),
+    UPLOAD_INTENT_NOT_FOUND("업로드 요청이 없거나 만료되었습니다.", HttpStatus.NOT_FOUND),
+    UPLOAD_SIZE_EXCEEDED("업로드할 수 있는 파일 크기를 초과했습니다.", HttpStatus.BAD_REQUEST),
+    UPLOAD_VERIFICATION_FAILED("업로드된 파일이 요청 정보와 일치하지 않습니다.", HttpStatus.BAD_REQUEST),
 
     // Redis 관련 예외 추가
     REDIS_CONNECTION_FAILED("Redis 서버에 연결할 수 없습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
@@ -63,6 +66,9 @@ public enum ErrorCode {
     SUMMARY_FAILURE("요약에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
     SUMMARY_EMPTY_CONTENT("요약할 수 있는 데이터가 없습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
     SUMMARY_API_ERROR("요약 API 호출 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+    CHAT_QUEUE_FULL("메시지가 많아 전송하지 못했습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    CHAT_SAVE_FAILED("메시지를 저장하지 못했습니다. 다시 전송해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    MESSAGE_ARCHIVE_FAILED("보관된 메시지를 처리하지 못했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
 
     // Notification
     NOTIFICATION_NOT_FOUND("해당 알림을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
@@ -2,24 +2,37 @@ package net.scit.backend.member.listener;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.scit.backend.notification.dto.NotificationResponseDTO;
+import net.scit.backend.common.config.AsyncEventConfig;
+import net.scit.backend.notification.component.EventDispatcher;
+import net.scit.backend.notification.component.NotificationCoalescer;
 import net.scit.backend.notification.entity.NotificationEntity;
-import net.scit.backend.notification.service.NotificationService;
 import net.scit.backend.member.event.MemberEvent;
-import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class MemberEventListener {
 
-    private final NotificationService notificationService;
+    private final NotificationCoalescer notificationCoalescer;
+    private final EventDispatcher eventDispatcher;
 
-    @EventListener
+    /**
+     * 커밋 이후 eventDispatchExecutor에서 실행 (실패 시 재시도 후 dead letter 저장, 사용자 변경에는 영향 없음)
+     */
+    @Async(AsyncEventConfig.EVENT_DISPATCH_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleMemberEvent(MemberEvent event) {
+        eventDispatcher.dispatch("MemberEventListener", event, () -> notifyMember(event));
+    }
+
+    private void notifyMember(MemberEvent event) {
         // 로그인 이벤트는 처리하지 않음
         if ("login".equals(event.getEventType())) {
             return;
@@ -42,11 +55,10 @@ public class MemberEventListener {
         // 모든 회원 관련 알림은 회원정보 페이지로 이동하도록 고정
         notification.setNotificationUrl("https://dev.bibim.shop/mypage");
 
-        // 2) 저장 + 실시간 전송 (Map 기반 SSE)
-        //    NotificationServiceImpl 내 createAndSendNotification()에서
+        // 2) 병합기에 등록 (연속된 정보 수정은 모아서 한 건으로 저장 + 실시간 전송)
         //    해당 수신자만 구독되어 있으면 SSE 전송
-        NotificationResponseDTO savedNotification = notificationService.createAndSendNotification(notification);
+        notificationCoalescer.submit(event, List.of(notification));
 
-        log.info("✅ Member 알림 저장 완료: notificationNumber={}", savedNotification.getNotificationNumber());
+        log.info("✅ Member 알림 등록 완료: {}", event.getMember().getEmail());
     }
 }
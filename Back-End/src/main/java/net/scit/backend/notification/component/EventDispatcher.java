@@ -0,0 +1,182 @@
+package net.scit.backend.notification.component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.scit.backend.common.config.AsyncEventConfig;
+import net.scit.backend.notification.entity.EventDeadLetterEntity;
+import net.scit.backend.notification.entity.NotificationEntity;
+import net.scit.backend.notification.event.BasedUpdatedEvent;
+import net.scit.backend.notification.repository.EventDeadLetterRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * 커밋 이후 비동기로 실행되는 알림 리스너의 공통 실행기
+ *
+ * - 리스너 본문을 최대 max-attempts회 실행하고, 실패하면 backoff-ms * 시도 횟수만큼 기다린 뒤 재시도한다.
+ * - 끝까지 실패한 이벤트는 event_dead_letter 테이블에 남긴다. (사용자 변경은 이미 커밋되어 영향 없음)
+ * - 병합기에서 내보내는 알림 묶음도 같은 방식으로 재시도하고, 실패하면 알림마다 dead letter를 남긴다.
+ * - 지표: event.dispatch.duration, event.dispatch.retries, event.dispatch.dead_letters,
+ *         event.dispatch.queue.depth, event.dispatch.active.threads
+ */
+@Slf4j
+@Component
+public class EventDispatcher {
+
+    private final EventDeadLetterRepository deadLetterRepository;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long backoffMs;
+
+    private final Counter retryCounter;
+    private final Counter deadLetterCounter;
+
+    public EventDispatcher(EventDeadLetterRepository deadLetterRepository,
+                           MeterRegistry meterRegistry,
+                           @Qualifier(AsyncEventConfig.EVENT_DISPATCH_EXECUTOR) ThreadPoolTaskExecutor executor,
+                           @Value("${event.dispatch.max-attempts:3}") int maxAttempts,
+                           @Value("${event.dispatch.backoff-ms:500}") long backoffMs) {
+        this.deadLetterRepository = deadLetterRepository;
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMs = backoffMs;
+
+        Gauge.builder("event.dispatch.queue.depth", executor, EventDispatcher::queueDepth)
+                .description("처리 대기 중인 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("event.dispatch.active.threads", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("이벤트 처리 중인 스레드 수")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("event.dispatch.retries")
+                .description("재시도한 이벤트 처리 수")
+                .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("event.dispatch.dead_letters")
+                .description("재시도 후에도 실패해 dead letter로 남긴 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 리스너 본문 실행 (재시도 및 dead letter 처리 포함, 예외를 밖으로 던지지 않음)
+     *
+     * @param listenerName 리스너 이름 (지표 태그, dead letter 기록용)
+     * @param event        처리할 이벤트
+     * @param handler      리스너 본문
+     */
+    public void dispatch(String listenerName, BasedUpdatedEvent event, Runnable handler) {
+        execute(listenerName, event.getNotificationType(), handler,
+                (attempts, cause) -> saveDeadLetter(listenerName, event, attempts, cause));
+    }
+
+    /**
+     * 이미 만들어진 알림 묶음의 저장, 전송 실행 (재시도 및 알림별 dead letter 처리 포함, 예외를 밖으로 던지지 않음)
+     *
+     * @param listenerName  호출한 리스너 이름 (지표 태그, dead letter 기록용)
+     * @param notifications 저장, 전송할 알림
+     * @param handler       저장, 전송 본문
+     */
+    public void dispatchNotifications(String listenerName, List<NotificationEntity> notifications, Runnable handler) {
+        execute(listenerName, notifications.size() + "건의 알림", handler,
+                (attempts, cause) -> saveDeadLetters(listenerName, notifications, attempts, cause));
+    }
+
+    private void execute(String listenerName, String description, Runnable handler,
+                         BiConsumer<Integer, RuntimeException> deadLetter) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    handler.run();
+                    return;
+                } catch (RuntimeException e) {
+                    if (attempt >= maxAttempts) {
+                        outcome = "dead_letter";
+                        deadLetter.accept(attempt, e);
+                        return;
+                    }
+                    retryCounter.increment();
+                    log.warn("⚠️ 이벤트 처리 재시도 ({}/{}): {} {} - {}", attempt, maxAttempts,
+                            listenerName, description, e.getMessage());
+                    Thread.sleep(backoffMs * attempt);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = "interrupted";
+            log.warn("⚠️ 이벤트 처리 중단: {} {}", listenerName, description);
+        } finally {
+            sample.stop(Timer.builder("event.dispatch.duration")
+                    .description("이벤트 처리 시간 (재시도 포함)")
+                    .tag("listener", listenerName)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private void saveDeadLetter(String listenerName, BasedUpdatedEvent event, int attempts, RuntimeException cause) {
+        deadLetterCounter.increment();
+        log.error("❌ 이벤트 처리 실패 (dead letter 저장): {} {} entityId={} - {}",
+                listenerName, event.getNotificationType(), event.getEntityId(), cause.getMessage(), cause);
+        try {
+            deadLetterRepository.save(EventDeadLetterEntity.builder()
+                    .listenerName(listenerName)
+                    .eventClass(event.getClass().getSimpleName())
+                    .notificationType(event.getNotificationType())
+                    .entityId(event.getEntityId())
+                    .updatedBy(event.getUpdatedBy())
+                    .notificationContent(truncate(event.getNotificationContent(), 500))
+                    .errorMessage(truncate(String.valueOf(cause.getMessage()), 1000))
+                    .attempts(attempts)
+                    .failedAt(LocalDateTime.now())
+                    .build());
+        } catch (Exception e) {
+            log.error("❌ dead letter 저장 실패: {} {} - {}", listenerName, event.getNotificationType(), e.getMessage());
+        }
+    }
+
+    private void saveDeadLetters(String listenerName, List<NotificationEntity> notifications, int attempts, RuntimeException cause) {
+        deadLetterCounter.increment(notifications.size());
+        log.error("❌ 알림 전송 실패 (dead letter 저장): {} {}건 - {}",
+                listenerName, notifications.size(), cause.getMessage(), cause);
+        LocalDateTime failedAt = LocalDateTime.now();
+        try {
+            deadLetterRepository.saveAll(notifications.stream()
+                    .map(notification -> EventDeadLetterEntity.builder()
+                            .listenerName(listenerName)
+                            .eventClass(NotificationEntity.class.getSimpleName())
+                            .notificationType(notification.getNotificationType())
+                            .updatedBy(notification.getSenderEmail())
+                            .wsId(notification.getWsId())
+                            .receiverEmail(notification.getReceiverEmail())
+                            .notificationContent(truncate(notification.getNotificationContent(), 500))
+                            .errorMessage(truncate(String.valueOf(cause.getMessage()), 1000))
+                            .attempts(attempts)
+                            .failedAt(failedAt)
+                            .build())
+                    .toList());
+        } catch (Exception e) {
+            log.error("❌ dead letter 저장 실패: {} {}건 - {}", listenerName, notifications.size(), e.getMessage());
+        }
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    private static double queueDepth(ThreadPoolTaskExecutor executor) {
+        try {
+            return executor.getThreadPoolExecutor().getQueue().size();
+        } catch (IllegalStateException e) {
+            return 0; // 아직 초기화되지 않았거나 종료된 경우
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package net.scit.backend.notification.component;
+
+import net.scit.backend.notification.entity.NotificationEntity;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 단일 노드용 릴레이: 모든 SSE 연결이 이 노드에 있으므로 다른 노드로 전달하지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.relay.type", havingValue = "local", matchIfMissing = true)
+public class LocalNotificationRelay implements NotificationRelay {
+
+    @Override
+    public void publish(List<NotificationEntity> notifications) {
+        // 단일 노드에서는 로컬 SseEmitterRegistry 전송으로 충분
+    }
+
+    @Override
+    public void publishDisconnect(String email) {
+        // 단일 노드에서는 로컬 SseEmitterRegistry에서 닫는 것으로 충분
+    }
+}
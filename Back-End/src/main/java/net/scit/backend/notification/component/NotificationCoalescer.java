@@ -0,0 +1,172 @@
+package net.scit.backend.notification.component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.scit.backend.notification.entity.NotificationEntity;
+import net.scit.backend.notification.event.BasedUpdatedEvent;
+import net.scit.backend.notification.service.NotificationService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 수정 알림 병합기
+ *
+ * - 같은 (수신자, 엔티티 ID, 알림 유형)의 첫 알림은 기다리지 않고 바로 저장, 전송하고,
+ *   이후 window-ms(기본 30초) 안에 온 알림은 마지막 알림 하나로 합쳐 창이 끝날 때 내보낸다.
+ *   합친 알림 내용 뒤에는 변경 횟수를 붙인다. (예: "일정이 수정되었습니다. (3건의 변경)")
+ *   따라서 연속 수정의 후속 알림만 최대 window-ms + flush-interval-ms 늦게 도착한다.
+ * - 대기 중인 알림은 메모리에만 있으므로 프로세스가 비정상 종료되면 창 안에서 합쳐지던 후속 알림만 사라진다.
+ *   (정상 종료 시에는 NotificationEventListener가 모두 내보냄)
+ * - 병합 대상(types)이 아닌 알림(생성, 삭제 등)은 기다리지 않고 바로 저장, 전송한다.
+ * - ConcurrentHashMap.compute로 키 단위로만 잠그므로 이벤트마다 배열을 복사하지 않는다.
+ * - 대기 중인 알림이 max-pending을 넘으면 새 알림은 병합하지 않고 바로 보낸다.
+ * - 지표: notification.coalesce.pending, notification.coalesce.merged
+ */
+@Slf4j
+@Component
+public class NotificationCoalescer {
+
+    private static final int CONTENT_MAX_LENGTH = 255; // notification_content 컬럼 길이
+
+    private final NotificationService notificationService;
+    private final Set<String> coalescedTypes;
+    private final long windowMs;
+    private final int maxPending;
+
+    private final Map<Key, Pending> pending = new ConcurrentHashMap<>();
+    private final Counter mergedCounter;
+
+    public NotificationCoalescer(NotificationService notificationService,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${notification.coalesce.types:schedule_info_update,schedule_assignee_update,schedule_status_update,workdata_update,workspace_update,workspace_member_update,workspace_role_update,member_member_update}") Set<String> coalescedTypes,
+                                 @Value("${notification.coalesce.window-ms:30000}") long windowMs,
+                                 @Value("${notification.coalesce.max-pending:10000}") int maxPending) {
+        this.notificationService = notificationService;
+        this.coalescedTypes = Set.copyOf(coalescedTypes);
+        this.windowMs = windowMs;
+        this.maxPending = maxPending;
+
+        Gauge.builder("notification.coalesce.pending", pending, Map::size)
+                .description("열려 있는 알림 병합 창 수")
+                .register(meterRegistry);
+        this.mergedCounter = Counter.builder("notification.coalesce.merged")
+                .description("다른 알림에 합쳐져 따로 보내지 않은 알림 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이벤트로 만든 알림 등록 (병합 대상이면 대기, 아니면 즉시 저장 및 전송)
+     *
+     * @param event         알림을 만든 이벤트
+     * @param notifications 수신자별 알림
+     */
+    public void submit(BasedUpdatedEvent event, List<NotificationEntity> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        if (!coalescedTypes.contains(event.getNotificationType()) || event.getEntityId() == null
+                || pending.size() >= maxPending) {
+            notificationService.createAndSendNotifications(notifications);
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        List<NotificationEntity> immediate = new ArrayList<>();
+        Map<Key, Pending> opened = new HashMap<>();
+        for (NotificationEntity notification : notifications) {
+            Key key = new Key(notification.getReceiverEmail(), event.getEntityId(), notification.getNotificationType());
+            pending.compute(key, (k, current) -> {
+                if (current == null) {
+                    // 창의 첫 알림은 바로 보내고, 창이 열려 있음만 기록
+                    Pending window = new Pending(null, 0, now);
+                    immediate.add(notification);
+                    opened.put(k, window);
+                    return window;
+                }
+                if (current.count > 0) {
+                    mergedCounter.increment();
+                }
+                return new Pending(notification, current.count + 1, current.firstAt);
+            });
+        }
+
+        if (!immediate.isEmpty()) {
+            try {
+                notificationService.createAndSendNotifications(immediate);
+            } catch (RuntimeException e) {
+                // 재시도 시 다시 첫 알림으로 바로 보내도록 이번에 연 창을 닫음
+                // (그사이 다른 스레드가 후속 알림을 합친 창은 그대로 두어 drain 시 내보냄)
+                opened.forEach((k, window) -> pending.remove(k, window));
+                throw e;
+            }
+        }
+        log.debug("📥 알림 병합 대기: {} - {} ({}명, 즉시 전송 {}명)",
+                event.getNotificationType(), event.getEntityId(), notifications.size(), immediate.size());
+    }
+
+    /**
+     * window-ms가 지난 창을 닫고 그동안 합쳐진 알림을 반환 (꺼낸 알림은 대기열에서 제거됨)
+     */
+    public List<NotificationEntity> drainDue(long now) {
+        return drain(now - windowMs);
+    }
+
+    /**
+     * 대기 중인 알림을 모두 꺼내 반환 (종료 시)
+     */
+    public List<NotificationEntity> drainAll() {
+        return drain(Long.MAX_VALUE);
+    }
+
+    private List<NotificationEntity> drain(long firstAtBefore) {
+        List<NotificationEntity> due = new ArrayList<>();
+        for (Map.Entry<Key, Pending> entry : pending.entrySet()) {
+            Pending value = entry.getValue();
+            // 그사이 병합된 경우 remove가 실패하고, 다음 주기에 합쳐진 값으로 다시 꺼냄
+            if (value.firstAt <= firstAtBefore && pending.remove(entry.getKey(), value) && value.count > 0) {
+                due.add(value.toNotification());
+            }
+        }
+        return due;
+    }
+
+    private record Key(String receiverEmail, Long entityId, String notificationType) {
+    }
+
+    /**
+     * 열린 병합 창 (compute 안에서 새 객체로 교체하며, 제거 시 동일 객체인지로 비교)
+     * count는 첫 알림 이후 합쳐진 알림 수이며, 0이면 내보낼 알림 없이 창만 열려 있는 상태
+     */
+    private static final class Pending {
+        private final NotificationEntity latest;
+        private final int count;
+        private final long firstAt;
+
+        private Pending(NotificationEntity latest, int count, long firstAt) {
+            this.latest = latest;
+            this.count = count;
+            this.firstAt = firstAt;
+        }
+
+        private NotificationEntity toNotification() {
+            if (count > 1) {
+                String suffix = " (" + count + "건의 변경)";
+                String content = latest.getNotificationContent() != null ? latest.getNotificationContent() : "";
+                if (content.length() + suffix.length() > CONTENT_MAX_LENGTH) {
+                    content = content.substring(0, CONTENT_MAX_LENGTH - suffix.length());
+                }
+                latest.setNotificationContent(content + suffix);
+            }
+            return latest;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package net.scit.backend.notification.component;
+
+import net.scit.backend.notification.entity.NotificationEntity;
+
+import java.util.List;
+
+/**
+ * 저장된 알림을 다른 서버 노드에 연결된 SSE 구독자에게 전달하는 릴레이
+ *
+ * - local : 단일 노드 실행용 (아무것도 전달하지 않음)
+ * - redis : Redis pub/sub 으로 다른 노드의 SseEmitterRegistry에 전달
+ *
+ * notification.relay.type 속성으로 구현체를 선택한다.
+ */
+public interface NotificationRelay {
+
+    /**
+     * 이 노드에서 전송한 알림을 다른 노드로 전달
+     *
+     * @param notifications 저장이 끝난 알림 (notificationNumber 포함)
+     */
+    void publish(List<NotificationEntity> notifications);
+
+    /**
+     * 사용자의 SSE 연결을 다른 노드에서도 모두 닫도록 전달 (로그아웃 시)
+     *
+     * @param email 연결을 닫을 사용자
+     */
+    void publishDisconnect(String email);
+}
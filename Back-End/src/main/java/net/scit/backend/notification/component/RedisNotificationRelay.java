@@ -0,0 +1,161 @@
+package net.scit.backend.notification.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import net.scit.backend.notification.entity.NotificationEntity;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis pub/sub 기반 SSE 알림 릴레이
+ *
+ * - 알림을 저장한 노드는 자신의 연결에 바로 보내고, 같은 알림을 Redis 채널에 발행한다.
+ * - 다른 노드는 이를 받아 자신에게 연결된 수신자(SseEmitterRegistry)에게만 전송한다.
+ *   (한 사용자가 여러 노드에 연결되어 있어도 각 노드가 자기 연결만 맡음)
+ * - 로그아웃 시 연결 종료 요청은 DISCONNECT_TOPIC으로 발행해, 다른 노드에 있는 같은 사용자의 연결도 닫는다.
+ * - 자신이 발행한 메시지는 건너뛴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.relay.type", havingValue = "redis")
+public class RedisNotificationRelay implements NotificationRelay, MessageListener {
+
+    public static final String TOPIC = "notification:sse";
+    public static final String DISCONNECT_TOPIC = "notification:sse:disconnect";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final SseEmitterRegistry sseEmitterRegistry;
+    private final ObjectMapper objectMapper;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Counter publishFailureCounter;
+
+    public RedisNotificationRelay(StringRedisTemplate stringRedisTemplate,
+                                  RedisMessageListenerContainer listenerContainer,
+                                  SseEmitterRegistry sseEmitterRegistry,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.sseEmitterRegistry = sseEmitterRegistry;
+        this.objectMapper = objectMapper;
+        this.publishFailureCounter = Counter.builder("notification.relay.publish.failures")
+                .description("Redis 발행에 실패한 알림 릴레이 메시지 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, List.of(new ChannelTopic(TOPIC), new ChannelTopic(DISCONNECT_TOPIC)));
+        log.info("✅ SSE 알림 릴레이 구독 시작: node={}", nodeId);
+    }
+
+    @Override
+    public void publish(List<NotificationEntity> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.convertAndSend(TOPIC,
+                    objectMapper.writeValueAsString(new RelayEnvelope(nodeId, notifications)));
+        } catch (Exception e) {
+            // 릴레이 실패가 로컬 전송과 저장까지 막지 않도록 로그만 남김 (알림은 목록 조회로 확인 가능)
+            publishFailureCounter.increment();
+            log.error("❌ SSE 알림 릴레이 발행 실패: {}건 - {}", notifications.size(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void publishDisconnect(String email) {
+        try {
+            stringRedisTemplate.convertAndSend(DISCONNECT_TOPIC,
+                    objectMapper.writeValueAsString(new DisconnectEnvelope(nodeId, email)));
+        } catch (Exception e) {
+            // 다른 노드의 연결은 타임아웃 또는 다음 전송 실패 시 정리됨
+            publishFailureCounter.increment();
+            log.error("❌ SSE 연결 종료 릴레이 발행 실패: {} - {}", email, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드에서 발행한 알림을 이 노드의 연결에 전송하거나, 연결 종료 요청을 처리
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        if (DISCONNECT_TOPIC.equals(channel)) {
+            onDisconnect(message);
+            return;
+        }
+        try {
+            RelayEnvelope envelope = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), RelayEnvelope.class);
+
+            if (nodeId.equals(envelope.getOrigin())) {
+                return; // 자신이 발행한 메시지
+            }
+            int receivers = sseEmitterRegistry.deliver(envelope.getNotifications());
+            if (receivers > 0) {
+                log.info("📢 릴레이 알림 전송: {}건, 이 노드 수신자 {}명", envelope.getNotifications().size(), receivers);
+            }
+        } catch (Exception e) {
+            log.error("❌ SSE 알림 릴레이 수신 처리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void onDisconnect(Message message) {
+        try {
+            DisconnectEnvelope envelope = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), DisconnectEnvelope.class);
+
+            if (nodeId.equals(envelope.getOrigin()) || !sseEmitterRegistry.hasConnection(envelope.getEmail())) {
+                return; // 자신이 발행했거나 이 노드에 연결이 없음
+            }
+            sseEmitterRegistry.removeAll(envelope.getEmail());
+            log.info("🛑 릴레이 연결 종료: {}", envelope.getEmail());
+        } catch (Exception e) {
+            log.error("❌ SSE 연결 종료 릴레이 수신 처리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Redis로 주고받는 릴레이 메시지
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RelayEnvelope {
+        private String origin;                         // 발행한 노드 ID
+        private List<NotificationEntity> notifications; // 저장된 알림
+    }
+
+    /**
+     * 연결 종료 요청 메시지
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DisconnectEnvelope {
+        private String origin; // 발행한 노드 ID
+        private String email;  // 연결을 닫을 사용자
+    }
+}
@@ -0,0 +1,330 @@
+package net.scit.backend.notification.component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.scit.backend.notification.entity.NotificationEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이 노드에 연결된 SSE 알림 연결 목록 (이메일 -> 연결 ID -> SseEmitter)
+ *
+ * - 한 사용자가 여러 탭, 여러 기기로 동시에 구독할 수 있다. (max-connections-per-user를 넘으면 가장 오래된 연결을 닫음)
+ * - 전송에 실패한 연결만 제거하고 같은 사용자의 다른 연결은 유지한다.
+ * - 알림 이벤트 ID는 notificationNumber이므로 재연결 시 Last-Event-ID로 놓친 알림만 다시 보낼 수 있다.
+ * - 새 연결은 초기 전송(기준점, 놓친 알림 재전송)을 마치고 activate를 호출할 때까지 실시간 알림을 모아 두었다가
+ *   재전송한 번호 이후 것만 보낸다. (실시간 알림이 재전송 알림보다 먼저 나가 Last-Event-ID가 뒤로 가지 않도록)
+ * - 연결 만료(timeout-ms)와 재연결 대기(reconnect-ms)에 무작위 지연을 더해, 배포 직후처럼
+ *   한꺼번에 연결된 사용자들이 같은 시각에 다시 몰려오지 않도록 한다.
+ * - heartbeat-interval-ms마다 주석 이벤트를 보내 프록시가 유휴 연결을 끊지 않게 한다.
+ *   느린 연결에 쓰느라 막혀도 다른 @Scheduled 작업이 밀리지 않도록 전용 스레드에서 보낸다.
+ * - 지표: notification.sse.connections, notification.sse.users, notification.sse.send.failures
+ */
+@Slf4j
+@Component
+public class SseEmitterRegistry {
+
+    private static final int PENDING_LIMIT = 1000; // 초기 전송 중 연결별로 모아 둘 최대 알림 수
+
+    private final long timeoutMs;
+    private final long timeoutJitterMs;
+    private final long reconnectMs;
+    private final long reconnectJitterMs;
+    private final int maxConnectionsPerUser;
+
+    // 사용자별 맵은 연결 순서를 유지하는 LinkedHashMap이며, 바깥 맵의 compute 안에서만 읽고 바꾼다
+    private final Map<String, Map<String, Connection>> emitters = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final Counter sendFailureCounter;
+    private final ScheduledExecutorService heartbeatScheduler;
+
+    public SseEmitterRegistry(MeterRegistry meterRegistry,
+                              @Value("${notification.sse.timeout-ms:600000}") long timeoutMs,
+                              @Value("${notification.sse.timeout-jitter-ms:300000}") long timeoutJitterMs,
+                              @Value("${notification.sse.reconnect-ms:3000}") long reconnectMs,
+                              @Value("${notification.sse.reconnect-jitter-ms:7000}") long reconnectJitterMs,
+                              @Value("${notification.sse.max-connections-per-user:5}") int maxConnectionsPerUser,
+                              @Value("${notification.sse.heartbeat-interval-ms:25000}") long heartbeatIntervalMs) {
+        this.timeoutMs = timeoutMs;
+        this.timeoutJitterMs = timeoutJitterMs;
+        this.reconnectMs = reconnectMs;
+        this.reconnectJitterMs = reconnectJitterMs;
+        this.maxConnectionsPerUser = Math.max(1, maxConnectionsPerUser);
+
+        Gauge.builder("notification.sse.connections", connectionCount, AtomicInteger::get)
+                .description("이 노드에 열려 있는 SSE 연결 수")
+                .register(meterRegistry);
+        Gauge.builder("notification.sse.users", emitters, Map::size)
+                .description("이 노드에 SSE로 연결된 사용자 수")
+                .register(meterRegistry);
+        this.sendFailureCounter = Counter.builder("notification.sse.send.failures")
+                .description("전송 실패로 닫은 SSE 연결 수")
+                .register(meterRegistry);
+
+        this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "sse-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeatScheduler.scheduleWithFixedDelay(this::sendHeartbeats,
+                heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatScheduler.shutdownNow();
+    }
+
+    /**
+     * 새 SSE 연결 등록 (기존 연결은 유지)
+     * activate를 호출하기 전까지 이 연결로 오는 알림은 보내지 않고 모아 둔다.
+     */
+    public SseEmitter register(String email) {
+        String connectionId = UUID.randomUUID().toString();
+        SseEmitter emitter = createEmitter(timeoutMs + jitter(timeoutJitterMs));
+        Connection connection = new Connection(emitter);
+
+        emitter.onCompletion(() -> {
+            log.info("🛑 SSE 연결 종료: {} ({})", email, connectionId);
+            remove(email, connectionId);
+        });
+        emitter.onTimeout(() -> {
+            log.warn("⚠️ SSE 타임아웃 발생: {} ({})", email, connectionId);
+            remove(email, connectionId);
+        });
+        emitter.onError(ex -> {
+            log.error("🚨 SSE 오류 발생: {} ({}) - {}", email, connectionId, ex.getMessage());
+            remove(email, connectionId);
+        });
+
+        List<SseEmitter> evicted = new ArrayList<>(1);
+        Map<String, Connection> connections = emitters.compute(email, (k, current) -> {
+            Map<String, Connection> map = current != null ? current : new LinkedHashMap<>();
+            if (map.size() >= maxConnectionsPerUser) {
+                String oldest = map.keySet().iterator().next();
+                evicted.add(map.remove(oldest).emitter);
+                connectionCount.decrementAndGet();
+            }
+            map.put(connectionId, connection);
+            connectionCount.incrementAndGet();
+            return map;
+        });
+        evicted.forEach(this::complete);
+
+        log.info("✅ SSE 연결 등록: {} ({}), 사용자 연결 {}개", email, connectionId, connections.size());
+        return emitter;
+    }
+
+    /**
+     * 초기 전송을 마친 연결 활성화
+     * 등록 후 모아 둔 알림 중 초기 전송에서 다시 보낸 번호만 빼고 보내며, 이후 알림은 바로 보낸다.
+     * (알림 번호는 커밋 순서와 다를 수 있으므로 가장 큰 번호 기준으로 건너뛰지 않음)
+     *
+     * @param replayedIds 초기 전송에서 다시 보낸 알림 번호
+     */
+    public void activate(String email, SseEmitter emitter, Set<Long> replayedIds) {
+        Map<String, Connection> snapshot = snapshot(email);
+        snapshot.forEach((connectionId, connection) -> {
+            if (connection.emitter != emitter) {
+                return;
+            }
+            try {
+                synchronized (connection) {
+                    List<NotificationEntity> buffered = connection.pending;
+                    connection.pending = null;
+                    for (NotificationEntity notification : buffered) {
+                        Long number = notification.getNotificationNumber();
+                        if (number == null || !replayedIds.contains(number)) {
+                            emitter.send(toEvent(notification));
+                        }
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                sendFailureCounter.increment();
+                log.error("❌ SSE 대기 알림 전송 실패: {} ({}) - {}", email, connectionId, e.getMessage());
+                remove(email, connectionId);
+            }
+        });
+    }
+
+    /**
+     * 연결 하나 제거
+     */
+    public void remove(String email, String connectionId) {
+        List<SseEmitter> removed = new ArrayList<>(1);
+        emitters.computeIfPresent(email, (k, connections) -> {
+            Connection connection = connections.remove(connectionId);
+            if (connection != null) {
+                removed.add(connection.emitter);
+                connectionCount.decrementAndGet();
+            }
+            return connections.isEmpty() ? null : connections;
+        });
+        removed.forEach(this::complete);
+    }
+
+    /**
+     * 사용자의 모든 연결 제거 (로그아웃 시)
+     */
+    public void removeAll(String email) {
+        List<SseEmitter> removed = new ArrayList<>();
+        emitters.computeIfPresent(email, (k, connections) -> {
+            connections.values().forEach(connection -> removed.add(connection.emitter));
+            connectionCount.addAndGet(-connections.size());
+            return null;
+        });
+        if (removed.isEmpty()) {
+            log.warn("⚠️ 제거할 Emitter가 존재하지 않음: {}", email);
+            return;
+        }
+        removed.forEach(this::complete);
+        log.info("🛑 SSE Emitter 제거 완료: {} ({}개)", email, removed.size());
+    }
+
+    /**
+     * 클라이언트에 알려 줄 재연결 대기 시간 (SSE retry 필드)
+     */
+    public long nextReconnectMs() {
+        return reconnectMs + jitter(reconnectJitterMs);
+    }
+
+    public boolean hasConnection(String email) {
+        return emitters.containsKey(email);
+    }
+
+    /**
+     * 이 노드에 연결된 수신자에게만 알림 전송 (수신자별로 이벤트를 모아 연결마다 한 번에 씀)
+     *
+     * @return 전송한 수신자 수
+     */
+    public int deliver(List<NotificationEntity> notifications) {
+        Map<String, List<NotificationEntity>> byReceiver = new LinkedHashMap<>();
+        for (NotificationEntity notification : notifications) {
+            if (emitters.containsKey(notification.getReceiverEmail())) {
+                byReceiver.computeIfAbsent(notification.getReceiverEmail(), k -> new ArrayList<>()).add(notification);
+            }
+        }
+        byReceiver.forEach((email, received) -> {
+            Set<ResponseBodyEmitter.DataWithMediaType> frames = new LinkedHashSet<>();
+            received.forEach(notification -> frames.addAll(toEvent(notification).build()));
+            sendToReceiver(email, frames, received);
+        });
+        return byReceiver.size();
+    }
+
+    /**
+     * 알림 이벤트 (ID = notificationNumber)
+     */
+    public static SseEmitter.SseEventBuilder toEvent(NotificationEntity notification) {
+        SseEmitter.SseEventBuilder event = SseEmitter.event().name("notification").data(notification);
+        if (notification.getNotificationNumber() != null) {
+            event.id(String.valueOf(notification.getNotificationNumber()));
+        }
+        return event;
+    }
+
+    /**
+     * 모든 연결에 heartbeat 주석 전송 (끊긴 연결은 이때 정리됨, 초기 전송 중인 연결은 건너뜀)
+     */
+    public void sendHeartbeats() {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        try {
+            Set<ResponseBodyEmitter.DataWithMediaType> heartbeat = SseEmitter.event().comment("heartbeat").build();
+            for (String email : emitters.keySet()) {
+                sendToReceiver(email, heartbeat, List.of());
+            }
+        } catch (RuntimeException e) {
+            // 예외로 반복 작업이 멈추지 않도록 로그만 남김
+            log.error("❌ SSE heartbeat 전송 오류: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 연결 생성 (테스트에서 전송 내용을 확인할 수 있도록 분리)
+     */
+    SseEmitter createEmitter(long timeout) {
+        return new SseEmitter(timeout);
+    }
+
+    /**
+     * 사용자의 모든 연결에 전송 (초기 전송 중인 연결에는 notifications만 모아 둠)
+     */
+    private void sendToReceiver(String email, Set<ResponseBodyEmitter.DataWithMediaType> frames,
+                                List<NotificationEntity> notifications) {
+        snapshot(email).forEach((connectionId, connection) -> {
+            try {
+                synchronized (connection) {
+                    if (connection.pending != null) {
+                        if (connection.pending.size() + notifications.size() <= PENDING_LIMIT) {
+                            connection.pending.addAll(notifications);
+                        } else {
+                            log.warn("⚠️ SSE 초기 전송 대기 알림 초과, 버림: {} ({})", email, connectionId);
+                        }
+                        return;
+                    }
+                    connection.emitter.send(frames);
+                }
+            } catch (IOException | IllegalStateException e) {
+                sendFailureCounter.increment();
+                log.error("❌ SSE 알림 전송 실패: {} ({}) - {}", email, connectionId, e.getMessage());
+                remove(email, connectionId);
+            }
+        });
+    }
+
+    private Map<String, Connection> snapshot(String email) {
+        Map<String, Connection> snapshot = new LinkedHashMap<>();
+        emitters.computeIfPresent(email, (k, connections) -> {
+            snapshot.putAll(connections);
+            return connections;
+        });
+        return snapshot;
+    }
+
+    private static long jitter(long bound) {
+        return bound > 0 ? ThreadLocalRandom.current().nextLong(bound + 1) : 0L;
+    }
+
+    private void complete(SseEmitter emitter) {
+        try {
+            emitter.complete();
+        } catch (Exception e) {
+            log.warn("⚠️ Emitter 제거 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 연결 하나 (pending은 초기 전송 중 모아 둔 알림이며, 활성화되면 null)
+     * 전송과 활성화는 연결 객체로 동기화해 순서가 섞이지 않게 한다.
+     */
+    private static final class Connection {
+        private final SseEmitter emitter;
+        private List<NotificationEntity> pending = new ArrayList<>();
+
+        private Connection(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+}
@@ -16,7 +16,6 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 import io.swagger.v3.oas.annotations.Operation;
@@ -36,9 +35,12 @@ public class NotificationController {
     private final NotificationService notificationService;
     private final JwtTokenProvider jwtTokenProvider;
 
-    @Operation(summary = "SSE 알림 구독", description = "SSE를 이용해 알림을 실시간으로 수신합니다.")
+    @Operation(summary = "SSE 알림 구독", description = "SSE를 이용해 알림을 실시간으로 수신합니다. 재연결 시 Last-Event-ID 이후 놓친 알림만 다시 전송합니다.")
     @GetMapping("/subscribe")
-    public SseEmitter subscribe(@RequestParam("token") String token, HttpServletResponse response) {
+    public SseEmitter subscribe(@RequestParam("token") String token,
+                                @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+                                @RequestParam(value = "lastEventId", required = false) String lastEventIdParam,
+                                HttpServletResponse response) {
         log.info("📡 SSE 구독 요청 시작: token={}", token);
 
         if (!jwtTokenProvider.validateToken(token)) {
@@ -63,27 +65,23 @@ public class NotificationController {
         response.setHeader("Cache-Control", "no-cache"); // 캐싱 방지
 
         // SSEEmitter 생성 및 등록
-        SseEmitter emitter = notificationService.subscribe(email);
+        // 재연결이면 Last-Event-ID(브라우저 자동 재연결) 또는 lastEventId 파라미터(새 EventSource) 이후 알림만 다시 받음
+        Long lastEventId = parseEventId(lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam);
+        SseEmitter emitter = notificationService.subscribe(email, lastEventId);
 
-        // 기존 안 읽은 알림을 초기 데이터로 전송
-        List<NotificationEntity> unreadNotifications = notificationService.getUnreadNotifications(email);
+        return emitter;
+    }
+
+    private Long parseEventId(String eventId) {
+        if (eventId == null || eventId.isBlank()) {
+            return null;
+        }
         try {
-            if (unreadNotifications != null && !unreadNotifications.isEmpty()) {
-                if (notificationService.hasEmitter(email)) { // ✅ 변경된 메서드 호출
-                    emitter.send(SseEmitter.event().name("HISTORY").data(unreadNotifications));
-                    log.info("✅ 초기 알림 데이터 전송 완료 ({}개)", unreadNotifications.size());
-                } else {
-                    log.warn("⚠️ Emitter가 이미 닫힘: 알림 데이터 전송 안 함 - {}", email);
-                }
-            }
-        } catch (IOException e) {
-            log.error("❌ SSE 데이터 전송 오류: {}", e.getMessage());
-            emitter.completeWithError(e);
+            return Long.parseLong(eventId.trim());
+        } catch (NumberFormatException e) {
+            log.warn("⚠️ 잘못된 Last-Event-ID 무시: {}", eventId);
+            return null;
         }
-
-
-
-        return emitter;
     }
 
     @Operation(summary = "로그아웃 알림", description = "SSE를 이용해 로그아웃 알림을 실시간으로 수신합니다.")
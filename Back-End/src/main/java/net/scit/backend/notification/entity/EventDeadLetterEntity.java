@@ -0,0 +1,56 @@
+package net.scit.backend.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재시도 후에도 처리하지 못한 도메인 이벤트 (알림 누락 확인 및 재처리용)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "event_dead_letter",
+        indexes = @Index(name = "idx_event_dead_letter_failed_at", columnList = "failed_at"))
+public class EventDeadLetterEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long deadLetterNumber;
+
+    @Column(nullable = false, length = 100)
+    private String listenerName; // 실패한 리스너
+
+    @Column(nullable = false, length = 100)
+    private String eventClass; // 이벤트 클래스 이름
+
+    @Column(length = 100)
+    private String notificationType; // 알림 유형 (ex. schedule_create)
+
+    private Long entityId; // 변경된 엔티티 ID
+
+    private Long wsId; // 워크스페이스 ID (알림 묶음 실패 시)
+
+    @Column(length = 255)
+    private String receiverEmail; // 알림 수신자 (알림 묶음 실패 시)
+
+    @Column(length = 255)
+    private String updatedBy; // 이벤트를 발생시킨 사용자
+
+    @Column(length = 500)
+    private String notificationContent; // 알림 내용
+
+    @Column(length = 1000)
+    private String errorMessage; // 마지막 실패 원인
+
+    private int attempts; // 시도 횟수
+
+    @Column(nullable = false)
+    private LocalDateTime failedAt;
+}
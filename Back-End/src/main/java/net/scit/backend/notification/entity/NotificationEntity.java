@@ -6,7 +6,8 @@ import java.time.LocalDateTime;
 
 @Data
 @Entity
-@Table(name = "notification")
+@Table(name = "notification",
+        indexes = @Index(name = "idx_notification_receiver_number", columnList = "receiver_email, notification_number"))
 public class NotificationEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
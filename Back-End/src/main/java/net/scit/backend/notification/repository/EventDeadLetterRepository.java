@@ -0,0 +1,9 @@
+package net.scit.backend.notification.repository;
+
+import net.scit.backend.notification.entity.EventDeadLetterEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EventDeadLetterRepository extends JpaRepository<EventDeadLetterEntity, Long> {
+}
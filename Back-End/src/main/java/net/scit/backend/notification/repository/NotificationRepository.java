@@ -2,6 +2,7 @@ package net.scit.backend.notification.repository;
 
 import jakarta.transaction.Transactional;
 import net.scit.backend.notification.entity.NotificationEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -21,6 +22,18 @@ public interface NotificationRepository extends JpaRepository<NotificationEntity
     List<NotificationEntity> findByReceiverEmailAndNotificationStatusTrueOrderByNotificationDateDesc(String receiverEmail);
 
 
+    // SSE 재연결 시 Last-Event-ID 이후 놓친 안 읽은 알림 (idx_notification_receiver_number 사용)
+    @Query("SELECT n FROM NotificationEntity n WHERE n.receiverEmail = :receiverEmail "
+            + "AND n.notificationNumber > :lastNumber AND n.notificationStatus = false "
+            + "ORDER BY n.notificationNumber ASC")
+    List<NotificationEntity> findUnreadAfter(@Param("receiverEmail") String receiverEmail,
+                                             @Param("lastNumber") Long lastNumber,
+                                             Pageable pageable);
+
+    // 사용자의 가장 최근 알림 번호 (SSE 최초 연결 시 이벤트 ID 기준점)
+    @Query("SELECT MAX(n.notificationNumber) FROM NotificationEntity n WHERE n.receiverEmail = :receiverEmail")
+    Long findMaxNotificationNumber(@Param("receiverEmail") String receiverEmail);
+
     // Bulk update: 해당 사용자의 모든 unread 알림을 한 번의 쿼리로 읽음 처리
     @Modifying
     @Query("UPDATE NotificationEntity n SET n.notificationStatus = true WHERE n.receiverEmail = :receiverEmail AND n.notificationStatus = false")
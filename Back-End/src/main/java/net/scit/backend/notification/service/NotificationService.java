@@ -10,19 +10,23 @@ public interface NotificationService {
     // 새 알림 생성 및 SSE 전송 (DTO 반환)
     NotificationResponseDTO createAndSendNotification(NotificationEntity notification);
 
+    // 여러 수신자 알림 일괄 생성 (JDBC 배치 저장) 및 SSE 일괄 전송
+    List<NotificationResponseDTO> createAndSendNotifications(List<NotificationEntity> notifications);
+
     // 새로운 SSE Emitter 추가
 //    void addEmitter(String email, SseEmitter emitter);
 
-    // SSE 구독(Emitter 생성)
-    SseEmitter subscribe(String receiverEmail);
+    // SSE 구독(Emitter 생성, 사용자당 여러 연결 허용)
+    // lastEventId가 있으면 그 이후 놓친 안 읽은 알림만 다시 보냄
+    SseEmitter subscribe(String receiverEmail, Long lastEventId);
 
-    // SSE Emitter 제거
+    // 사용자의 SSE Emitter 전체 제거 (이 노드)
     void removeEmitter(String email);
 
     // SSE 구독 해제(Emitter 제거)
     void unsubscribe(String receiverEmail);
 
-    // 단순 알림 전송 (SSE)
+    // 단순 알림 전송 (이 노드 SSE + 다른 노드로 릴레이)
     NotificationEntity sendNotification(NotificationEntity notification);
 
     // 읽지 않은 알림 조회 (페이징)
@@ -6,17 +6,35 @@ import lombok.extern.slf4j.Slf4j;
 import net.scit.backend.exception.CustomException;
 import net.scit.backend.exception.ErrorCode;
 import net.scit.backend.jwt.AuthUtil;
+import net.scit.backend.notification.component.NotificationRelay;
+import net.scit.backend.notification.component.SseEmitterRegistry;
 import net.scit.backend.notification.dto.NotificationResponseDTO;
 import net.scit.backend.notification.entity.NotificationEntity;
 import net.scit.backend.notification.repository.NotificationRepository;
 import net.scit.backend.notification.service.NotificationService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 
 
 @Service
@@ -24,33 +42,63 @@ import java.util.concurrent.ConcurrentHashMap;
 @Slf4j
 public class NotificationServiceImpl implements NotificationService {
 
-    private final NotificationRepository notificationRepository;
-    // 사용자 이메일을 키로, SseEmitter를 값으로 가지는 맵
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
-
-    @Override
-    public SseEmitter subscribe(String email) {
-        SseEmitter emitter = new SseEmitter(600_000L); // 10분 유지
+    private static final String INSERT_SQL =
+            "INSERT INTO notification (ws_id, sender_email, sender_nickname, receiver_email, receiver_nickname, "
+                    + "notification_name, notification_type, notification_status, notification_content, "
+                    + "notification_date, notification_url) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
 
-        removeEmitter(email); // 기존 연결 제거
-        emitters.put(email, emitter);
+    private final NotificationRepository notificationRepository;
+    private final JdbcTemplate jdbcTemplate;
 
-        // ✅ 클라이언트가 연결을 닫거나 타임아웃 시 안전하게 Emitter 제거
-        emitter.onCompletion(() -> {
-            log.info("🛑 SSE 연결 종료: {}", email);
-            removeEmitter(email);
-        });
+    @Value("${notification.fanout.batch-size:500}")
+    private int fanoutBatchSize; // JDBC 배치 한 번에 저장할 알림 수
 
-        emitter.onTimeout(() -> {
-            log.warn("⚠️ SSE 타임아웃 발생: {}", email);
-            removeEmitter(email);
-        });
+    // 이 노드의 SSE 연결 (사용자당 여러 연결)과 다른 노드로의 전달
+    private final SseEmitterRegistry sseEmitterRegistry;
+    private final NotificationRelay notificationRelay;
 
-        emitter.onError((ex) -> {
-            log.error("🚨 SSE 오류 발생: {} - {}", email, ex.getMessage());
-            removeEmitter(email);
-        });
+    @Value("${notification.sse.replay-limit:100}")
+    private int replayLimit; // 재연결 시 한 번에 다시 보낼 최대 알림 수
 
+    @Override
+    public SseEmitter subscribe(String email, Long lastEventId) {
+        // 기존 연결(다른 탭, 기기)은 그대로 두고 새 연결만 추가
+        // 등록을 먼저 해서 조회와 등록 사이에 커밋된 알림도 받도록 하고, 그동안 온 실시간 알림은
+        // 레지스트리가 모아 두었다가 초기 전송 뒤에 보냄 (재전송으로 이미 보낸 번호만 제외)
+        SseEmitter emitter = sseEmitterRegistry.register(email);
+        Set<Long> replayedIds = new HashSet<>();
+        try {
+            if (lastEventId == null) {
+                // 최초 연결: 목록은 클라이언트가 REST로 조회하므로 이벤트 ID 기준점과 재연결 대기 시간만 전송
+                Long latest = notificationRepository.findMaxNotificationNumber(email);
+                SseEmitter.SseEventBuilder connected = SseEmitter.event()
+                        .name("connected")
+                        .reconnectTime(sseEmitterRegistry.nextReconnectMs())
+                        .data(latest != null ? latest : 0L);
+                if (latest != null) {
+                    connected.id(String.valueOf(latest));
+                }
+                emitter.send(connected);
+            } else {
+                // 재연결: Last-Event-ID 이후 놓친 안 읽은 알림만 오래된 순으로 다시 전송
+                List<NotificationEntity> missed = notificationRepository.findUnreadAfter(
+                        email, lastEventId, PageRequest.of(0, replayLimit));
+                emitter.send(SseEmitter.event()
+                        .name("connected")
+                        .reconnectTime(sseEmitterRegistry.nextReconnectMs())
+                        .data(lastEventId));
+                for (NotificationEntity notification : missed) {
+                    emitter.send(SseEmitterRegistry.toEvent(notification));
+                    replayedIds.add(notification.getNotificationNumber());
+                }
+                log.info("✅ SSE 재연결: {} (Last-Event-ID={}), 다시 보낸 알림 {}개", email, lastEventId, missed.size());
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.error("❌ SSE 초기 데이터 전송 오류: {} - {}", email, e.getMessage());
+            emitter.completeWithError(e);
+        } finally {
+            sseEmitterRegistry.activate(email, emitter, replayedIds);
+        }
         return emitter;
     }
 
@@ -64,41 +112,125 @@ public class NotificationServiceImpl implements NotificationService {
 
     @Override
     public void removeEmitter(String email) {
-        if (!emitters.containsKey(email)) {
-            log.warn("⚠️ 제거할 Emitter가 존재하지 않음: {}", email);
-            return;
-        }
-
-        SseEmitter emitter = emitters.remove(email);
-        if (emitter != null) {
-            try {
-                emitter.complete();
-                log.info("🛑 SSE Emitter 제거 완료: {}", email);
-            } catch (Exception e) {
-                log.warn("⚠️ Emitter 제거 중 오류 발생: {}", e.getMessage());
-            }
-        }
+        sseEmitterRegistry.removeAll(email);
+        notificationRelay.publishDisconnect(email);
     }
 
 
 
+    // 로그아웃 시 호출: 이 노드와 다른 노드에 있는 연결을 모두 닫음
     @Override
     public void unsubscribe(String receiverEmail) {
-        SseEmitter emitter = emitters.remove(receiverEmail);
-        if (emitter != null) {
-            emitter.complete();
-        }
+        sseEmitterRegistry.removeAll(receiverEmail);
+        notificationRelay.publishDisconnect(receiverEmail);
     }
 
-    @Transactional
+    // 커밋 이후 리스너에서 호출되므로 항상 새 트랜잭션으로 저장
+    // (CallerRuns로 발행 스레드에서 실행되어도 이미 끝난 트랜잭션에 참여하지 않도록)
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
     @Override
     public NotificationResponseDTO createAndSendNotification(NotificationEntity notification) {
         NotificationEntity savedNotification = notificationRepository.saveAndFlush(notification);
         log.info("Notification created with ID: {}", savedNotification.getNotificationNumber());
-        sendNotification(savedNotification);
+        afterCommit(() -> sendNotification(savedNotification));
         return convertToResponseDTO(savedNotification);
     }
 
+    /**
+     * 여러 수신자 알림을 JDBC 배치로 저장한 뒤 커밋되면 SSE로 일괄 전송
+     * 알림마다 saveAndFlush + 전송을 반복하지 않고, fanoutBatchSize 단위 INSERT 배치로 저장한다.
+     * (notification_number는 AUTO_INCREMENT 그대로 두고, 생성된 키를 배치 결과에서 받아 채움)
+     */
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    @Override
+    public List<NotificationResponseDTO> createAndSendNotifications(List<NotificationEntity> notifications) {
+        if (notifications.isEmpty()) {
+            return List.of();
+        }
+        for (int from = 0; from < notifications.size(); from += fanoutBatchSize) {
+            insertBatch(notifications.subList(from, Math.min(from + fanoutBatchSize, notifications.size())));
+        }
+        log.info("✅ 알림 일괄 저장 완료: {}건", notifications.size());
+
+        afterCommit(() -> sendNotifications(notifications));
+        return notifications.stream().map(this::convertToResponseDTO).toList();
+    }
+
+    private void insertBatch(List<NotificationEntity> batch) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        NotificationEntity notification = batch.get(i);
+                        if (notification.getNotificationDate() == null) {
+                            notification.setNotificationDate(LocalDateTime.now());
+                        }
+                        ps.setObject(1, notification.getWsId(), Types.BIGINT);
+                        ps.setString(2, notification.getSenderEmail());
+                        ps.setString(3, notification.getSenderNickname());
+                        ps.setString(4, notification.getReceiverEmail());
+                        ps.setString(5, notification.getReceiverNickname());
+                        ps.setString(6, notification.getNotificationName());
+                        ps.setString(7, notification.getNotificationType());
+                        ps.setBoolean(8, notification.isNotificationStatus());
+                        ps.setString(9, notification.getNotificationContent());
+                        ps.setTimestamp(10, Timestamp.valueOf(notification.getNotificationDate()));
+                        ps.setString(11, notification.getNotificationUrl());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batch.size();
+                    }
+                },
+                keyHolder);
+
+        // 생성된 키는 INSERT 순서대로 반환됨
+        Iterator<Map<String, Object>> keys = keyHolder.getKeyList().iterator();
+        for (NotificationEntity notification : batch) {
+            if (!keys.hasNext()) {
+                break;
+            }
+            Object key = keys.next().values().stream().findFirst().orElse(null);
+            notification.setNotificationNumber(key instanceof Number number ? number.longValue() : null);
+        }
+    }
+
+    /**
+     * 커밋된 뒤에 전송 (롤백될 알림 번호를 보내지 않고, 재연결 재전송 조회에 보이는 알림만 보냄)
+     * 전송 실패는 저장 결과에 영향을 주지 않도록 여기서 처리한다. (예외를 던지면 호출 측이 다시 저장함)
+     */
+    private void afterCommit(Runnable send) {
+        Runnable guarded = () -> {
+            try {
+                send.run();
+            } catch (Exception e) {
+                log.error("❌ 알림 전송 실패: {}", e.getMessage(), e);
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            guarded.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                guarded.run();
+            }
+        });
+    }
+
+    /**
+     * 이 노드에 연결된 수신자에게 일괄 전송하고, 다른 노드에 연결된 수신자를 위해 릴레이로 발행
+     */
+    private void sendNotifications(List<NotificationEntity> notifications) {
+        int receivers = sseEmitterRegistry.deliver(notifications);
+        notificationRelay.publish(notifications);
+        log.info("📢 알림 일괄 전송: 전체 {}건, 이 노드 SSE 연결 수신자 {}명", notifications.size(), receivers);
+    }
+
     private NotificationResponseDTO convertToResponseDTO(NotificationEntity notification) {
         return new NotificationResponseDTO(
                 notification.getNotificationNumber(),
@@ -117,23 +249,12 @@ public class NotificationServiceImpl implements NotificationService {
     @Override
     public NotificationEntity sendNotification(NotificationEntity notification) {
         String receiverEmail = notification.getReceiverEmail();
-        SseEmitter emitter = emitters.get(receiverEmail);
-
-        if (emitter != null) {
-            try {
-                if (!emitters.containsKey(receiverEmail)) {
-                    log.warn("⚠️ 알림 전송 실패: Emitter가 이미 닫혀 있음 - {}", receiverEmail);
-                    return notification;
-                }
-                emitter.send(SseEmitter.event().name("notification").data(notification));
-                log.info("✅ 알림 전송 완료: {} -> {}", notification.getNotificationName(), receiverEmail);
-            } catch (IOException | IllegalStateException e) {
-                log.error("❌ SSE 알림 전송 실패: {} - {}", receiverEmail, e.getMessage());
-                removeEmitter(receiverEmail); // 🚀 에러 발생 시 안전하게 제거
-            }
+        if (sseEmitterRegistry.deliver(List.of(notification)) > 0) {
+            log.info("✅ 알림 전송 완료: {} -> {}", notification.getNotificationName(), receiverEmail);
         } else {
-            log.warn("⚠️ 해당 사용자 SSE 연결 없음: {}", receiverEmail);
+            log.debug("해당 사용자 SSE 연결 없음 (이 노드): {}", receiverEmail);
         }
+        notificationRelay.publish(List.of(notification));
         return notification;
     }
 
@@ -224,7 +345,7 @@ public class NotificationServiceImpl implements NotificationService {
 
     @Override
     public boolean hasEmitter(String email) {
-        return emitters.containsKey(email);
+        return sseEmitterRegistry.hasConnection(email);
     }
 
 }
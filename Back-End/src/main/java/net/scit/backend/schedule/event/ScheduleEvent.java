@@ -12,8 +12,16 @@ public class ScheduleEvent implements BasedUpdatedEvent {
     private final String senderNickname;   // 이벤트 발생자의 닉네임
     private final String eventType;        // 이벤트 타입 ("create", "delete", "info_update", "assignee_update", "status_update")
 
+    // 커밋 이후 다른 스레드에서 처리되므로 연관 엔티티 대신 발행 시점 값을 보관
+    private final Long wsId;
+    private final String wsName;
+    private final Long scheduleNumber;
+
     public ScheduleEvent(ScheduleEntity schedule, String senderEmail, String senderNickname, String eventType) {
         this.schedule = schedule;
+        this.wsId = schedule.getWorkspace().getWsId();
+        this.wsName = schedule.getWorkspace().getWsName();
+        this.scheduleNumber = schedule.getScheduleNumber();
         this.senderEmail = senderEmail;
         this.senderNickname = senderNickname;
         this.eventType = eventType;
@@ -26,13 +34,11 @@ public class ScheduleEvent implements BasedUpdatedEvent {
 
     @Override
     public Long getEntityId() {
-        return schedule.getScheduleNumber();
+        return scheduleNumber;
     }
 
     @Override
     public String getNotificationName() {
-        // 수정된 부분: 워크스페이스 이름(wsName) 포함
-        String wsName = schedule.getWorkspace().getWsName();
         return switch (eventType) {
             case "create" -> "스케줄 등록";
             case "delete" -> "스케줄 삭제";
@@ -50,15 +56,13 @@ public class ScheduleEvent implements BasedUpdatedEvent {
 
     @Override
     public String getNotificationContent() {
-        // 수정된 부분: 워크스페이스 이름(wsName) 포함
-        String wsName = schedule.getWorkspace().getWsName();
         return switch (eventType) {
             case "create" -> String.format("%s 워크스페이스에서 새로운 스케줄이 생성되었습니다.", wsName);
             case "delete" -> String.format("%s 워크스페이스에서 스케줄이 삭제되었습니다.", wsName);
             case "info_update" -> String.format("%s 워크스페이스에서 스케줄 정보가 수정되었습니다.", wsName);
             case "assignee_update" -> String.format("%s 워크스페이스에서 스케줄 담당자가 변경되었습니다.", wsName);
             case "status_update" ->
-                    String.format("%s 워크스페이스에서 스케줄 [%d]의 상태가 변경되었습니다.", wsName, schedule.getScheduleNumber());
+                    String.format("%s 워크스페이스에서 스케줄 [%d]의 상태가 변경되었습니다.", wsName, scheduleNumber);
             default -> "스케줄 관련 이벤트가 발생하였습니다.";
         };
     }
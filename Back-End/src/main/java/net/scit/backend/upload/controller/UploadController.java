@@ -0,0 +1,49 @@
+package net.scit.backend.upload.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import net.scit.backend.upload.dto.UploadCompleteDTO;
+import net.scit.backend.upload.dto.UploadIntentDTO;
+import net.scit.backend.upload.dto.UploadIntentRequestDTO;
+import net.scit.backend.upload.service.UploadService;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/upload")
+@Tag(name = "Upload API", description = "S3 직접 업로드(pre-signed URL) API")
+public class UploadController {
+
+    private final UploadService uploadService;
+
+    @PostMapping("/intent")
+    @Operation(
+        summary = "직접 업로드 URL 발급",
+        description = "채널/DM/자료글 파일을 S3에 직접 올릴 수 있는 pre-signed PUT URL을 발급합니다.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "발급 성공", content = @Content(schema = @Schema(implementation = UploadIntentDTO.class)))
+        }
+    )
+    public UploadIntentDTO createIntent(@RequestBody UploadIntentRequestDTO request) {
+        return uploadService.createIntent(request);
+    }
+
+    @PostMapping("/complete/{uploadId}")
+    @Operation(
+        summary = "직접 업로드 완료",
+        description = "업로드된 파일의 크기와 Content-Type을 확인한 뒤 메시지 또는 자료글 파일로 저장합니다.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "완료 성공", content = @Content(schema = @Schema(implementation = UploadCompleteDTO.class)))
+        }
+    )
+    public UploadCompleteDTO complete(
+            @Parameter(description = "발급 시 받은 uploadId") @PathVariable("uploadId") String uploadId
+    ) {
+        return uploadService.complete(uploadId);
+    }
+}
@@ -0,0 +1,28 @@
+package net.scit.backend.upload.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 완료 확인을 기다리는 업로드 정보 (Redis에 만료 시간과 함께 저장)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PendingUploadDTO {
+
+    private String email;
+    private UploadTarget target;
+    private Long channelId;
+    private Long wsId;
+    private String receiver;
+    private Long dataNumber;
+
+    private String objectKey;
+    private String fileName;
+    private String contentType;
+    private long size;
+}
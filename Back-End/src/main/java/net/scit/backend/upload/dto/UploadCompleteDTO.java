@@ -0,0 +1,27 @@
+package net.scit.backend.upload.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import net.scit.backend.channel.DTO.MessageDTO;
+import net.scit.backend.dm.DTO.DmMessageDTO;
+
+/**
+ * 직접 업로드 완료 결과 (대상에 해당하는 필드만 채워짐)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UploadCompleteDTO {
+
+    private UploadTarget target;
+    private String fileUrl;
+    private String fileName;
+    private long size;
+
+    private MessageDTO message;        // CHANNEL: 저장된 파일 메시지 (STOMP로 브로드캐스트할 내용)
+    private DmMessageDTO dmMessage;    // DM: 저장 후 방에 전송된 메시지
+    private Long workdataFileNumber;   // WORKDATA: 저장된 첨부 파일 번호
+}
@@ -0,0 +1,27 @@
+package net.scit.backend.upload.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * pre-signed URL 발급 결과
+ * 클라이언트는 uploadUrl로 headers를 그대로 붙여 PUT 한 뒤 /api/upload/complete/{uploadId}를 호출한다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UploadIntentDTO {
+
+    private String uploadId;
+    private String objectKey;
+    private String uploadUrl;
+    private String method;
+    private Map<String, String> headers; // PUT 시 반드시 보내야 하는 헤더 (서명에 포함됨)
+    private LocalDateTime expiresAt;
+}
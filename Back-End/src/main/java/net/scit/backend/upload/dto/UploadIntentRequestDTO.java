@@ -0,0 +1,29 @@
+package net.scit.backend.upload.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * pre-signed URL 발급 요청
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UploadIntentRequestDTO {
+
+    private UploadTarget target;
+
+    private Long channelId;   // CHANNEL
+    private Long wsId;        // DM, WORKDATA
+    private String receiver;  // DM 받는 사람 이메일
+    private Long dataNumber;  // WORKDATA 자료글 번호
+
+    private String fileName;    // 원본 파일명
+    private String contentType; // 업로드할 Content-Type
+    private Long size;          // 파일 크기 (byte)
+}
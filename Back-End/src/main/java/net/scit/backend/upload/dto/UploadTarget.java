@@ -0,0 +1,10 @@
+package net.scit.backend.upload.dto;
+
+/**
+ * 직접 업로드한 파일을 연결할 대상
+ */
+public enum UploadTarget {
+    CHANNEL,  // 채널 파일 메시지 (channelId)
+    DM,       // DM 파일 메시지 (wsId, receiver)
+    WORKDATA  // 자료글 첨부 파일 (wsId, dataNumber)
+}
@@ -0,0 +1,12 @@
+package net.scit.backend.upload.service;
+
+import net.scit.backend.upload.dto.UploadCompleteDTO;
+import net.scit.backend.upload.dto.UploadIntentDTO;
+import net.scit.backend.upload.dto.UploadIntentRequestDTO;
+
+public interface UploadService {
+
+    UploadIntentDTO createIntent(UploadIntentRequestDTO request);
+
+    UploadCompleteDTO complete(String uploadId);
+}
@@ -0,0 +1,300 @@
+package net.scit.backend.upload.service.impl;
+
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import net.scit.backend.channel.DTO.MessageDTO;
+import net.scit.backend.channel.service.ChannelService;
+import net.scit.backend.common.component.S3Uploader;
+import net.scit.backend.dm.DTO.DmMessageDTO;
+import net.scit.backend.dm.service.DmService;
+import net.scit.backend.exception.CustomException;
+import net.scit.backend.exception.ErrorCode;
+import net.scit.backend.jwt.AuthUtil;
+import net.scit.backend.upload.dto.*;
+import net.scit.backend.upload.service.UploadService;
+import net.scit.backend.workdata.entity.WorkdataEntity;
+import net.scit.backend.workdata.repository.WorkdataRepository;
+import net.scit.backend.workdata.service.WorkdataService;
+import net.scit.backend.workspace.entity.WorkspaceChannelEntity;
+import net.scit.backend.workspace.repository.WorkspaceChannelRepository;
+import net.scit.backend.workspace.repository.WorkspaceMemberRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * pre-signed URL 직접 업로드 서비스
+ *
+ * 1. createIntent: 권한 확인 후 S3 키와 pre-signed PUT URL을 발급하고, 업로드 정보를 Redis(upload:intent:{uploadId})에 저장
+ * 2. 클라이언트가 S3에 직접 PUT (앱 서버는 파일 본문을 받지 않음)
+ * 3. complete: HEAD로 객체 존재, 크기, Content-Type을 확인한 뒤 대상 엔티티(채널/DM 메시지, 자료글 파일) 저장
+ *    처리 중에는 upload:intent:{uploadId}:claim 으로 중복 완료를 막고, 업로드 정보는 저장에 성공한 뒤에만 삭제한다.
+ *    (객체가 아직 없거나 저장 중 오류가 나면 같은 uploadId로 다시 완료할 수 있음)
+ */
+@Slf4j
+@Service
+public class UploadServiceImpl implements UploadService {
+
+    private static final String INTENT_KEY_PREFIX = "upload:intent:";
+    private static final String CLAIM_KEY_SUFFIX = ":claim";
+    private static final Duration CLAIM_TTL = Duration.ofMinutes(5); // 처리 중 서버가 죽어도 이후 다시 완료할 수 있도록 만료
+    private static final Duration INTENT_GRACE = Duration.ofMinutes(5); // URL 만료 직전에 끝난 업로드도 완료할 수 있도록 여유
+
+    private final S3Uploader s3Uploader;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final WorkspaceChannelRepository workspaceChannelRepository;
+    private final WorkspaceMemberRepository workspaceMemberRepository;
+    private final WorkdataRepository workdataRepository;
+    private final ChannelService channelService;
+    private final DmService dmService;
+    private final WorkdataService workdataService;
+    private final Duration expiry;
+    private final long maxSizeBytes;
+
+    public UploadServiceImpl(S3Uploader s3Uploader,
+                             StringRedisTemplate stringRedisTemplate,
+                             ObjectMapper objectMapper,
+                             WorkspaceChannelRepository workspaceChannelRepository,
+                             WorkspaceMemberRepository workspaceMemberRepository,
+                             WorkdataRepository workdataRepository,
+                             ChannelService channelService,
+                             DmService dmService,
+                             WorkdataService workdataService,
+                             @Value("${spring.cloud.s3.presign.expiry-minutes:15}") long expiryMinutes,
+                             @Value("${spring.cloud.s3.presign.max-size-bytes:1073741824}") long maxSizeBytes) {
+        this.s3Uploader = s3Uploader;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.workspaceChannelRepository = workspaceChannelRepository;
+        this.workspaceMemberRepository = workspaceMemberRepository;
+        this.workdataRepository = workdataRepository;
+        this.channelService = channelService;
+        this.dmService = dmService;
+        this.workdataService = workdataService;
+        this.expiry = Duration.ofMinutes(expiryMinutes);
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    /**
+     * 업로드 대상에 대한 권한을 확인하고 pre-signed PUT URL 발급
+     *
+     * @param request 업로드 대상과 파일 정보
+     * @return 업로드 URL, 필수 헤더, 완료 호출에 사용할 uploadId
+     */
+    @Override
+    public UploadIntentDTO createIntent(UploadIntentRequestDTO request) {
+        if (request.getTarget() == null || !StringUtils.hasText(request.getFileName())
+                || !StringUtils.hasText(request.getContentType()) || request.getSize() == null || request.getSize() <= 0) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+        if (request.getSize() > maxSizeBytes) {
+            throw new CustomException(ErrorCode.UPLOAD_SIZE_EXCEEDED);
+        }
+
+        String email = AuthUtil.getLoginUserId();
+        String objectKey = s3Uploader.createObjectKey(resolveDirectory(request, email), request.getFileName());
+
+        LocalDateTime expiresAt = LocalDateTime.now().plus(expiry);
+        String uploadUrl = s3Uploader.createPresignedPutUrl(objectKey, request.getContentType(),
+                Date.from(expiresAt.atZone(ZoneId.systemDefault()).toInstant())).toString();
+
+        String uploadId = UUID.randomUUID().toString();
+        PendingUploadDTO pending = PendingUploadDTO.builder()
+                .email(email)
+                .target(request.getTarget())
+                .channelId(request.getChannelId())
+                .wsId(request.getWsId())
+                .receiver(request.getReceiver())
+                .dataNumber(request.getDataNumber())
+                .objectKey(objectKey)
+                .fileName(request.getFileName())
+                .contentType(request.getContentType())
+                .size(request.getSize())
+                .build();
+        try {
+            stringRedisTemplate.opsForValue().set(INTENT_KEY_PREFIX + uploadId,
+                    objectMapper.writeValueAsString(pending), expiry.plus(INTENT_GRACE));
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.PARSING_ERROR);
+        }
+
+        log.info("📤 직접 업로드 URL 발급: uploadId={}, target={}, key={}", uploadId, request.getTarget(), objectKey);
+        return UploadIntentDTO.builder()
+                .uploadId(uploadId)
+                .objectKey(objectKey)
+                .uploadUrl(uploadUrl)
+                .method("PUT")
+                .headers(Map.of(
+                        HttpHeaders.CONTENT_TYPE, request.getContentType(),
+                        "x-amz-acl", "public-read"))
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    /**
+     * 직접 업로드 완료 처리: 업로드된 객체를 확인한 뒤 대상 엔티티 저장
+     * 같은 uploadId로는 한 번만 완료할 수 있다. (실패한 경우에는 다시 완료 가능)
+     *
+     * @param uploadId 발급 시 받은 uploadId
+     * @return 저장 결과
+     */
+    @Override
+    public UploadCompleteDTO complete(String uploadId) {
+        String email = AuthUtil.getLoginUserId();
+        PendingUploadDTO pending = claimIntent(uploadId, email);
+        try {
+            return completeClaimed(uploadId, email, pending);
+        } finally {
+            stringRedisTemplate.delete(INTENT_KEY_PREFIX + uploadId + CLAIM_KEY_SUFFIX);
+        }
+    }
+
+    /**
+     * 처리 중으로 표시한 업로드 검증 및 대상 엔티티 저장
+     */
+    private UploadCompleteDTO completeClaimed(String uploadId, String email, PendingUploadDTO pending) {
+        ObjectMetadata metadata = s3Uploader.getObjectMetadata(pending.getObjectKey());
+        if (metadata == null) {
+            log.warn("⚠️ 직접 업로드 완료 실패: 객체 없음 key={}", pending.getObjectKey());
+            throw new CustomException(ErrorCode.UPLOAD_VERIFICATION_FAILED);
+        }
+        if (metadata.getContentLength() != pending.getSize()
+                || !sameMediaType(metadata.getContentType(), pending.getContentType())) {
+            log.warn("⚠️ 직접 업로드 검증 실패: key={}, size {}/{}, type {}/{}", pending.getObjectKey(),
+                    metadata.getContentLength(), pending.getSize(), metadata.getContentType(), pending.getContentType());
+            s3Uploader.deleteFile(pending.getObjectKey());
+            stringRedisTemplate.delete(INTENT_KEY_PREFIX + uploadId); // 객체를 지웠으므로 다시 완료할 수 없음
+            throw new CustomException(ErrorCode.UPLOAD_VERIFICATION_FAILED);
+        }
+
+        String fileUrl = s3Uploader.getUrl(pending.getObjectKey());
+        UploadCompleteDTO.UploadCompleteDTOBuilder result = UploadCompleteDTO.builder()
+                .target(pending.getTarget())
+                .fileUrl(fileUrl)
+                .fileName(pending.getFileName())
+                .size(pending.getSize());
+
+        switch (pending.getTarget()) {
+            case CHANNEL -> {
+                MessageDTO message = channelService.saveFileMessage(email, pending.getChannelId(), fileUrl, pending.getFileName());
+                result.message(message);
+            }
+            case DM -> {
+                DmMessageDTO dmMessage = dmService.saveFileMessage(email, pending.getReceiver(), pending.getWsId(), fileUrl, pending.getFileName());
+                result.dmMessage(dmMessage);
+            }
+            case WORKDATA -> result.workdataFileNumber(
+                    workdataService.attachFile(pending.getWsId(), pending.getDataNumber(), fileUrl, pending.getFileName()));
+        }
+        // 저장에 성공한 뒤에만 업로드 정보 삭제 (처리 중 키를 풀기 전에 지워 중복 완료 방지)
+        stringRedisTemplate.delete(INTENT_KEY_PREFIX + uploadId);
+
+        log.info("✅ 직접 업로드 완료: uploadId={}, target={}, key={}", uploadId, pending.getTarget(), pending.getObjectKey());
+        return result.build();
+    }
+
+    // ----------- Helper Methods -----------
+
+    /**
+     * 대상별 권한 확인 후 S3 디렉토리 결정 (서버 경유 업로드와 같은 경로 사용)
+     */
+    private String resolveDirectory(UploadIntentRequestDTO request, String email) {
+        switch (request.getTarget()) {
+            case CHANNEL -> {
+                if (request.getChannelId() == null) {
+                    throw new CustomException(ErrorCode.INVALID_REQUEST);
+                }
+                WorkspaceChannelEntity channel = workspaceChannelRepository.findById(request.getChannelId())
+                        .orElseThrow(() -> new CustomException(ErrorCode.CHANNEL_NOT_FOUND));
+                checkMember(email, channel.getWorkspace().getWsId());
+                return "workspace-channel/" + request.getChannelId();
+            }
+            case DM -> {
+                if (request.getWsId() == null || !StringUtils.hasText(request.getReceiver())) {
+                    throw new CustomException(ErrorCode.INVALID_REQUEST);
+                }
+                checkMember(email, request.getWsId());
+                checkMember(request.getReceiver(), request.getWsId());
+                return "chat/" + request.getWsId() + "/" + dmService.getRoomId(request.getWsId(), email, request.getReceiver());
+            }
+            case WORKDATA -> {
+                if (request.getWsId() == null || request.getDataNumber() == null) {
+                    throw new CustomException(ErrorCode.INVALID_REQUEST);
+                }
+                checkMember(email, request.getWsId());
+                WorkdataEntity workdata = workdataRepository.findById(request.getDataNumber())
+                        .orElseThrow(() -> new CustomException(ErrorCode.WORKDATA_NOT_FOUND));
+                if (!workdata.getWorkspace().getWsId().equals(request.getWsId()) || !email.equals(workdata.getWriter())) {
+                    throw new CustomException(ErrorCode.ACCESS_DENIED);
+                }
+                return "workdata-files";
+            }
+            default -> throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+    }
+
+    private void checkMember(String email, Long wsId) {
+        workspaceMemberRepository.findByMember_EmailAndWorkspace_WsId(email, wsId)
+                .orElseThrow(() -> new CustomException(ErrorCode.WORKSPACE_MEMBER_NOT_FOUND));
+    }
+
+    /**
+     * 업로드 정보를 읽고 처리 중으로 표시 (중복 완료 방지), 요청한 사용자만 완료 가능
+     * 업로드 정보는 저장에 성공한 뒤 complete에서 삭제한다.
+     */
+    private PendingUploadDTO claimIntent(String uploadId, String email) {
+        String key = INTENT_KEY_PREFIX + uploadId;
+        String value = stringRedisTemplate.opsForValue().get(key);
+        if (value == null) {
+            throw new CustomException(ErrorCode.UPLOAD_INTENT_NOT_FOUND);
+        }
+
+        PendingUploadDTO pending;
+        try {
+            pending = objectMapper.readValue(value, PendingUploadDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.PARSING_ERROR);
+        }
+        if (!email.equals(pending.getEmail())) {
+            throw new CustomException(ErrorCode.ACCESS_DENIED);
+        }
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(key + CLAIM_KEY_SUFFIX, email, CLAIM_TTL))) {
+            // 동시에 들어온 다른 완료 요청이 처리 중
+            throw new CustomException(ErrorCode.UPLOAD_INTENT_NOT_FOUND);
+        }
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+            // 처리 중 표시 직전에 다른 완료 요청이 끝남
+            stringRedisTemplate.delete(key + CLAIM_KEY_SUFFIX);
+            throw new CustomException(ErrorCode.UPLOAD_INTENT_NOT_FOUND);
+        }
+        return pending;
+    }
+
+    /**
+     * Content-Type 비교 (파라미터와 대소문자 무시)
+     */
+    private boolean sameMediaType(String actual, String expected) {
+        if (actual == null || expected == null) {
+            return false;
+        }
+        return baseType(actual).equals(baseType(expected));
+    }
+
+    private String baseType(String contentType) {
+        int separator = contentType.indexOf(';');
+        return (separator >= 0 ? contentType.substring(0, separator) : contentType).trim().toLowerCase(Locale.ROOT);
+    }
+}
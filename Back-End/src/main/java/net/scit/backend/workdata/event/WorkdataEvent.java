@@ -11,8 +11,16 @@ public class WorkdataEvent implements BasedUpdatedEvent {
     private final String senderNickname;   // 이벤트 발생자의 닉네임
     private final String eventType;        // 이벤트 타입 ("create", "update", "delete" 등)
 
+    // 커밋 이후 다른 스레드에서 처리되므로 지연 로딩 연관관계 대신 발행 시점 값을 보관
+    private final Long wsId;
+    private final String wsName;
+    private final Long dataNumber;
+
     public WorkdataEvent(WorkdataEntity workdata, String senderEmail, String senderNickname, String eventType) {
         this.workdata = workdata;
+        this.wsId = workdata.getWorkspace().getWsId();
+        this.wsName = workdata.getWorkspace().getWsName();
+        this.dataNumber = workdata.getDataNumber();
         this.senderEmail = senderEmail;
         this.senderNickname = senderNickname;
         this.eventType = eventType;
@@ -25,12 +33,11 @@ public class WorkdataEvent implements BasedUpdatedEvent {
 
     @Override
     public Long getEntityId() {
-        return workdata.getDataNumber();
+        return dataNumber;
     }
 
     @Override
     public String getNotificationName() {
-        String wsName = workdata.getWorkspace().getWsName();
         return switch (eventType) {
             case "create" -> "자료실 글 등록";
             case "delete" -> "자료실 글 삭제";
@@ -46,7 +53,6 @@ public class WorkdataEvent implements BasedUpdatedEvent {
 
     @Override
     public String getNotificationContent() {
-        String wsName = workdata.getWorkspace().getWsName();
         return switch (eventType) {
             case "create" -> String.format("%s 워크스페이스에서 새로운 작업 데이터가 생성되었습니다.", wsName);
             case "delete" -> String.format("%s 워크스페이스에서 작업 데이터가 삭제되었습니다.", wsName);
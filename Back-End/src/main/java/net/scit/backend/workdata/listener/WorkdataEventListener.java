@@ -2,13 +2,16 @@ package net.scit.backend.workdata.listener;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.scit.backend.common.config.AsyncEventConfig;
+import net.scit.backend.notification.component.EventDispatcher;
+import net.scit.backend.notification.component.NotificationCoalescer;
 import net.scit.backend.notification.entity.NotificationEntity;
-import net.scit.backend.notification.dto.NotificationResponseDTO; // 응답 DTO 사용
-import net.scit.backend.notification.service.NotificationService;
 import net.scit.backend.workdata.event.WorkdataEvent;
 import net.scit.backend.workspace.entity.WorkspaceMemberEntity;
 import net.scit.backend.workspace.repository.WorkspaceMemberRepository;
-import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
@@ -19,14 +22,22 @@ import java.util.List;
 @RequiredArgsConstructor
 public class WorkdataEventListener {
 
-    private final NotificationService notificationService;
+    private final NotificationCoalescer notificationCoalescer;
+    private final EventDispatcher eventDispatcher;
     private final WorkspaceMemberRepository workspaceMemberRepository;
 
-    @EventListener
+    /**
+     * 커밋 이후 eventDispatchExecutor에서 실행 (실패 시 재시도 후 dead letter 저장, 사용자 변경에는 영향 없음)
+     */
+    @Async(AsyncEventConfig.EVENT_DISPATCH_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleWorkdataEvent(WorkdataEvent event) {
+        eventDispatcher.dispatch("WorkdataEventListener", event, () -> notifyMembers(event));
+    }
+
+    private void notifyMembers(WorkdataEvent event) {
         String notificationMessage = event.getNotificationContent();
-        Long workspaceId = event.getWorkdata().getWorkspace().getWsId();
-        Long dataNumber = event.getWorkdata().getDataNumber();
+        Long workspaceId = event.getWsId();
 
         log.info("📢 Workdata 이벤트 감지: {} | 워크스페이스 ID: {} | 메시지: {}",
                 event.getEventType(), workspaceId, notificationMessage);
@@ -36,14 +47,14 @@ public class WorkdataEventListener {
 
         // 특정 워크스페이스의 모든 멤버 조회
         List<WorkspaceMemberEntity> workspaceMembers =
-                workspaceMemberRepository.findMembersByWorkspaceIdNative(workspaceId);
+                workspaceMemberRepository.findMembersWithMemberByWorkspaceId(workspaceId);
 
-        // 각 워크스페이스 멤버에게 알림 전송
-        workspaceMembers.forEach(member -> {
-            NotificationEntity notification = buildNotificationEntity(event, member, workspaceId, notificationMessage, notificationUrl);
-            NotificationResponseDTO response = notificationService.createAndSendNotification(notification);
-            log.info("📢 알림 전송 및 저장 완료 - NotificationNumber: {}", response.getNotificationNumber());
-        });
+        // 멤버별 알림을 만든 뒤 병합기에 등록 (수정 알림은 모아서, 나머지는 바로 JDBC 배치 저장 후 SSE 일괄 전송)
+        List<NotificationEntity> notifications = workspaceMembers.stream()
+                .map(member -> buildNotificationEntity(event, member, workspaceId, notificationMessage, notificationUrl))
+                .toList();
+        notificationCoalescer.submit(event, notifications);
+        log.info("📢 알림 등록 완료 - {}건", notifications.size());
     }
 
     /**
@@ -31,6 +31,9 @@ public interface WorkdataService {
                                          List<String> newTags,
                                          MultipartFile[] newFiles);
 
+    // S3에 직접 업로드된 파일을 자료글에 첨부
+    Long attachFile(Long wsId, Long dataNumber, String fileUrl, String fileName);
+
 
     //자료글 전체 조회
     ResponseEntity<ResultDTO<List<WorkdataTotalSearchDTO>>> workdata(Long wsId, String sort, String order);
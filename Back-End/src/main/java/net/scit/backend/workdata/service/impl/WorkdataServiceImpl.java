@@ -27,8 +27,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
-import java.net.URL;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -264,14 +262,9 @@ public class WorkdataServiceImpl implements WorkdataService {
         if (deleteFiles != null && !deleteFiles.isEmpty()) {
             List<WorkdataFileEntity> filesToDelete = workdataFileRepository.findByFileNameInAndWorkdataEntity(deleteFiles, existingEntity);
             filesToDelete.forEach(fileEntity -> {
-                try {
-                    String fileUrl = fileEntity.getFile(); // S3에 저장된 전체 파일 URL
-                    // S3Uploader의 deleteFile 메서드에 필요한 key 추출 (URL의 경로 부분에서 첫 문자 제거)
-                    s3Uploader.deleteFile(new URL(fileUrl).getPath().substring(1));
-                } catch (MalformedURLException e) {
-                    log.error("잘못된 파일 URL: {}", fileEntity.getFile(), e);
-                    throw new RuntimeException("파일 삭제 중 오류 발생: 잘못된 URL 형식입니다.");
-                }
+                String fileUrl = fileEntity.getFile(); // S3에 저장된 전체 파일 URL
+                // S3Uploader의 deleteFile 메서드에 필요한 key 추출 (path-style 주소면 버킷 경로도 제거)
+                s3Uploader.deleteFile(s3Uploader.getKeyFromUrl(fileUrl));
             });
             workdataFileRepository.deleteAll(filesToDelete);
         }
@@ -362,6 +355,38 @@ public class WorkdataServiceImpl implements WorkdataService {
         return ResultDTO.of("자료글 수정 완료!", SuccessDTO.builder().success(true).build());
     }
 
+    /**
+     * S3에 직접 업로드된 파일을 자료글에 첨부 (pre-signed URL 업로드 완료 시 호출)
+     *
+     * @param wsId       워크스페이스 ID
+     * @param dataNumber 자료글 번호
+     * @param fileUrl    업로드된 파일 URL
+     * @param fileName   원본 파일명
+     * @return 저장된 파일 번호
+     */
+    @Override
+    public Long attachFile(Long wsId, Long dataNumber, String fileUrl, String fileName) {
+        String userEmail = AuthUtil.getLoginUserId();
+        getWorkspaceMember(wsId, userEmail);
+
+        WorkdataEntity workdataEntity = workdataRepository.findById(dataNumber)
+                .orElseThrow(() -> new CustomException(ErrorCode.WORKDATA_NOT_FOUND));
+        if (!workdataEntity.getWorkspace().getWsId().equals(wsId)) {
+            throw new CustomException(ErrorCode.WORKDATA_NOT_FOUND);
+        }
+        if (!workdataEntity.getWriter().equals(userEmail)) {
+            throw new IllegalArgumentException("본인만 수정할 수 있습니다.");
+        }
+
+        WorkdataFileEntity fileEntity = WorkdataFileEntity.builder()
+                .workdataEntity(workdataEntity)
+                .file(fileUrl)
+                .fileName(fileName)
+                .build();
+        workdataFileRepository.save(fileEntity);
+        return fileEntity.getFileNumber();
+    }
+
     /**
      * 자료글 전체 조회 (정렬 포함)
      *
@@ -0,0 +1,17 @@
+package net.scit.backend.workspace.component;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 노드용 릴레이: 프로필 캐시가 이 노드에만 있으므로 다른 노드로 전달하지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "chat.relay.type", havingValue = "local", matchIfMissing = true)
+public class LocalProfileCacheRelay implements ProfileCacheRelay {
+
+    @Override
+    public void publishEvict(Long wsId, String email) {
+        // 단일 노드에서는 로컬 캐시 무효화로 충분
+    }
+}
@@ -0,0 +1,20 @@
+package net.scit.backend.workspace.component;
+
+/**
+ * 워크스페이스 회원 프로필 캐시 무효화를 다른 서버 노드에 전달하는 릴레이
+ *
+ * - local : 단일 노드 실행용 (아무것도 전달하지 않음)
+ * - redis : Redis pub/sub 으로 다른 노드의 프로필 캐시와 세션 컨텍스트를 비움
+ *
+ * 프로필 캐시는 채팅 전송 경로에서 쓰이므로 채팅 릴레이와 같은 chat.relay.type 속성으로 구현체를 선택한다.
+ */
+public interface ProfileCacheRelay {
+
+    /**
+     * 이 노드에서 무효화한 프로필을 다른 노드에서도 무효화하도록 전달
+     *
+     * @param wsId  워크스페이스 ID
+     * @param email 회원 이메일
+     */
+    void publishEvict(Long wsId, String email);
+}
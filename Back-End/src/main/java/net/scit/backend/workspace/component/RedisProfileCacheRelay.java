@@ -0,0 +1,107 @@
+package net.scit.backend.workspace.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import net.scit.backend.workspace.event.WorkspaceMemberProfileEvictedEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Redis pub/sub 기반 프로필 캐시 무효화 릴레이
+ *
+ * - 프로필을 바꾼 노드는 커밋 후 자신의 캐시를 비우고 같은 (wsId, email)을 Redis 채널에 발행한다.
+ * - 다른 노드는 이를 받아 WorkspaceMemberProfileResolver 캐시를 비우고,
+ *   WorkspaceMemberProfileEvictedEvent를 발행해 STOMP 세션 컨텍스트도 비우게 한다.
+ * - 자신이 발행한 메시지는 건너뛴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.relay.type", havingValue = "redis")
+public class RedisProfileCacheRelay implements ProfileCacheRelay, MessageListener {
+
+    public static final String TOPIC = "workspace:profile:evict";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final WorkspaceMemberProfileResolver profileResolver;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public RedisProfileCacheRelay(StringRedisTemplate stringRedisTemplate,
+                                  RedisMessageListenerContainer listenerContainer,
+                                  WorkspaceMemberProfileResolver profileResolver,
+                                  ApplicationEventPublisher eventPublisher,
+                                  ObjectMapper objectMapper) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.profileResolver = profileResolver;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(TOPIC));
+        log.info("✅ 프로필 캐시 무효화 릴레이 구독 시작: node={}", nodeId);
+    }
+
+    @Override
+    public void publishEvict(Long wsId, String email) {
+        try {
+            stringRedisTemplate.convertAndSend(TOPIC,
+                    objectMapper.writeValueAsString(new EvictEnvelope(nodeId, wsId, email)));
+        } catch (Exception e) {
+            // 다른 노드의 캐시는 만료 시간(10분)이 지나면 다시 조회됨
+            log.error("❌ 프로필 캐시 무효화 발행 실패: wsId={}, email={} - {}", wsId, email, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드에서 발행한 무효화 요청을 이 노드에 반영
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            EvictEnvelope envelope = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), EvictEnvelope.class);
+
+            if (nodeId.equals(envelope.getOrigin())) {
+                return; // 자신이 발행한 메시지
+            }
+            profileResolver.evict(envelope.getWsId(), envelope.getEmail());
+            eventPublisher.publishEvent(new WorkspaceMemberProfileEvictedEvent(envelope.getWsId(), envelope.getEmail()));
+            log.debug("프로필 캐시 릴레이 무효화: wsId={}, email={}", envelope.getWsId(), envelope.getEmail());
+        } catch (Exception e) {
+            log.error("❌ 프로필 캐시 무효화 수신 처리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Redis로 주고받는 무효화 메시지
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class EvictEnvelope {
+        private String origin; // 발행한 노드 ID
+        private Long wsId;     // 워크스페이스 ID
+        private String email;  // 회원 이메일
+    }
+}
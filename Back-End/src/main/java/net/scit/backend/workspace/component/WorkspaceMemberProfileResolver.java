@@ -0,0 +1,94 @@
+package net.scit.backend.workspace.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.scit.backend.workspace.dto.SenderProfileDTO;
+import net.scit.backend.workspace.entity.WorkspaceMemberEntity;
+import net.scit.backend.workspace.repository.WorkspaceMemberRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메시지 발신자의 워크스페이스 프로필(닉네임, 프로필 이미지)을 조회하는 컴포넌트
+ * 한 페이지의 발신자를 모아 IN 쿼리 한 번으로 조회하고, (wsId, email) 단위로 캐시한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkspaceMemberProfileResolver {
+
+    private final WorkspaceMemberRepository workspaceMemberRepository;
+
+    // (wsId, email) -> 프로필 캐시
+    private final Cache<String, SenderProfileDTO> profileCache = Caffeine.newBuilder()
+            .expireAfterWrite(10, TimeUnit.MINUTES)
+            .maximumSize(10_000)
+            .build();
+
+    /**
+     * 단일 발신자 프로필 조회
+     *
+     * @param wsId  워크스페이스 ID
+     * @param email 발신자 이메일
+     * @return 프로필 (워크스페이스 멤버가 아니면 null)
+     */
+    public SenderProfileDTO resolve(Long wsId, String email) {
+        return resolveAll(wsId, Collections.singleton(email)).get(email);
+    }
+
+    /**
+     * 여러 발신자의 프로필을 한 번에 조회
+     * 캐시에 없는 발신자만 모아 IN 쿼리 한 번으로 조회한다.
+     *
+     * @param wsId   워크스페이스 ID
+     * @param emails 발신자 이메일 목록 (중복 허용)
+     * @return email -> 프로필 (워크스페이스 멤버가 아닌 발신자는 포함되지 않음)
+     */
+    public Map<String, SenderProfileDTO> resolveAll(Long wsId, Collection<String> emails) {
+        Map<String, SenderProfileDTO> result = new HashMap<>();
+        Set<String> missing = new HashSet<>();
+
+        for (String email : emails) {
+            if (email == null || result.containsKey(email)) {
+                continue;
+            }
+            SenderProfileDTO cached = profileCache.getIfPresent(cacheKey(wsId, email));
+            if (cached != null) {
+                result.put(email, cached);
+            } else {
+                missing.add(email);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            List<WorkspaceMemberEntity> members = workspaceMemberRepository.findByWorkspaceIdAndEmails(wsId, missing);
+            for (WorkspaceMemberEntity member : members) {
+                String email = member.getMember().getEmail();
+                SenderProfileDTO profile = new SenderProfileDTO(member.getNickname(), member.getProfileImage());
+                profileCache.put(cacheKey(wsId, email), profile);
+                result.put(email, profile);
+            }
+            log.debug("발신자 프로필 조회: wsId={}, 요청={}, 조회={}", wsId, missing.size(), members.size());
+        }
+
+        return result;
+    }
+
+    /**
+     * 프로필 변경 시 캐시 무효화
+     *
+     * @param wsId  워크스페이스 ID
+     * @param email 회원 이메일
+     */
+    public void evict(Long wsId, String email) {
+        profileCache.invalidate(cacheKey(wsId, email));
+    }
+
+    private String cacheKey(Long wsId, String email) {
+        return wsId + ":" + email;
+    }
+}
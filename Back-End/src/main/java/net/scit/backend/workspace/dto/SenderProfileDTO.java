@@ -0,0 +1,15 @@
+package net.scit.backend.workspace.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 메시지 발신자의 워크스페이스 내 프로필 (닉네임, 프로필 이미지)
+ */
+@Getter
+@AllArgsConstructor
+public class SenderProfileDTO {
+
+    private String nickname;
+    private String profileImage;
+}
@@ -16,5 +16,6 @@ public class WorkspaceMemberDTO {
     private String nickname;       // 워크스페이스 내 닉네임
     private String wsRole;         // 워크스페이스 내 역할
     private String profileImage;   // 프로필 이미지 URL
+    private String profileThumbnailUrl; // 아바타 크기 프로필 이미지 URL (생성 전이면 없을 수 있어 profileImage로 대체)
     private LocalDateTime lastActiveTime; // 마지막 활동 시간
 }
@@ -12,6 +12,8 @@ public class WorkspaceChannelEvent implements BasedUpdatedEvent {
     private final String eventType;        // "create", "update", "delete"
     private final String channelName;      // 채널 이름
     private final Long channelNumber;      // 채널 번호 (채널 삭제의 경우 null일 수 있음)
+    private final Long wsId;               // 발행 시점 워크스페이스 ID (커밋 이후 비동기 처리용)
+    private final String wsName;           // 발행 시점 워크스페이스 이름
 
     public WorkspaceChannelEvent(WorkspaceEntity workspace, String senderEmail, String senderNickname,
                                  String eventType, String channelName, Long channelNumber) {
@@ -21,6 +23,8 @@ public class WorkspaceChannelEvent implements BasedUpdatedEvent {
         this.eventType = eventType;
         this.channelName = channelName;
         this.channelNumber = channelNumber;
+        this.wsId = workspace.getWsId();
+        this.wsName = workspace.getWsName();
     }
 
     @Override
@@ -31,12 +35,11 @@ public class WorkspaceChannelEvent implements BasedUpdatedEvent {
     @Override
     public Long getEntityId() {
         // 워크스페이스 ID를 기본 식별자로 사용합니다.
-        return workspace.getWsId();
+        return wsId;
     }
 
     @Override
     public String getNotificationName() {
-        String wsName = workspace.getWsName();
         return switch (eventType) {
             case "create" -> "워크스페이스 채널 생성";
             case "update" -> "워크스페이스 채널 수정";
@@ -52,7 +55,6 @@ public class WorkspaceChannelEvent implements BasedUpdatedEvent {
 
     @Override
     public String getNotificationContent() {
-        String wsName = workspace.getWsName();
         return switch (eventType) {
             case "create" -> String.format("%s 워크스페이스에서 %s 채널이 생성되었습니다.", wsName, channelName);
             case "update" -> String.format("%s 워크스페이스에서 %s 채널이 수정되었습니다.", wsName, channelName);
@@ -10,7 +10,7 @@ public class WorkspaceEvent implements BasedUpdatedEvent {
     // 일반 이벤트용: 생성, 수정 등에서는 기존 엔티티를 사용
     private final WorkspaceEntity workspace;
 
-    // delete 이벤트 전용: workspace 대신 필요한 정보만 전달
+    // delete 이벤트에서는 전달받은 값, 그 외에는 발행 시점 workspace 값 (커밋 이후 비동기 처리용)
     private final Long wsId;
     private final String wsName;
 
@@ -24,8 +24,8 @@ public class WorkspaceEvent implements BasedUpdatedEvent {
     public WorkspaceEvent(WorkspaceEntity workspace, String senderEmail, String senderNickname,
                           String eventType, String receiverEmail, String receiverNickname) {
         this.workspace = workspace;
-        this.wsId = null;
-        this.wsName = null;
+        this.wsId = workspace != null ? workspace.getWsId() : null;
+        this.wsName = workspace != null ? workspace.getWsName() : null;
         this.senderEmail = senderEmail;
         this.senderNickname = senderNickname;
         // 강제 소문자화 및 trim하여 저장
@@ -54,13 +54,11 @@ public class WorkspaceEvent implements BasedUpdatedEvent {
 
     @Override
     public Long getEntityId() {
-        return "delete".equals(eventType) ? wsId : workspace.getWsId();
+        return wsId;
     }
 
     @Override
     public String getNotificationName() {
-        // delete 이벤트의 경우 wsName을, 그 외에는 workspace.getWsName()을 사용
-        String name = "delete".equals(eventType) ? wsName : workspace.getWsName();
         return switch (eventType) {
             case "create" -> "워크스페이스 생성";
             case "delete" -> "워크스페이스 삭제";
@@ -77,7 +75,7 @@ public class WorkspaceEvent implements BasedUpdatedEvent {
 
     @Override
     public String getNotificationContent() {
-        String name = "delete".equals(eventType) ? wsName : workspace.getWsName();
+        String name = wsName;
         return switch (eventType) {
             case "create" -> String.format("%s 워크스페이스가 생성되었습니다.", name);
             case "update" -> String.format("%s 워크스페이스가 수정되었습니다.", name);
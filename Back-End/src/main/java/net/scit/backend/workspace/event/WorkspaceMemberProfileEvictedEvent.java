@@ -0,0 +1,15 @@
+package net.scit.backend.workspace.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 다른 노드에서 워크스페이스 회원 프로필이 바뀌었음을 알리는 이벤트
+ * (ProfileCacheRelay가 이 노드의 프로필 캐시를 비운 뒤 발행하며, 세션 컨텍스트 등 다른 캐시를 비우는 데 사용)
+ */
+@Getter
+@RequiredArgsConstructor
+public class WorkspaceMemberProfileEvictedEvent {
+    private final Long wsId;
+    private final String email;
+}
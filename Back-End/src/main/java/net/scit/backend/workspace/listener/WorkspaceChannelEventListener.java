@@ -2,13 +2,16 @@ package net.scit.backend.workspace.listener;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.scit.backend.notification.dto.NotificationResponseDTO;
+import net.scit.backend.common.config.AsyncEventConfig;
+import net.scit.backend.notification.component.EventDispatcher;
+import net.scit.backend.notification.component.NotificationCoalescer;
 import net.scit.backend.notification.entity.NotificationEntity;
-import net.scit.backend.notification.service.NotificationService;
 import net.scit.backend.workspace.event.WorkspaceChannelEvent;
 import net.scit.backend.workspace.entity.WorkspaceMemberEntity;
 import net.scit.backend.workspace.repository.WorkspaceMemberRepository;
-import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
@@ -19,14 +22,22 @@ import java.util.List;
 @RequiredArgsConstructor
 public class WorkspaceChannelEventListener {
 
-    private final NotificationService notificationService;
+    private final NotificationCoalescer notificationCoalescer;
+    private final EventDispatcher eventDispatcher;
     private final WorkspaceMemberRepository workspaceMemberRepository;
 
-    @EventListener
+    /**
+     * 커밋 이후 eventDispatchExecutor에서 실행 (실패 시 재시도 후 dead letter 저장, 사용자 변경에는 영향 없음)
+     */
+    @Async(AsyncEventConfig.EVENT_DISPATCH_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleWorkspaceChannelEvent(WorkspaceChannelEvent event) {
+        eventDispatcher.dispatch("WorkspaceChannelEventListener", event, () -> notifyMembers(event));
+    }
+
+    private void notifyMembers(WorkspaceChannelEvent event) {
         String notificationMessage = event.getNotificationContent();
-        Long workspaceId = event.getWorkspace().getWsId();
-        Long channelNumber = event.getChannelNumber() != null ? event.getChannelNumber() : 0L; // 0L if null
+        Long workspaceId = event.getWsId();
 
         log.info("📢 워크스페이스 채널 이벤트 감지: {} | 워크스페이스 ID: {} | 메시지: {}",
                 event.getEventType(), workspaceId, notificationMessage);
@@ -35,13 +46,14 @@ public class WorkspaceChannelEventListener {
         String notificationUrl = "https://dev.bibim.shop/channel";
 
         List<WorkspaceMemberEntity> workspaceMembers =
-                workspaceMemberRepository.findMembersByWorkspaceIdNative(workspaceId);
+                workspaceMemberRepository.findMembersWithMemberByWorkspaceId(workspaceId);
 
-        workspaceMembers.forEach(member -> {
-            NotificationEntity notification = buildNotificationEntity(event, member, workspaceId, notificationMessage, notificationUrl);
-            NotificationResponseDTO response = notificationService.createAndSendNotification(notification);
-            log.info("📢 알림 전송 및 저장 완료 - NotificationNumber: {}", response.getNotificationNumber());
-        });
+        // 멤버별 알림을 만든 뒤 병합기에 등록 (수정 알림은 모아서, 나머지는 바로 JDBC 배치 저장 후 SSE 일괄 전송)
+        List<NotificationEntity> notifications = workspaceMembers.stream()
+                .map(member -> buildNotificationEntity(event, member, workspaceId, notificationMessage, notificationUrl))
+                .toList();
+        notificationCoalescer.submit(event, notifications);
+        log.info("📢 알림 등록 완료 - {}건", notifications.size());
     }
 
     /**
@@ -2,24 +2,37 @@ package net.scit.backend.workspace.listener;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.scit.backend.notification.dto.NotificationResponseDTO;
+import net.scit.backend.common.config.AsyncEventConfig;
+import net.scit.backend.notification.component.EventDispatcher;
+import net.scit.backend.notification.component.NotificationCoalescer;
 import net.scit.backend.notification.entity.NotificationEntity;
-import net.scit.backend.notification.service.NotificationService;
 import net.scit.backend.workspace.event.WorkspaceEvent;
-import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class WorkspaceEventListener {
 
-    private final NotificationService notificationService;
+    private final NotificationCoalescer notificationCoalescer;
+    private final EventDispatcher eventDispatcher;
 
-    @EventListener
+    /**
+     * 커밋 이후 eventDispatchExecutor에서 실행 (실패 시 재시도 후 dead letter 저장, 사용자 변경에는 영향 없음)
+     */
+    @Async(AsyncEventConfig.EVENT_DISPATCH_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleWorkspaceEvent(WorkspaceEvent event) {
+        eventDispatcher.dispatch("WorkspaceEventListener", event, () -> notifyReceiver(event));
+    }
+
+    private void notifyReceiver(WorkspaceEvent event) {
         String notificationName = event.getNotificationName();
         String notificationContent = event.getNotificationContent();
 
@@ -34,8 +47,8 @@ public class WorkspaceEventListener {
 
         // NotificationEntity 생성 및 알림 전송
         NotificationEntity notification = buildNotificationEntity(event, notificationName, notificationContent, notificationUrl);
-        NotificationResponseDTO response = notificationService.createAndSendNotification(notification);
-        log.info("📢 알림 전송 및 저장 완료 - NotificationNumber: {}", response.getNotificationNumber());
+        notificationCoalescer.submit(event, List.of(notification));
+        log.info("📢 알림 등록 완료 - 대상자: {}", event.getReceiverEmail());
     }
 
     /**
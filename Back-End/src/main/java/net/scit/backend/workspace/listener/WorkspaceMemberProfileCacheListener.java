@@ -0,0 +1,40 @@
+package net.scit.backend.workspace.listener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.scit.backend.workspace.component.ProfileCacheRelay;
+import net.scit.backend.workspace.component.WorkspaceMemberProfileResolver;
+import net.scit.backend.workspace.event.WorkspaceEvent;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 워크스페이스 회원 정보 변경, 탈퇴 시 발신자 프로필 캐시 무효화
+ *
+ * - 커밋 이후에 비워야 변경 전 데이터가 다시 캐시되지 않는다.
+ * - 세션 컨텍스트가 비워진 뒤 다시 조회할 때 새 프로필을 읽도록 다른 리스너보다 먼저 실행한다.
+ * - 다른 노드의 캐시는 ProfileCacheRelay로 무효화한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkspaceMemberProfileCacheListener {
+
+    private final WorkspaceMemberProfileResolver profileResolver;
+    private final ProfileCacheRelay profileCacheRelay;
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleWorkspaceEvent(WorkspaceEvent event) {
+        if (!"member_update".equals(event.getEventType()) && !"withdraw".equals(event.getEventType())) {
+            return;
+        }
+        Long wsId = event.getWsId() != null ? event.getWsId() : event.getWorkspace().getWsId();
+        profileResolver.evict(wsId, event.getReceiverEmail());
+        profileCacheRelay.publishEvict(wsId, event.getReceiverEmail());
+        log.debug("발신자 프로필 캐시 무효화: {} | wsId={}, email={}", event.getEventType(), wsId, event.getReceiverEmail());
+    }
+}
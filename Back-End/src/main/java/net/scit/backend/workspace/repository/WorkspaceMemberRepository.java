@@ -4,7 +4,9 @@ import io.lettuce.core.dynamic.annotation.Param;
 import jakarta.transaction.Transactional;
 import net.scit.backend.member.entity.MemberEntity;
 import net.scit.backend.workspace.entity.WorkspaceEntity;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import net.scit.backend.workspace.entity.WorkspaceMemberEntity;
 import org.springframework.data.jpa.repository.Modifying;
@@ -41,7 +43,20 @@ public interface WorkspaceMemberRepository extends JpaRepository<WorkspaceMember
     @Query(value = "SELECT * FROM workspace_member WHERE ws_id = :workspaceId", nativeQuery = true)
     List<WorkspaceMemberEntity> findMembersByWorkspaceIdNative(@Param("workspaceId") Long workspaceId);
 
+    // 알림 일괄 전송용: 워크스페이스 멤버와 회원 정보를 한 번에 조회 (멤버별 추가 조회 없음)
+    @Query("SELECT wm FROM WorkspaceMemberEntity wm JOIN FETCH wm.member WHERE wm.workspace.wsId = :workspaceId")
+    List<WorkspaceMemberEntity> findMembersWithMemberByWorkspaceId(@Param("workspaceId") Long workspaceId);
+
+    // 메시지 발신자 프로필 일괄 조회 (IN 쿼리 한 번)
+    @Query("SELECT wm FROM WorkspaceMemberEntity wm JOIN FETCH wm.member m WHERE wm.workspace.wsId = :wsId AND m.email IN :emails")
+    List<WorkspaceMemberEntity> findByWorkspaceIdAndEmails(@Param("wsId") Long wsId, @Param("emails") Collection<String> emails);
+
     List<WorkspaceMemberEntity> findByMember(MemberEntity member);
+
+    // 파생 이미지 백필용: after 이후 멤버의 (멤버 번호, 프로필 이미지 URL)을 번호 순으로 조회
+    @Query("SELECT wm.mWsNumber, wm.profileImage FROM WorkspaceMemberEntity wm " +
+            "WHERE wm.profileImage IS NOT NULL AND wm.mWsNumber > :after ORDER BY wm.mWsNumber")
+    List<Object[]> findProfileImagesAfter(@Param("after") Long after, Pageable pageable);
   
     // ✅ 특정 워크스페이스에 속한 모든 멤버 삭제
     @Modifying
@@ -30,6 +30,8 @@ import lombok.extern.slf4j.Slf4j;
 import net.scit.backend.jwt.AuthUtil;
 import net.scit.backend.common.dto.ResultDTO;
 import net.scit.backend.common.dto.SuccessDTO;
+import net.scit.backend.common.component.ImageDerivativeGenerator;
+import net.scit.backend.common.component.ImageVariant;
 import net.scit.backend.common.component.MailComponents;
 import net.scit.backend.common.component.S3Uploader;
 import net.scit.backend.exception.CustomException;
@@ -65,6 +67,7 @@ public class WorkspaceServiceImpl implements WorkspaceService {
     private final RedisTemplate<String, String> redisTemplate;
     private final MailComponents mailComponents;
     private final S3Uploader s3Uploader;
+    private final ImageDerivativeGenerator imageDerivativeGenerator;
 
     // 상수 선언
     private static final Long MAIL_EXPIRES_IN = 300000L;
@@ -80,7 +83,9 @@ public class WorkspaceServiceImpl implements WorkspaceService {
             String fileExtension = StringUtils.getFilenameExtension(file.getOriginalFilename());
             if (fileExtension != null && ALLOWED_IMAGE_EXTENSIONS.contains(fileExtension.toLowerCase())) {
                 try {
-                    return s3Uploader.upload(file, "workspace-images");
+                    String imageUrl = s3Uploader.upload(file, "workspace-images");
+                    imageDerivativeGenerator.submit(imageUrl, ImageVariant.AVATARS);
+                    return imageUrl;
                 } catch (Exception e) {
                     log.error("❌ S3 업로드 실패: {}", e.getMessage(), e);
                     throw new CustomException(ErrorCode.FAILED_IMAGE_SAVE);
@@ -545,6 +550,7 @@ public class WorkspaceServiceImpl implements WorkspaceService {
                 .name(member.getName()) // 기본 회원 이름
                 .nickname(workspaceMember.getNickname()) // 워크스페이스 내 닉네임
                 .profileImage(workspaceMember.getProfileImage()) // 워크스페이스 내 프로필 이미지
+                .profileThumbnailUrl(ImageVariant.AVATAR_128.derive(workspaceMember.getProfileImage()))
                 .wsRole(workspaceMember.getWsRole())
                 .email(member.getEmail())
                 .build();
@@ -587,9 +593,11 @@ public class WorkspaceServiceImpl implements WorkspaceService {
                 // 기존 이미지 삭제
                 if (workspaceMember.getProfileImage() != null && !workspaceMember.getProfileImage().isEmpty()) {
                     s3Uploader.deleteFile(workspaceMember.getProfileImage());
+                    imageDerivativeGenerator.delete(workspaceMember.getProfileImage(), ImageVariant.AVATARS);
                 }
-                // 새 이미지 업로드
+                // 새 이미지 업로드 (아바타 크기 파생 이미지는 비동기 생성)
                 String imageUrl = s3Uploader.upload(file, "workspace-profile-images");
+                imageDerivativeGenerator.submit(imageUrl, ImageVariant.AVATARS);
                 workspaceMember.setProfileImage(imageUrl);
                 isUpdated = true;
             } catch (IOException e) {
@@ -678,6 +686,7 @@ public class WorkspaceServiceImpl implements WorkspaceService {
                     .nickname(wme.getNickname())
                     .wsRole(wme.getWsRole())
                     .profileImage(wme.getProfileImage())
+                    .profileThumbnailUrl(ImageVariant.AVATAR_64.derive(wme.getProfileImage()))
                     .lastActiveTime(wme.getMember().getLastActiveTime())
                     .build();
 
@@ -0,0 +1,125 @@
+package net.scit.backend.channel.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import net.scit.backend.channel.DTO.MessageAckDTO;
+import net.scit.backend.channel.DTO.MessageDTO;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChannelMessageSequencerTest {
+
+    private static final Long CHANNEL = 7L;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private ChannelMessageSequencer sequencer;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        sequencer = new ChannelMessageSequencer(redisTemplate,
+                new ObjectMapper().registerModule(new JavaTimeModule()), 3, 1, 30, 600);
+    }
+
+    @Test
+    void nextSeq_increasesPerChannel() {
+        assertThat(sequencer.currentSeq(CHANNEL)).isZero();
+        assertThat(sequencer.nextSeq(CHANNEL)).isEqualTo(1L);
+        assertThat(sequencer.nextSeq(CHANNEL)).isEqualTo(2L);
+        assertThat(sequencer.nextSeq(8L)).isEqualTo(1L);
+        assertThat(sequencer.currentSeq(CHANNEL)).isEqualTo(2L);
+    }
+
+    @Test
+    void claim_rejectsDuplicateUntilReleased() {
+        assertThat(sequencer.claim(CHANNEL, "m-1")).isTrue();
+        assertThat(sequencer.claim(CHANNEL, "m-1")).isFalse();
+
+        sequencer.release(CHANNEL, "m-1");
+
+        assertThat(sequencer.claim(CHANNEL, "m-1")).isTrue();
+    }
+
+    @Test
+    void findSaved_returnsAckOnlyAfterSaveIsRecorded() {
+        sequencer.claim(CHANNEL, "m-1");
+        assertThat(sequencer.findSaved(CHANNEL, "m-1", "a@test.com")).isEmpty();
+
+        sequencer.recordSaved(List.of(MessageAckDTO.builder()
+                .messageId("m-1").messageNumber(42L).channelSeq(5L).channelNumber(CHANNEL).sender("a@test.com").build()));
+
+        assertThat(sequencer.findSaved(CHANNEL, "m-1", "a@test.com")).hasValueSatisfying(ack -> {
+            assertThat(ack.getMessageNumber()).isEqualTo(42L);
+            assertThat(ack.getChannelSeq()).isEqualTo(5L);
+            assertThat(ack.getSender()).isEqualTo("a@test.com");
+        });
+    }
+
+    @Test
+    void recordSaved_ignoresReleasedClaims() {
+        sequencer.recordSaved(List.of(MessageAckDTO.builder()
+                .messageId("m-2").messageNumber(1L).channelSeq(1L).channelNumber(CHANNEL).build()));
+
+        assertThat(sequencer.findSaved(CHANNEL, "m-2", null)).isEmpty();
+        assertThat(sequencer.claim(CHANNEL, "m-2")).isTrue();
+    }
+
+    @Test
+    void readAfter_stopsAtGapsAndKeepsOnlyBufferSize() {
+        for (long seq = 1; seq <= 5; seq++) {
+            sequencer.remember(message(seq));
+        }
+
+        // 버퍼 크기 3: 순번 3, 4, 5만 남음
+        assertThat(sequencer.readAfter(CHANNEL, 2, 10)).extracting(MessageDTO::getChannelSeq).containsExactly(3L, 4L, 5L);
+        // 버퍼에 없는 구간부터 요청하면 비어 있음 (DB에서 조회)
+        assertThat(sequencer.readAfter(CHANNEL, 0, 10)).isEmpty();
+        assertThat(sequencer.readAfter(CHANNEL, 3, 1)).extracting(MessageDTO::getChannelSeq).containsExactly(4L);
+    }
+
+    private MessageDTO message(long seq) {
+        return MessageDTO.builder()
+                .channelNumber(CHANNEL)
+                .channelSeq(seq)
+                .content("message " + seq)
+                .build();
+    }
+}
@@ -0,0 +1,163 @@
+package net.scit.backend.channel.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.scit.backend.channel.DTO.MessageAckDTO;
+import net.scit.backend.channel.DTO.MessageDTO;
+import net.scit.backend.channel.entity.ChatMessageDeadLetterEntity;
+import net.scit.backend.channel.repository.ChatMessageDeadLetterRepository;
+import net.scit.backend.exception.CustomException;
+import net.scit.backend.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChannelMessageWriteBehindQueueTest {
+
+    private static final Long CHANNEL = 3L;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final ChannelMessageSequencer sequencer = mock(ChannelMessageSequencer.class);
+    private final ChatMessageDeadLetterRepository deadLetterRepository = mock(ChatMessageDeadLetterRepository.class);
+    private final ChannelReadCursorBuffer readCursorBuffer = mock(ChannelReadCursorBuffer.class);
+
+    @TempDir
+    Path tempDir;
+
+    private ChannelMessageWriteBehindQueue queue;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (queue != null) {
+            queue.stop();
+        }
+    }
+
+    @Test
+    void enqueue_sendsNackWhenQueueIsFull() {
+        queue = newQueue(1);
+        queue.enqueue(message("m-1"));
+
+        assertThatThrownBy(() -> queue.enqueue(message("m-2")))
+                .isInstanceOf(CustomException.class);
+
+        MessageAckDTO nack = captureAcks().get(0);
+        assertThat(nack.getMessageId()).isEqualTo("m-2");
+        assertThat(nack.getErrorCode()).isEqualTo(ErrorCode.CHAT_QUEUE_FULL.name());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void failedBatch_isDeadLetteredReleasedAndNacked() {
+        failInserts();
+        queue = newQueue(10);
+        queue.start();
+
+        queue.enqueue(message("m-1"));
+
+        ArgumentCaptor<List<ChatMessageDeadLetterEntity>> deadLetters = ArgumentCaptor.forClass(List.class);
+        verify(deadLetterRepository, timeout(5000)).saveAll(deadLetters.capture());
+        assertThat(deadLetters.getValue()).singleElement().satisfies(deadLetter -> {
+            assertThat(deadLetter.getMessageId()).isEqualTo("m-1");
+            assertThat(deadLetter.getChannelSeq()).isEqualTo(9L);
+            assertThat(deadLetter.getErrorMessage()).contains("db down");
+        });
+        verify(sequencer, timeout(1000)).release(CHANNEL, "m-1");
+        assertThat(captureAcks().get(0).getErrorCode()).isEqualTo(ErrorCode.CHAT_SAVE_FAILED.name());
+    }
+
+    @Test
+    void failedBatch_isWrittenToFileWhenDeadLetterTableIsUnavailable() throws Exception {
+        failInserts();
+        when(deadLetterRepository.saveAll(anyList())).thenThrow(new DataAccessResourceFailureException("db down"));
+        queue = newQueue(10);
+        queue.start();
+
+        queue.enqueue(message("m-1"));
+
+        verify(messagingTemplate, timeout(5000)).convertAndSend(eq("/exchange/chat-exchange/ack." + CHANNEL), any(Object.class));
+        Path file = tempDir.resolve("dead-letter.jsonl");
+        assertThat(Files.readAllLines(file)).singleElement().asString()
+                .contains("\"messageId\":\"m-1\"")
+                .contains("\"content\":\"hello\"");
+    }
+
+    @Test
+    void committedBatch_isNotInsertedAgainWhenPostCommitStepFails() {
+        when(jdbcTemplate.batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class), any(KeyHolder.class)))
+                .thenAnswer(invocation -> {
+                    invocation.getArgument(2, KeyHolder.class).getKeyList().add(Map.of("GENERATED_KEY", 100L));
+                    return new int[]{1};
+                });
+        doThrow(new IllegalStateException("cursor down")).when(readCursorBuffer).advance(any(), any(), any());
+        queue = newQueue(10);
+        queue.start();
+
+        queue.enqueue(message("m-1"));
+
+        assertThat(captureAcks()).singleElement().satisfies(ack -> assertThat(ack.getMessageNumber()).isEqualTo(100L));
+        verify(readCursorBuffer, timeout(5000)).advance("a@test.com", CHANNEL, 100L);
+        verify(jdbcTemplate, after(500).times(1))
+                .batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class), any(KeyHolder.class));
+        verify(deadLetterRepository, never()).saveAll(anyList());
+    }
+
+    private ChannelMessageWriteBehindQueue newQueue(int capacity) {
+        return new ChannelMessageWriteBehindQueue(jdbcTemplate, mock(PlatformTransactionManager.class), messagingTemplate,
+                mock(ChannelUnreadCounter.class), readCursorBuffer, sequencer, deadLetterRepository,
+                new ObjectMapper().registerModule(new JavaTimeModule()), new SimpleMeterRegistry(),
+                capacity, 10, 10, 10, 1000, tempDir.resolve("dead-letter.jsonl").toString());
+    }
+
+    private void failInserts() {
+        when(jdbcTemplate.batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class), any(KeyHolder.class)))
+                .thenThrow(new DataAccessResourceFailureException("db down"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<MessageAckDTO> captureAcks() {
+        ArgumentCaptor<Object> acks = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate, timeout(5000)).convertAndSend(eq("/exchange/chat-exchange/ack." + CHANNEL), acks.capture());
+        return (List<MessageAckDTO>) acks.getValue();
+    }
+
+    private MessageDTO message(String messageId) {
+        return MessageDTO.builder()
+                .messageId(messageId)
+                .channelNumber(CHANNEL)
+                .sender("a@test.com")
+                .content("hello")
+                .sendTime(LocalDateTime.now())
+                .channelSeq(9L)
+                .build();
+    }
+}
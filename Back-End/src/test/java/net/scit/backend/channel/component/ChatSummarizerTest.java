@@ -0,0 +1,123 @@
+package net.scit.backend.channel.component;
+
+import net.scit.backend.channel.DTO.SummaryLineDTO;
+import net.scit.backend.channel.repository.MessageReposittory;
+import net.scit.backend.workspace.component.WorkspaceMemberProfileResolver;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * max-messages로 잘린 범위를 다시 요약할 때 기존 묶음이 캐시에서 읽히는지 확인 (내장 Redis 사용)
+ */
+class ChatSummarizerTest {
+
+    private static final Long CHANNEL = 1L;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final List<SummaryLineDTO> messages = new ArrayList<>();
+    private final List<String> mapRequests = new ArrayList<>();
+    private ChatSummarizer summarizer;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        MessageReposittory repository = mock(MessageReposittory.class);
+        when(repository.streamSummaryLines(eq(CHANNEL), anyLong(), anyLong())).thenAnswer(invocation -> {
+            long from = invocation.getArgument(1);
+            long to = invocation.getArgument(2);
+            return messages.stream()
+                    .filter(line -> line.getMessageNumber() >= from && line.getMessageNumber() <= to)
+                    .sorted(Comparator.comparing(SummaryLineDTO::getMessageNumber).reversed());
+        });
+
+        OpenAiClient openAiClient = mock(OpenAiClient.class);
+        when(openAiClient.getSummary(anyString(), anyMap())).thenAnswer(invocation -> {
+            Map<String, Object> request = invocation.getArgument(1);
+            List<Map<String, String>> prompts = (List<Map<String, String>>) request.get("messages");
+            if (prompts.get(0).get("content").contains("summarizes chat conversations")) {
+                mapRequests.add(prompts.get(1).get("content"));
+            }
+            return Map.of("choices", List.of(Map.of("message", Map.of("content", "요약"))));
+        });
+
+        WorkspaceMemberProfileResolver profileResolver = mock(WorkspaceMemberProfileResolver.class);
+        when(profileResolver.resolveAll(any(), any())).thenReturn(Map.of());
+
+        // 한 줄은 약 11토큰이므로 묶음당 2개, 최근 10개만 요약
+        summarizer = new ChatSummarizer(openAiClient, mock(OpenAiStreamingClient.class), repository, profileResolver,
+                redisTemplate, mock(PlatformTransactionManager.class), "key", "model", 30, 10, 2, 1, 30);
+    }
+
+    @AfterEach
+    void tearDown() {
+        summarizer.shutdown();
+        redisTemplate.delete(redisTemplate.keys("chat:summary:*"));
+    }
+
+    @Test
+    void summarizeRange_reusesCachedChunksWhenTruncatedWindowMoves() {
+        for (long number = 1; number <= 12; number++) {
+            addMessage(number);
+        }
+        summarizer.summarizeRange(CHANNEL, 1L, null, null, "Korean");
+        assertThat(mapRequests).hasSize(5); // 3~12번 메시지, 2개씩
+
+        addMessage(13);
+        mapRequests.clear();
+        summarizer.summarizeRange(CHANNEL, 1L, null, null, "Korean");
+
+        // 새 메시지가 들어간 묶음만 다시 요약
+        assertThat(mapRequests).singleElement().asString().contains("message 13").doesNotContain("message 12");
+    }
+
+    private void addMessage(long number) {
+        messages.add(new SummaryLineDTO(number, "a@test.com", "message " + number));
+    }
+}
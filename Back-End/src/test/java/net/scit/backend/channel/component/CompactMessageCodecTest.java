@@ -0,0 +1,133 @@
+package net.scit.backend.channel.component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactMessageCodecTest {
+
+    private static final String SESSION = "session-1";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private CompactMessageCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        codec = new CompactMessageCodec(objectMapper);
+        codec.register(SESSION, "COMPACT");
+    }
+
+    @Test
+    void encode_mapsFieldsToShortKeys() throws IOException {
+        ObjectNode source = message("a@test.com", "에이", "https://bucket/a.png");
+        source.put("messageNumber", 10L);
+        source.put("messageId", "m-1");
+        source.put("channelSeq", 3L);
+        source.put("channelNumber", 1L);
+        source.put("content", "https://bucket/file.png");
+        source.put("messageOrFile", true);
+        source.put("fileName", "file.png");
+        source.put("thumbnailUrl", "https://bucket/file_thumb.png");
+        source.put("sendTime", "2025-01-01T00:00:00");
+        source.put("profileThumbnailUrl", "https://bucket/a_avatar.png");
+
+        JsonNode encoded = encode(SESSION, source);
+
+        assertThat(encoded.get("i").asLong()).isEqualTo(10L);
+        assertThat(encoded.get("m").asText()).isEqualTo("m-1");
+        assertThat(encoded.get("q").asLong()).isEqualTo(3L);
+        assertThat(encoded.get("c").asLong()).isEqualTo(1L);
+        assertThat(encoded.get("t").asText()).isEqualTo("https://bucket/file.png");
+        assertThat(encoded.get("f").asBoolean()).isTrue();
+        assertThat(encoded.get("n").asText()).isEqualTo("file.png");
+        assertThat(encoded.get("h").asText()).isEqualTo("https://bucket/file_thumb.png");
+        assertThat(encoded.get("d").asText()).isEqualTo("2025-01-01T00:00:00");
+        assertThat(encoded.get("u").get("e").asText()).isEqualTo("a@test.com");
+        assertThat(encoded.get("u").get("k").asText()).isEqualTo("에이");
+        assertThat(encoded.get("u").get("a").asText()).isEqualTo("https://bucket/a.png");
+        assertThat(encoded.get("u").get("v").asText()).isEqualTo("https://bucket/a_avatar.png");
+        assertThat(encoded.get("s").asInt()).isEqualTo(encoded.get("u").get("id").asInt());
+    }
+
+    @Test
+    void encode_omitsNullFieldsAndTextMessageFlag() throws IOException {
+        ObjectNode source = message("a@test.com", null, null);
+        source.put("content", "hello");
+        source.put("messageOrFile", false);
+        source.putNull("fileName");
+
+        JsonNode encoded = encode(SESSION, source);
+
+        assertThat(encoded.has("f")).isFalse();
+        assertThat(encoded.has("n")).isFalse();
+        assertThat(encoded.get("u").has("k")).isFalse();
+        assertThat(encoded.get("u").has("a")).isFalse();
+    }
+
+    @Test
+    void encode_definesSenderOncePerSession() throws IOException {
+        JsonNode first = encode(SESSION, message("a@test.com", "에이", null));
+        JsonNode second = encode(SESSION, message("a@test.com", "에이", null));
+        JsonNode other = encode(SESSION, message("b@test.com", "비", null));
+
+        assertThat(first.has("u")).isTrue();
+        assertThat(second.has("u")).isFalse();
+        assertThat(second.get("s").asInt()).isEqualTo(first.get("s").asInt());
+        assertThat(other.get("u").get("id").asInt()).isNotEqualTo(first.get("s").asInt());
+
+        // 다른 세션은 사전을 따로 가짐
+        codec.register("session-2", "compact");
+        assertThat(encode("session-2", message("a@test.com", "에이", null)).has("u")).isTrue();
+    }
+
+    @Test
+    void encode_redefinesSenderWhenProfileChanges() throws IOException {
+        JsonNode before = encode(SESSION, message("a@test.com", "에이", null));
+        JsonNode after = encode(SESSION, message("a@test.com", "새 닉네임", null));
+
+        assertThat(after.get("u").get("k").asText()).isEqualTo("새 닉네임");
+        assertThat(after.get("s").asInt()).isNotEqualTo(before.get("s").asInt());
+    }
+
+    @Test
+    void encode_returnsNullForJsonSessionsAndUnreadablePayloads() {
+        byte[] json = "{\"content\":\"hi\"}".getBytes(StandardCharsets.UTF_8);
+
+        codec.register("json-session", "json");
+        assertThat(codec.isCompact("json-session")).isFalse();
+        assertThat(codec.encode("json-session", json)).isNull();
+        assertThat(codec.encode(null, json)).isNull();
+
+        assertThat(codec.encode(SESSION, "not json".getBytes(StandardCharsets.UTF_8))).isNull();
+        assertThat(codec.encode(SESSION, "[1,2]".getBytes(StandardCharsets.UTF_8))).isNull();
+
+        codec.remove(SESSION);
+        assertThat(codec.isCompact(SESSION)).isFalse();
+        assertThat(codec.encode(SESSION, json)).isNull();
+    }
+
+    private ObjectNode message(String sender, String nickname, String profileImage) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("sender", sender);
+        if (nickname != null) {
+            node.put("nickname", nickname);
+        }
+        if (profileImage != null) {
+            node.put("profileImage", profileImage);
+        }
+        return node;
+    }
+
+    private JsonNode encode(String sessionId, ObjectNode source) throws IOException {
+        byte[] encoded = codec.encode(sessionId, objectMapper.writeValueAsBytes(source));
+        assertThat(encoded).isNotNull();
+        return objectMapper.readTree(encoded);
+    }
+}
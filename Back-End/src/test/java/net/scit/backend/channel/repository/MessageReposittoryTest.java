@@ -0,0 +1,92 @@
+package net.scit.backend.channel.repository;
+
+import net.scit.backend.channel.entity.MessageEntity;
+import net.scit.backend.workspace.entity.WorkspaceChannelEntity;
+import net.scit.backend.workspace.entity.WorkspaceEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {"OPEN_AI_API_URL=http://localhost", "OPEN_AI_API_KEY=test"})
+class MessageReposittoryTest {
+
+    private static final String SENDER = "a@test.com";
+
+    @Autowired
+    private MessageReposittory messageReposittory;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private WorkspaceChannelEntity channel;
+    private WorkspaceChannelEntity otherChannel;
+
+    @BeforeEach
+    void setUp() {
+        WorkspaceEntity workspace = entityManager.persist(WorkspaceEntity.builder().wsName("ws").build());
+        channel = entityManager.persist(WorkspaceChannelEntity.builder().workspace(workspace).channelName("general").build());
+        otherChannel = entityManager.persist(WorkspaceChannelEntity.builder().workspace(workspace).channelName("random").build());
+    }
+
+    @Test
+    void findUnsequencedFileMessage_matchesOnlyOwnFileInSameChannel() {
+        MessageEntity file = save(channel, SENDER, true);
+        MessageEntity text = save(channel, SENDER, false);
+
+        assertThat(messageReposittory.findUnsequencedFileMessage(file.getMessageNumber(), channel.getChannelNumber(), SENDER))
+                .isPresent();
+        assertThat(messageReposittory.findUnsequencedFileMessage(file.getMessageNumber(), otherChannel.getChannelNumber(), SENDER))
+                .isEmpty();
+        assertThat(messageReposittory.findUnsequencedFileMessage(file.getMessageNumber(), channel.getChannelNumber(), "b@test.com"))
+                .isEmpty();
+        assertThat(messageReposittory.findUnsequencedFileMessage(text.getMessageNumber(), channel.getChannelNumber(), SENDER))
+                .isEmpty();
+    }
+
+    @Test
+    void updateChannelSeq_isRestrictedToChannelAndSetsOnlyOnce() {
+        MessageEntity file = save(channel, SENDER, true);
+
+        assertThat(messageReposittory.updateChannelSeq(file.getMessageNumber(), otherChannel.getChannelNumber(), 1L)).isZero();
+        assertThat(messageReposittory.updateChannelSeq(file.getMessageNumber(), channel.getChannelNumber(), 1L)).isEqualTo(1);
+        assertThat(messageReposittory.updateChannelSeq(file.getMessageNumber(), channel.getChannelNumber(), 2L)).isZero();
+        entityManager.clear();
+
+        assertThat(messageReposittory.findById(file.getMessageNumber()))
+                .hasValueSatisfying(message -> assertThat(message.getChannelSeq()).isEqualTo(1L));
+        assertThat(messageReposittory.findUnsequencedFileMessage(file.getMessageNumber(), channel.getChannelNumber(), SENDER))
+                .isEmpty();
+    }
+
+    @Test
+    void findFileUrlsAfter_pagesFileMessagesByNumber() {
+        MessageEntity first = save(channel, SENDER, true);
+        save(channel, SENDER, false);
+        MessageEntity second = save(otherChannel, SENDER, true);
+
+        List<Object[]> page = messageReposittory.findFileUrlsAfter(0L, PageRequest.of(0, 1));
+        assertThat(page).hasSize(1);
+        assertThat(page.get(0)).containsExactly(first.getMessageNumber(), "https://bucket/file.png");
+
+        List<Object[]> next = messageReposittory.findFileUrlsAfter(first.getMessageNumber(), PageRequest.of(0, 10));
+        assertThat(next).extracting(row -> row[0]).containsExactly(second.getMessageNumber());
+        assertThat(messageReposittory.findFileUrlsAfter(second.getMessageNumber(), PageRequest.of(0, 10))).isEmpty();
+    }
+
+    private MessageEntity save(WorkspaceChannelEntity target, String sender, boolean file) {
+        return entityManager.persistAndFlush(MessageEntity.builder()
+                .workspaceChannelEntity(target)
+                .sender(sender)
+                .content(file ? "https://bucket/file.png" : "hello")
+                .messageOrFile(file)
+                .fileName(file ? "file.png" : null)
+                .build());
+    }
+}
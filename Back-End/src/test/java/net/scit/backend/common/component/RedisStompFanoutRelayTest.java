@@ -0,0 +1,132 @@
+package net.scit.backend.common.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.util.MimeTypeUtils;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 두 노드를 흉내 내어 내장 Redis pub/sub으로 STOMP 메시지가 다른 노드에 메시지 ID당 한 번만 재주입되는지 확인
+ */
+class RedisStompFanoutRelayTest {
+
+    private static final String DESTINATION = "/exchange/chat-exchange/msg.1";
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RedisMessageListenerContainer containerA;
+    private RedisMessageListenerContainer containerB;
+    private SimpMessagingTemplate templateA;
+    private SimpMessagingTemplate templateB;
+    private RedisStompFanoutRelay relayA;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        templateA = mock(SimpMessagingTemplate.class);
+        templateB = mock(SimpMessagingTemplate.class);
+        containerA = createContainer();
+        containerB = createContainer();
+        relayA = new RedisStompFanoutRelay(redisTemplate, containerA, provider(templateA), new ObjectMapper());
+        RedisStompFanoutRelay relayB = new RedisStompFanoutRelay(redisTemplate, containerB, provider(templateB), new ObjectMapper());
+        relayA.subscribe();
+        relayB.subscribe();
+        // 리스너를 먼저 등록하고 시작하면 start()가 구독이 맺어질 때까지 기다림
+        containerA.start();
+        containerB.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        containerA.destroy();
+        containerB.destroy();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void publish_reinjectsOnOtherNodeWithRelayedHeader() {
+        byte[] payload = "{\"content\":\"hi\"}".getBytes(StandardCharsets.UTF_8);
+
+        relayA.publish("m-1", DESTINATION, payload, MimeTypeUtils.APPLICATION_JSON);
+
+        ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(templateB, timeout(5000)).send(eq(DESTINATION), captor.capture());
+        assertThat((byte[]) captor.getValue().getPayload()).isEqualTo(payload);
+        assertThat(captor.getValue().getHeaders()).containsKey(RedisStompFanoutRelay.RELAYED_HEADER);
+        verify(templateA, after(200).never()).send(anyString(), any(Message.class));
+    }
+
+    @Test
+    void publish_sameMessageIdIsReinjectedOnce() {
+        byte[] payload = "{}".getBytes(StandardCharsets.UTF_8);
+
+        relayA.publish("m-1", DESTINATION, payload, null);
+        relayA.publish("m-1", DESTINATION, payload, null);
+        relayA.publish("m-2", DESTINATION, payload, null);
+
+        verify(templateB, timeout(5000).times(2)).send(eq(DESTINATION), any(Message.class));
+        verify(templateB, after(200).times(2)).send(eq(DESTINATION), any(Message.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<SimpMessagingTemplate> provider(SimpMessagingTemplate template) {
+        ObjectProvider<SimpMessagingTemplate> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(template);
+        return provider;
+    }
+
+    private static RedisMessageListenerContainer createContainer() throws Exception {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.afterPropertiesSet();
+        return container;
+    }
+}
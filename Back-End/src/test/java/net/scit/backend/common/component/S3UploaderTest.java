@@ -0,0 +1,128 @@
+package net.scit.backend.common.component;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.AnonymousAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.model.ListMultipartUploadsRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import io.findify.s3mock.S3Mock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ServerSocket;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 S3 호환 저장소(S3Mock)에 path-style로 연결해 업로드, 키 추출, 다운로드, 삭제를 확인
+ */
+class S3UploaderTest {
+
+    private static final String BUCKET = "bibim-test";
+    private static final int MB = 1024 * 1024;
+
+    private static S3Mock s3Mock;
+    private static String endpoint;
+    private static AmazonS3 amazonS3;
+
+    private S3MultipartUploader multipartUploader;
+    private S3Uploader s3Uploader;
+
+    @BeforeAll
+    static void startS3() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        s3Mock = new S3Mock.Builder().withPort(port).withInMemoryBackend().build();
+        s3Mock.start();
+        endpoint = "http://localhost:" + port;
+
+        // S3Configuration과 같은 방식으로 endpoint + path-style 클라이언트 생성
+        amazonS3 = AmazonS3ClientBuilder.standard()
+                .withCredentials(new AWSStaticCredentialsProvider(new AnonymousAWSCredentials()))
+                .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, "ap-northeast-2"))
+                .withPathStyleAccessEnabled(true)
+                .build();
+        amazonS3.createBucket(BUCKET);
+    }
+
+    @AfterAll
+    static void stopS3() {
+        amazonS3.shutdown();
+        s3Mock.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        // 파트 크기는 S3 최소값(5MB), 6MB 이상이면 멀티파트
+        multipartUploader = new S3MultipartUploader(amazonS3, new SimpleMeterRegistry(), BUCKET, 5L * MB, 2, 2, 3);
+        s3Uploader = new S3Uploader(amazonS3, multipartUploader, BUCKET, 6L * MB, endpoint);
+    }
+
+    @AfterEach
+    void tearDown() {
+        multipartUploader.shutdown();
+    }
+
+    @Test
+    void getKeyFromUrl_stripsBucketSegmentOfPathStyleUrl() {
+        String url = s3Uploader.putObject("workdata/a.txt", "hello".getBytes(), "text/plain");
+
+        assertThat(url).isEqualTo(endpoint + "/" + BUCKET + "/workdata/a.txt");
+        assertThat(s3Uploader.getKeyFromUrl(url)).isEqualTo("workdata/a.txt");
+    }
+
+    @Test
+    void getKeyFromUrl_keepsPathOfVirtualHostedUrl() {
+        S3Uploader awsUploader = new S3Uploader(amazonS3, multipartUploader, BUCKET, 6L * MB, "");
+
+        assertThat(awsUploader.getKeyFromUrl("https://" + BUCKET + ".s3.ap-northeast-2.amazonaws.com/workdata/a.txt"))
+                .isEqualTo("workdata/a.txt");
+    }
+
+    @Test
+    void upload_smallContentRoundTripsAndDeletes() throws IOException {
+        byte[] content = randomBytes(1024);
+
+        String url = s3Uploader.upload(content, "workdata", "small.bin", "application/octet-stream");
+
+        assertThat(download(url)).isEqualTo(content);
+
+        String key = s3Uploader.getKeyFromUrl(url);
+        s3Uploader.deleteFile(key);
+        assertThat(amazonS3.doesObjectExist(BUCKET, key)).isFalse();
+    }
+
+    @Test
+    void upload_largeContentUsesMultipartAndRoundTrips() throws IOException {
+        byte[] content = randomBytes(11 * MB); // 5MB + 5MB + 1MB 파트
+
+        String url = s3Uploader.upload(content, "workdata", "large.bin", "application/octet-stream");
+
+        assertThat(download(url)).isEqualTo(content);
+        assertThat(amazonS3.listMultipartUploads(new ListMultipartUploadsRequest(BUCKET)).getMultipartUploads())
+                .isEmpty();
+    }
+
+    private byte[] download(String url) throws IOException {
+        try (S3Object object = s3Uploader.download(url); InputStream in = object.getObjectContent()) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
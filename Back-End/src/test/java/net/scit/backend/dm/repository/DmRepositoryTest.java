@@ -0,0 +1,105 @@
+package net.scit.backend.dm.repository;
+
+import net.scit.backend.dm.entity.DmMessageEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "OPEN_AI_API_URL=http://localhost",
+        "OPEN_AI_API_KEY=test"
+})
+class DmRepositoryTest {
+
+    private static final String ROOM = "dm-1-a@test.com-b@test.com";
+    private static final String OTHER_ROOM = "dm-1-a@test.com-c@test.com";
+
+    @Autowired
+    private DmRepository dmRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long legacyId;
+
+    @BeforeEach
+    void setUp() {
+        // room_key 컬럼 추가 전에 저장된 메시지 (room_key = NULL)
+        legacyId = save(ROOM, "a@test.com", "b@test.com", "legacy").getId();
+        entityManager.getEntityManager()
+                .createQuery("UPDATE DmMessageEntity d SET d.roomKey = NULL WHERE d.Id = :id")
+                .setParameter("id", legacyId)
+                .executeUpdate();
+
+        for (int i = 1; i <= 5; i++) {
+            save(ROOM, i % 2 == 0 ? "a@test.com" : "b@test.com", i % 2 == 0 ? "b@test.com" : "a@test.com", "m" + i);
+        }
+        save(OTHER_ROOM, "a@test.com", "c@test.com", "other");
+        entityManager.clear();
+    }
+
+    @Test
+    void findRoomLatest_includesLegacyRowsOnlyUntilBackfillCompletes() {
+        long roomKey = DmMessageEntity.roomKeyOf(ROOM);
+
+        List<DmMessageEntity> withLegacy = dmRepository.findRoomLatest(roomKey, ROOM, true, PageRequest.of(0, 100));
+        List<DmMessageEntity> keyedOnly = dmRepository.findRoomLatest(roomKey, ROOM, false, PageRequest.of(0, 100));
+
+        assertThat(withLegacy).hasSize(6).extracting(DmMessageEntity::getId).contains(legacyId);
+        assertThat(keyedOnly).hasSize(5).extracting(DmMessageEntity::getId).doesNotContain(legacyId);
+        assertThat(withLegacy).extracting(DmMessageEntity::getRoomId).containsOnly(ROOM);
+    }
+
+    @Test
+    void findRoomLatest_returnsNewestFirst() {
+        List<DmMessageEntity> page = dmRepository.findRoomLatest(
+                DmMessageEntity.roomKeyOf(ROOM), ROOM, true, PageRequest.of(0, 3));
+
+        assertThat(page).extracting(DmMessageEntity::getDmContent).containsExactly("m5", "m4", "m3");
+    }
+
+    @Test
+    void findRoomBefore_pagesFromCursorWithoutOverlap() {
+        long roomKey = DmMessageEntity.roomKeyOf(ROOM);
+        List<DmMessageEntity> first = dmRepository.findRoomLatest(roomKey, ROOM, true, PageRequest.of(0, 3));
+        DmMessageEntity last = first.get(first.size() - 1);
+
+        List<DmMessageEntity> next = dmRepository.findRoomBefore(
+                roomKey, ROOM, true, last.getSendTime(), last.getId(), PageRequest.of(0, 10));
+
+        assertThat(next).extracting(DmMessageEntity::getDmContent).containsExactly("m2", "m1", "legacy");
+    }
+
+    @Test
+    void assignRoomKey_fillsLegacyRows() {
+        assertThat(dmRepository.findRoomIdsWithoutRoomKey(PageRequest.of(0, 10))).containsExactly(ROOM);
+
+        int updated = dmRepository.assignRoomKey(ROOM, DmMessageEntity.roomKeyOf(ROOM));
+        entityManager.clear();
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(dmRepository.findRoomIdsWithoutRoomKey(PageRequest.of(0, 10))).isEmpty();
+        assertThat(dmRepository.findRoomLatest(DmMessageEntity.roomKeyOf(ROOM), ROOM, false, PageRequest.of(0, 100)))
+                .hasSize(6);
+    }
+
+    private DmMessageEntity save(String roomId, String sender, String receiver, String content) {
+        DmMessageEntity message = DmMessageEntity.builder()
+                .wsId(1L)
+                .roomId(roomId)
+                .sender(sender)
+                .receiver(receiver)
+                .dmContent(content)
+                .isFile(false)
+                .isRead(false)
+                .build();
+        return entityManager.persistAndFlush(message);
+    }
+}
@@ -0,0 +1,81 @@
+package net.scit.backend.dm.service;
+
+import net.scit.backend.common.component.ArchiveCodec;
+import net.scit.backend.dm.DTO.DmMessageDTO;
+import net.scit.backend.dm.entity.DmArchiveEntity;
+import net.scit.backend.dm.repository.DmArchiveRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {"OPEN_AI_API_URL=http://localhost", "OPEN_AI_API_KEY=test"})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({DmArchiveService.class, ArchiveCodec.class})
+class DmArchiveServiceTest {
+
+    private static final String ROOM = "dm-1-a-b";
+
+    @Autowired
+    private DmArchiveService dmArchiveService;
+
+    @Autowired
+    private DmArchiveRepository dmArchiveRepository;
+
+    @Autowired
+    private ArchiveCodec archiveCodec;
+
+    @BeforeEach
+    void setUp() {
+        archive(1, 5);
+        archive(6, 10);
+        archive(11, 15);
+    }
+
+    @Test
+    void readBefore_returnsNewestFirstAcrossBlocksUpToLimit() {
+        List<DmMessageDTO> messages = dmArchiveService.readBefore(ROOM, Long.MAX_VALUE, 7);
+
+        assertThat(messages).extracting(DmMessageDTO::getDmNumber).containsExactly(15L, 14L, 13L, 12L, 11L, 10L, 9L);
+    }
+
+    @Test
+    void readBefore_startsBelowBoundary() {
+        List<DmMessageDTO> messages = dmArchiveService.readBefore(ROOM, 8L, 10);
+
+        assertThat(messages).extracting(DmMessageDTO::getDmNumber).containsExactly(7L, 6L, 5L, 4L, 3L, 2L, 1L);
+    }
+
+    private void archive(long first, long last) {
+        List<DmMessageDTO> messages = LongStream.rangeClosed(first, last)
+                .mapToObj(dmNumber -> DmMessageDTO.builder()
+                        .dmNumber(dmNumber)
+                        .wsId(1L)
+                        .roomId(ROOM)
+                        .sender("a@test.com")
+                        .receiver("b@test.com")
+                        .dmContent("message " + dmNumber)
+                        .sendTime(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(dmNumber))
+                        .build())
+                .toList();
+        dmArchiveRepository.save(DmArchiveEntity.builder()
+                .roomId(ROOM)
+                .wsId(1L)
+                .archiveMonth("2024-01")
+                .firstDmNumber(first)
+                .lastDmNumber(last)
+                .messageCount(messages.size())
+                .payload(archiveCodec.encode(messages))
+                .archivedAt(LocalDateTime.now())
+                .build());
+    }
+}
@@ -0,0 +1,181 @@
+package net.scit.backend.dm.service;
+
+import net.scit.backend.common.component.ArchiveCodec;
+import net.scit.backend.dm.DTO.DmInboxDTO;
+import net.scit.backend.dm.DTO.DmMessageDTO;
+import net.scit.backend.dm.entity.DmArchiveEntity;
+import net.scit.backend.dm.entity.DmInboxEntity;
+import net.scit.backend.dm.entity.DmMessageEntity;
+import net.scit.backend.dm.repository.DmArchiveRepository;
+import net.scit.backend.dm.repository.DmInboxBackfillRepository;
+import net.scit.backend.dm.repository.DmInboxRepository;
+import net.scit.backend.dm.repository.DmRepository;
+import net.scit.backend.workspace.component.WorkspaceMemberProfileResolver;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 대화 목록 upsert는 MySQL 문법(ON DUPLICATE KEY UPDATE)이므로 H2를 MySQL 모드로 실행
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:dm-inbox;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "OPEN_AI_API_URL=http://localhost",
+        "OPEN_AI_API_KEY=test"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({DmInboxService.class, DmArchiveService.class, ArchiveCodec.class})
+class DmInboxServiceTest {
+
+    private static final Long WS_ID = 1L;
+    private static final String OWNER = "owner@test.com";
+    private static final String PEER_B = "b@test.com";
+    private static final String PEER_C = "c@test.com";
+    private static final String ROOM_B = "dm-1-b-owner";
+    private static final String ROOM_C = "dm-1-c-owner";
+
+    @Autowired
+    private DmInboxService dmInboxService;
+
+    @Autowired
+    private DmRepository dmRepository;
+
+    @Autowired
+    private DmInboxRepository dmInboxRepository;
+
+    @Autowired
+    private DmInboxBackfillRepository dmInboxBackfillRepository;
+
+    @Autowired
+    private DmArchiveRepository dmArchiveRepository;
+
+    @Autowired
+    private ArchiveCodec archiveCodec;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockitoBean
+    private WorkspaceMemberProfileResolver profileResolver;
+
+    @Test
+    void getInbox_backfillsOlderRoomsEvenWhenNewMessagesAlreadyCreatedRows() {
+        // 도입 전 메시지 2건 (받은 사람 기준 안 읽음)
+        saveMessage(ROOM_B, PEER_B, OWNER, "old-1");
+        saveMessage(ROOM_B, PEER_B, OWNER, "old-2");
+        // 도입 후 메시지: recordMessage로 행이 먼저 생김 (안 읽은 수 1)
+        dmInboxService.recordMessage(saveMessage(ROOM_B, PEER_B, OWNER, "new"));
+        // 메시지가 모두 보관 블록으로 옮겨진 방
+        archive(ROOM_C, List.of(
+                archived(10L, PEER_C, OWNER, "archived-1", true),
+                archived(11L, OWNER, PEER_C, "archived-2", true),
+                archived(12L, PEER_C, OWNER, "archived-3", false)));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<DmInboxDTO> inbox = dmInboxService.getInbox(WS_ID, OWNER, 0, 20);
+
+        assertThat(inbox).extracting(DmInboxDTO::getRoomId).containsExactly(ROOM_B, ROOM_C);
+        Map<String, DmInboxDTO> byRoom = Map.of(inbox.get(0).getRoomId(), inbox.get(0), inbox.get(1).getRoomId(), inbox.get(1));
+        assertThat(byRoom.get(ROOM_B).getLastMessage()).isEqualTo("new");
+        assertThat(byRoom.get(ROOM_B).getUnreadCount()).isEqualTo(3);
+        assertThat(byRoom.get(ROOM_B).getPeer()).isEqualTo(PEER_B);
+        assertThat(byRoom.get(ROOM_C).getLastMessage()).isEqualTo("archived-3");
+        assertThat(byRoom.get(ROOM_C).getLastDmNumber()).isEqualTo(12L);
+        assertThat(byRoom.get(ROOM_C).getUnreadCount()).isEqualTo(1);
+        assertThat(dmInboxBackfillRepository.existsByOwnerAndWsId(OWNER, WS_ID)).isTrue();
+    }
+
+    @Test
+    void getInbox_backfillsOnlyOnce() {
+        saveMessage(ROOM_B, PEER_B, OWNER, "old");
+        entityManager.flush();
+
+        dmInboxService.getInbox(WS_ID, OWNER, 0, 20);
+        dmInboxService.getInbox(WS_ID, OWNER, 0, 20);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(dmInboxRepository.findAll()).hasSize(1);
+        assertThat(dmInboxBackfillRepository.findAll()).hasSize(1);
+    }
+
+    @Test
+    void recordMessage_keepsLatestPreviewWhenOlderMessageArrivesLate() {
+        DmMessageEntity older = saveMessage(ROOM_B, PEER_B, OWNER, "older");
+        DmMessageEntity newer = saveMessage(ROOM_B, PEER_B, OWNER, "newer");
+
+        dmInboxService.recordMessage(newer);
+        dmInboxService.recordMessage(older);
+        entityManager.clear();
+
+        DmInboxEntity row = dmInboxRepository.findAll().stream()
+                .filter(inbox -> inbox.getOwner().equals(OWNER))
+                .findFirst()
+                .orElseThrow();
+        assertThat(row.getLastPreview()).isEqualTo("newer");
+        assertThat(row.getLastDmNumber()).isEqualTo(newer.getId());
+    }
+
+    @Test
+    void markRead_neverGoesBelowZero() {
+        dmInboxService.recordMessage(saveMessage(ROOM_B, PEER_B, OWNER, "hello"));
+
+        dmInboxService.markRead(OWNER, ROOM_B, 5);
+        entityManager.clear();
+
+        assertThat(dmInboxRepository.findAll()).filteredOn(row -> row.getOwner().equals(OWNER))
+                .singleElement()
+                .extracting(DmInboxEntity::getUnreadCount)
+                .isEqualTo(0);
+    }
+
+    private DmMessageEntity saveMessage(String roomId, String sender, String receiver, String content) {
+        return dmRepository.saveAndFlush(DmMessageEntity.builder()
+                .wsId(WS_ID)
+                .roomId(roomId)
+                .sender(sender)
+                .receiver(receiver)
+                .dmContent(content)
+                .isFile(false)
+                .isRead(false)
+                .build());
+    }
+
+    private DmMessageDTO archived(Long dmNumber, String sender, String receiver, String content, boolean isRead) {
+        return DmMessageDTO.builder()
+                .dmNumber(dmNumber)
+                .wsId(WS_ID)
+                .roomId(ROOM_C)
+                .sender(sender)
+                .receiver(receiver)
+                .dmContent(content)
+                .isRead(isRead)
+                .sendTime(LocalDateTime.of(2024, 1, 1, 9, 0).plusMinutes(dmNumber))
+                .build();
+    }
+
+    private void archive(String roomId, List<DmMessageDTO> messages) {
+        dmArchiveRepository.save(DmArchiveEntity.builder()
+                .roomId(roomId)
+                .wsId(WS_ID)
+                .archiveMonth("2024-01")
+                .firstDmNumber(messages.get(0).getDmNumber())
+                .lastDmNumber(messages.get(messages.size() - 1).getDmNumber())
+                .messageCount(messages.size())
+                .payload(archiveCodec.encode(messages))
+                .archivedAt(LocalDateTime.now())
+                .build());
+    }
+}
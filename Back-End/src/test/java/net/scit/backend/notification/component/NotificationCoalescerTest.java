@@ -0,0 +1,156 @@
+package net.scit.backend.notification.component;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.scit.backend.notification.entity.NotificationEntity;
+import net.scit.backend.notification.event.BasedUpdatedEvent;
+import net.scit.backend.notification.service.NotificationService;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationCoalescerTest {
+
+    private static final String UPDATE = "schedule_info_update";
+
+    private final NotificationService notificationService = mock(NotificationService.class);
+    private final NotificationCoalescer coalescer = new NotificationCoalescer(
+            notificationService, new SimpleMeterRegistry(), Set.of(UPDATE), 30_000, 100);
+
+    @Test
+    void firstUpdateIsSentImmediately() {
+        NotificationEntity first = notification("a@test.com", UPDATE, "일정이 수정되었습니다.");
+
+        coalescer.submit(event(UPDATE, 1L), List.of(first));
+
+        verify(notificationService).createAndSendNotifications(List.of(first));
+        assertThat(coalescer.drainAll()).isEmpty();
+    }
+
+    @Test
+    void followUpsWithinWindowAreMergedIntoLatest() {
+        coalescer.submit(event(UPDATE, 1L), List.of(notification("a@test.com", UPDATE, "v1")));
+        coalescer.submit(event(UPDATE, 1L), List.of(notification("a@test.com", UPDATE, "v2")));
+        coalescer.submit(event(UPDATE, 1L), List.of(notification("a@test.com", UPDATE, "v3")));
+
+        verify(notificationService, times(1)).createAndSendNotifications(anyList());
+        assertThat(coalescer.drainDue(System.currentTimeMillis())).isEmpty(); // 창이 아직 열려 있음
+
+        List<NotificationEntity> due = coalescer.drainDue(System.currentTimeMillis() + 30_000);
+        assertThat(due).singleElement()
+                .extracting(NotificationEntity::getNotificationContent)
+                .isEqualTo("v3 (2건의 변경)");
+        // 창이 닫힌 뒤 수정은 다시 바로 전송
+        coalescer.submit(event(UPDATE, 1L), List.of(notification("a@test.com", UPDATE, "v4")));
+        verify(notificationService, times(2)).createAndSendNotifications(anyList());
+    }
+
+    @Test
+    void windowsAreKeptPerReceiverAndEntity() {
+        coalescer.submit(event(UPDATE, 1L), List.of(
+                notification("a@test.com", UPDATE, "a"),
+                notification("b@test.com", UPDATE, "b")));
+        coalescer.submit(event(UPDATE, 2L), List.of(notification("a@test.com", UPDATE, "other")));
+        coalescer.submit(event(UPDATE, 1L), List.of(notification("b@test.com", UPDATE, "b2")));
+
+        verify(notificationService, times(2)).createAndSendNotifications(anyList());
+        assertThat(coalescer.drainAll()).extracting(NotificationEntity::getReceiverEmail).containsExactly("b@test.com");
+    }
+
+    @Test
+    void nonCoalescedTypesBypassTheWindow() {
+        coalescer.submit(event("schedule_create", 1L), List.of(notification("a@test.com", "schedule_create", "x")));
+        coalescer.submit(event("schedule_create", 1L), List.of(notification("a@test.com", "schedule_create", "y")));
+
+        verify(notificationService, times(2)).createAndSendNotifications(anyList());
+        assertThat(coalescer.drainAll()).isEmpty();
+    }
+
+    @Test
+    void failedImmediateSendClosesTheWindowSoRetrySendsAgain() {
+        when(notificationService.createAndSendNotifications(anyList()))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(List.of());
+        List<NotificationEntity> notifications = List.of(notification("a@test.com", UPDATE, "v1"));
+
+        assertThatThrownBy(() -> coalescer.submit(event(UPDATE, 1L), notifications))
+                .isInstanceOf(IllegalStateException.class);
+        coalescer.submit(event(UPDATE, 1L), notifications);
+
+        verify(notificationService, times(2)).createAndSendNotifications(notifications);
+        assertThat(coalescer.drainAll()).isEmpty();
+    }
+
+    @Test
+    void failedImmediateSendKeepsFollowUpMergedMeanwhile() {
+        NotificationEntity first = notification("a@test.com", UPDATE, "v1");
+        when(notificationService.createAndSendNotifications(List.of(first))).thenAnswer(invocation -> {
+            // 첫 알림을 보내는 사이 다른 이벤트가 같은 창에 후속 알림을 합침
+            coalescer.submit(event(UPDATE, 1L), List.of(notification("a@test.com", UPDATE, "v2")));
+            throw new IllegalStateException("db down");
+        });
+
+        assertThatThrownBy(() -> coalescer.submit(event(UPDATE, 1L), List.of(first)))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(coalescer.drainAll()).singleElement()
+                .extracting(NotificationEntity::getNotificationContent).asString()
+                .startsWith("v2");
+    }
+
+    @Test
+    void mergedContentIsTruncatedToColumnLength() {
+        coalescer.submit(event(UPDATE, 1L), List.of(notification("a@test.com", UPDATE, "x")));
+        coalescer.submit(event(UPDATE, 1L), List.of(notification("a@test.com", UPDATE, "y".repeat(300))));
+        coalescer.submit(event(UPDATE, 1L), List.of(notification("a@test.com", UPDATE, "z".repeat(300))));
+
+        assertThat(coalescer.drainAll()).singleElement().satisfies(notification -> {
+            assertThat(notification.getNotificationContent()).hasSize(255).endsWith(" (2건의 변경)");
+        });
+    }
+
+    private static NotificationEntity notification(String receiver, String type, String content) {
+        NotificationEntity notification = new NotificationEntity();
+        notification.setReceiverEmail(receiver);
+        notification.setNotificationType(type);
+        notification.setNotificationContent(content);
+        return notification;
+    }
+
+    private static BasedUpdatedEvent event(String type, Long entityId) {
+        return new BasedUpdatedEvent() {
+            @Override
+            public String getUpdatedBy() {
+                return "editor@test.com";
+            }
+
+            @Override
+            public Long getEntityId() {
+                return entityId;
+            }
+
+            @Override
+            public String getNotificationName() {
+                return "일정 수정";
+            }
+
+            @Override
+            public String getNotificationType() {
+                return type;
+            }
+
+            @Override
+            public String getNotificationContent() {
+                return "일정이 수정되었습니다.";
+            }
+        };
+    }
+}
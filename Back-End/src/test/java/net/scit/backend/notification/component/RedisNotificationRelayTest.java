@@ -0,0 +1,130 @@
+package net.scit.backend.notification.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.scit.backend.notification.entity.NotificationEntity;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 두 노드를 흉내 내어 내장 Redis pub/sub으로 알림과 연결 종료 요청이 다른 노드에만 전달되는지 확인
+ */
+class RedisNotificationRelayTest {
+
+    private static final String EMAIL = "a@test.com";
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private RedisMessageListenerContainer containerA;
+    private RedisMessageListenerContainer containerB;
+    private SseEmitterRegistry registryA;
+    private SseEmitterRegistry registryB;
+    private RedisNotificationRelay relayA;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        registryA = mock(SseEmitterRegistry.class);
+        registryB = mock(SseEmitterRegistry.class);
+        containerA = createContainer();
+        containerB = createContainer();
+        relayA = new RedisNotificationRelay(redisTemplate, containerA, registryA, objectMapper, new SimpleMeterRegistry());
+        RedisNotificationRelay relayB = new RedisNotificationRelay(redisTemplate, containerB, registryB, objectMapper, new SimpleMeterRegistry());
+        relayA.subscribe();
+        relayB.subscribe();
+        // 리스너를 먼저 등록하고 시작하면 start()가 구독이 맺어질 때까지 기다림
+        containerA.start();
+        containerB.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        containerA.destroy();
+        containerB.destroy();
+    }
+
+    @Test
+    void publish_deliversOnlyOnOtherNode() {
+        NotificationEntity notification = new NotificationEntity();
+        notification.setNotificationNumber(1L);
+        notification.setReceiverEmail(EMAIL);
+
+        relayA.publish(List.of(notification));
+
+        verify(registryB, timeout(5000)).deliver(anyList());
+        verify(registryA, after(200).never()).deliver(any());
+    }
+
+    @Test
+    void publishDisconnect_closesConnectionsOnOtherNode() {
+        when(registryB.hasConnection(EMAIL)).thenReturn(true);
+
+        relayA.publishDisconnect(EMAIL);
+
+        verify(registryB, timeout(5000)).removeAll(EMAIL);
+        verify(registryA, after(200).never()).removeAll(anyString());
+    }
+
+    @Test
+    void publishDisconnect_skipsNodeWithoutConnection() {
+        when(registryB.hasConnection(EMAIL)).thenReturn(false);
+
+        relayA.publishDisconnect(EMAIL);
+
+        verify(registryB, timeout(5000)).hasConnection(EMAIL);
+        verify(registryB, never()).removeAll(anyString());
+    }
+
+    private static RedisMessageListenerContainer createContainer() throws Exception {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.afterPropertiesSet();
+        return container;
+    }
+}
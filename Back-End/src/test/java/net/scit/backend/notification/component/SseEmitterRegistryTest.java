@@ -0,0 +1,178 @@
+package net.scit.backend.notification.component;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.scit.backend.notification.entity.NotificationEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseEmitterRegistryTest {
+
+    private static final String EMAIL = "a@test.com";
+    private static final Pattern EVENT_ID = Pattern.compile("^id:(\\d+)$", Pattern.MULTILINE);
+
+    private final List<RecordingEmitter> created = new ArrayList<>();
+    private SseEmitterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SseEmitterRegistry(new SimpleMeterRegistry(), 60_000, 0, 3000, 0, 2, 3_600_000) {
+            @Override
+            SseEmitter createEmitter(long timeout) {
+                RecordingEmitter emitter = new RecordingEmitter(timeout);
+                created.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    void liveNotificationsWaitForReplayAndSkipReplayedIds() throws IOException {
+        SseEmitter emitter = registry.register(EMAIL);
+
+        // 재전송 조회 중에 실시간 알림이 들어옴 (4는 재전송에도 포함됨)
+        registry.deliver(List.of(notification(4L), notification(5L)));
+        assertThat(recorded(emitter).ids).isEmpty();
+
+        emitter.send(SseEmitterRegistry.toEvent(notification(3L)));
+        emitter.send(SseEmitterRegistry.toEvent(notification(4L)));
+        registry.activate(EMAIL, emitter, Set.of(3L, 4L));
+
+        assertThat(recorded(emitter).ids).containsExactly(3L, 4L, 5L);
+
+        registry.deliver(List.of(notification(6L)));
+        assertThat(recorded(emitter).ids).containsExactly(3L, 4L, 5L, 6L);
+    }
+
+    @Test
+    void bufferedNotificationBelowReplayedIdIsStillSent() throws IOException {
+        SseEmitter emitter = registry.register(EMAIL);
+
+        // 번호가 낮은 알림이 재전송 조회 뒤에 커밋되어 들어옴
+        emitter.send(SseEmitterRegistry.toEvent(notification(5L)));
+        registry.deliver(List.of(notification(2L)));
+        registry.activate(EMAIL, emitter, Set.of(5L));
+
+        assertThat(recorded(emitter).ids).containsExactly(5L, 2L);
+    }
+
+    @Test
+    void heartbeatSkipsConnectionsStillSendingReplay() {
+        SseEmitter pending = registry.register(EMAIL);
+        SseEmitter active = registry.register("b@test.com");
+        registry.activate("b@test.com", active, Set.of());
+
+        registry.sendHeartbeats();
+
+        assertThat(recorded(pending).frames).isZero();
+        assertThat(recorded(active).frames).isEqualTo(1);
+    }
+
+    @Test
+    void failedConnectionIsRemovedWithoutDroppingOtherConnections() {
+        SseEmitter broken = registry.register(EMAIL);
+        SseEmitter healthy = registry.register(EMAIL);
+        registry.activate(EMAIL, broken, Set.of());
+        registry.activate(EMAIL, healthy, Set.of());
+        recorded(broken).failing = true;
+
+        assertThat(registry.deliver(List.of(notification(1L)))).isEqualTo(1);
+        assertThat(recorded(healthy).ids).containsExactly(1L);
+        assertThat(recorded(broken).completed).isTrue();
+
+        registry.deliver(List.of(notification(2L)));
+        assertThat(recorded(healthy).ids).containsExactly(1L, 2L);
+        assertThat(registry.hasConnection(EMAIL)).isTrue();
+    }
+
+    @Test
+    void oldestConnectionIsClosedOverPerUserLimit() {
+        SseEmitter first = registry.register(EMAIL);
+        SseEmitter second = registry.register(EMAIL);
+        SseEmitter third = registry.register(EMAIL);
+
+        assertThat(recorded(first).completed).isTrue();
+        assertThat(recorded(second).completed).isFalse();
+        assertThat(recorded(third).completed).isFalse();
+    }
+
+    @Test
+    void removeAllClosesEveryConnectionOfUser() {
+        SseEmitter first = registry.register(EMAIL);
+        SseEmitter second = registry.register(EMAIL);
+
+        registry.removeAll(EMAIL);
+
+        assertThat(registry.hasConnection(EMAIL)).isFalse();
+        assertThat(recorded(first).completed).isTrue();
+        assertThat(recorded(second).completed).isTrue();
+    }
+
+    private RecordingEmitter recorded(SseEmitter emitter) {
+        return created.stream().filter(e -> e == emitter).findFirst().orElseThrow();
+    }
+
+    private static NotificationEntity notification(Long number) {
+        NotificationEntity notification = new NotificationEntity();
+        notification.setNotificationNumber(number);
+        notification.setReceiverEmail(EMAIL);
+        notification.setNotificationContent("알림 " + number);
+        return notification;
+    }
+
+    /**
+     * 보낸 이벤트 ID와 전송 횟수를 기록하는 SseEmitter (HTTP 응답 없이 동작)
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<Long> ids = new ArrayList<>();
+        private int frames;
+        private boolean failing;
+        private boolean completed;
+
+        RecordingEmitter(long timeout) {
+            super(timeout);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            send(builder.build());
+        }
+
+        @Override
+        public synchronized void send(Set<ResponseBodyEmitter.DataWithMediaType> items) throws IOException {
+            if (failing) {
+                throw new IOException("broken pipe");
+            }
+            frames++;
+            for (ResponseBodyEmitter.DataWithMediaType item : items) {
+                if (item.getData() instanceof String text) {
+                    Matcher matcher = EVENT_ID.matcher(text);
+                    while (matcher.find()) {
+                        ids.add(Long.parseLong(matcher.group(1)));
+                    }
+                }
+            }
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+    }
+}
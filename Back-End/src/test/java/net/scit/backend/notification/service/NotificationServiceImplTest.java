@@ -0,0 +1,95 @@
+package net.scit.backend.notification.service;
+
+import net.scit.backend.notification.component.NotificationRelay;
+import net.scit.backend.notification.component.SseEmitterRegistry;
+import net.scit.backend.notification.entity.NotificationEntity;
+import net.scit.backend.notification.service.impl.NotificationServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 알림 저장은 REQUIRES_NEW로 커밋되므로 테스트 트랜잭션 없이 실행하고 직접 정리
+@DataJpaTest(properties = {"OPEN_AI_API_URL=http://localhost", "OPEN_AI_API_KEY=test"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(JdbcTemplateAutoConfiguration.class)
+@Import(NotificationServiceImpl.class)
+class NotificationServiceImplTest {
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private SseEmitterRegistry sseEmitterRegistry;
+
+    @MockitoBean
+    private NotificationRelay notificationRelay;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM notification");
+    }
+
+    @Test
+    void createAndSendNotifications_sendsOnlyAfterCommit() {
+        // 전송 시점에 다른 연결에서 알림이 보이는지 기록 (커밋 전이면 보이지 않음)
+        List<Long> visibleAtDelivery = new ArrayList<>();
+        when(sseEmitterRegistry.deliver(anyList())).thenAnswer(invocation -> {
+            visibleAtDelivery.add(countCommitted());
+            return 1;
+        });
+
+        notificationService.createAndSendNotifications(List.of(notification("a@test.com"), notification("b@test.com")));
+
+        assertThat(visibleAtDelivery).containsExactly(2L);
+        verify(notificationRelay).publish(anyList());
+    }
+
+    private long countCommitted() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM notification")) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static NotificationEntity notification(String receiver) {
+        NotificationEntity notification = new NotificationEntity();
+        notification.setWsId(1L);
+        notification.setSenderEmail("sender@test.com");
+        notification.setSenderNickname("sender");
+        notification.setReceiverEmail(receiver);
+        notification.setReceiverNickname("receiver");
+        notification.setNotificationName("일정 수정");
+        notification.setNotificationType("schedule_info_update");
+        notification.setNotificationContent("일정이 수정되었습니다.");
+        return notification;
+    }
+}
@@ -0,0 +1,142 @@
+package net.scit.backend.upload.service;
+
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.scit.backend.channel.DTO.MessageDTO;
+import net.scit.backend.channel.service.ChannelService;
+import net.scit.backend.common.component.S3Uploader;
+import net.scit.backend.dm.service.DmService;
+import net.scit.backend.exception.CustomException;
+import net.scit.backend.exception.ErrorCode;
+import net.scit.backend.upload.dto.PendingUploadDTO;
+import net.scit.backend.upload.dto.UploadTarget;
+import net.scit.backend.upload.service.impl.UploadServiceImpl;
+import net.scit.backend.workdata.repository.WorkdataRepository;
+import net.scit.backend.workdata.service.WorkdataService;
+import net.scit.backend.workspace.repository.WorkspaceChannelRepository;
+import net.scit.backend.workspace.repository.WorkspaceMemberRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 직접 업로드 완료 시 업로드 정보가 저장에 성공한 뒤에만 삭제되는지 확인 (내장 Redis 사용)
+ */
+class UploadServiceImplTest {
+
+    private static final String EMAIL = "a@test.com";
+    private static final String UPLOAD_ID = "upload-1";
+    private static final String INTENT_KEY = "upload:intent:" + UPLOAD_ID;
+    private static final String OBJECT_KEY = "workspace-channel/1/file.png";
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private S3Uploader s3Uploader;
+    private ChannelService channelService;
+    private UploadServiceImpl uploadService;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        s3Uploader = mock(S3Uploader.class);
+        channelService = mock(ChannelService.class);
+        uploadService = new UploadServiceImpl(s3Uploader, redisTemplate, objectMapper,
+                mock(WorkspaceChannelRepository.class), mock(WorkspaceMemberRepository.class), mock(WorkdataRepository.class),
+                channelService, mock(DmService.class), mock(WorkdataService.class), 15, 1024);
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                User.withUsername(EMAIL).password("").authorities(List.of()).build(), null, List.of()));
+
+        redisTemplate.opsForValue().set(INTENT_KEY, objectMapper.writeValueAsString(PendingUploadDTO.builder()
+                .email(EMAIL)
+                .target(UploadTarget.CHANNEL)
+                .channelId(1L)
+                .objectKey(OBJECT_KEY)
+                .fileName("file.png")
+                .contentType("image/png")
+                .size(10)
+                .build()));
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(10);
+        metadata.setContentType("image/png");
+        when(s3Uploader.getObjectMetadata(OBJECT_KEY)).thenReturn(metadata);
+        when(s3Uploader.getUrl(OBJECT_KEY)).thenReturn("https://bucket/" + OBJECT_KEY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        redisTemplate.delete(List.of(INTENT_KEY, INTENT_KEY + ":claim"));
+    }
+
+    @Test
+    void complete_keepsIntentWhenSaveFailsSoItCanBeRetried() {
+        when(channelService.saveFileMessage(eq(EMAIL), eq(1L), anyString(), eq("file.png")))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(new MessageDTO());
+
+        assertThatThrownBy(() -> uploadService.complete(UPLOAD_ID)).isInstanceOf(IllegalStateException.class);
+        assertThat(redisTemplate.hasKey(INTENT_KEY)).isTrue();
+        assertThat(redisTemplate.hasKey(INTENT_KEY + ":claim")).isFalse();
+
+        assertThat(uploadService.complete(UPLOAD_ID).getMessage()).isNotNull();
+        assertThat(redisTemplate.hasKey(INTENT_KEY)).isFalse();
+        assertThatThrownBy(() -> uploadService.complete(UPLOAD_ID))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.UPLOAD_INTENT_NOT_FOUND));
+    }
+
+    @Test
+    void complete_rejectsWhileAnotherCompleteIsInProgress() {
+        redisTemplate.opsForValue().set(INTENT_KEY + ":claim", EMAIL);
+
+        assertThatThrownBy(() -> uploadService.complete(UPLOAD_ID))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.UPLOAD_INTENT_NOT_FOUND));
+        assertThat(redisTemplate.hasKey(INTENT_KEY)).isTrue();
+    }
+}
@@ -0,0 +1,115 @@
+package net.scit.backend.workspace.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.scit.backend.workspace.event.WorkspaceMemberProfileEvictedEvent;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 두 노드를 흉내 내어 내장 Redis pub/sub으로 프로필 캐시 무효화가 다른 노드에만 전달되는지 확인
+ */
+class RedisProfileCacheRelayTest {
+
+    private static final String EMAIL = "a@test.com";
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RedisMessageListenerContainer containerA;
+    private RedisMessageListenerContainer containerB;
+    private WorkspaceMemberProfileResolver resolverA;
+    private WorkspaceMemberProfileResolver resolverB;
+    private ApplicationEventPublisher publisherA;
+    private ApplicationEventPublisher publisherB;
+    private RedisProfileCacheRelay relayA;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        resolverA = mock(WorkspaceMemberProfileResolver.class);
+        resolverB = mock(WorkspaceMemberProfileResolver.class);
+        publisherA = mock(ApplicationEventPublisher.class);
+        publisherB = mock(ApplicationEventPublisher.class);
+        containerA = createContainer();
+        containerB = createContainer();
+        relayA = new RedisProfileCacheRelay(redisTemplate, containerA, resolverA, publisherA, new ObjectMapper());
+        RedisProfileCacheRelay relayB = new RedisProfileCacheRelay(redisTemplate, containerB, resolverB, publisherB, new ObjectMapper());
+        relayA.subscribe();
+        relayB.subscribe();
+        // 리스너를 먼저 등록하고 시작하면 start()가 구독이 맺어질 때까지 기다림
+        containerA.start();
+        containerB.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        containerA.destroy();
+        containerB.destroy();
+    }
+
+    @Test
+    void publishEvict_evictsOnlyOnOtherNode() {
+        relayA.publishEvict(1L, EMAIL);
+
+        verify(resolverB, timeout(5000)).evict(1L, EMAIL);
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(publisherB, timeout(5000)).publishEvent(captor.capture());
+        assertThat(captor.getValue()).isInstanceOfSatisfying(WorkspaceMemberProfileEvictedEvent.class, event -> {
+            assertThat(event.getWsId()).isEqualTo(1L);
+            assertThat(event.getEmail()).isEqualTo(EMAIL);
+        });
+
+        verify(resolverA, after(200).never()).evict(anyLong(), anyString());
+        verify(publisherA, never()).publishEvent(any(Object.class));
+    }
+
+    private static RedisMessageListenerContainer createContainer() throws Exception {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.afterPropertiesSet();
+        return container;
+    }
+}
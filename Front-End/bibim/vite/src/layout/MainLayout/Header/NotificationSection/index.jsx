@@ -51,6 +51,8 @@ export default function NotificationSection() {
   // const token = localStorage.getItem('token');
   const anchorRef = useRef(null);
   const eventSourceRef = useRef(null);
+  const lastEventIdRef = useRef(null); // 지금까지 받은 가장 큰 알림 번호 (재연결 시 놓친 알림만 받기 위함)
+  const receivedNumbersRef = useRef(new Set()); // SSE로 받은 알림 번호 (재전송된 중복 알림을 두 번 세지 않기 위함)
   const [page, setPage] = useState(0);
   const [hasMore, setHasMore] = useState(true);
 
@@ -75,6 +77,8 @@ export default function NotificationSection() {
       if (unreadResponse.ok) {
         const unreadData = await unreadResponse.json();
         setUnreadCount(unreadData.length);
+        // 목록으로 이미 센 알림이 SSE로 다시 와도 개수를 늘리지 않도록 기록
+        unreadData.forEach((n) => receivedNumbersRef.current.add(Number(n.notificationNumber)));
       }
     } catch (error) {
       console.error("🚨 Error fetching notifications:", error);
@@ -212,9 +216,17 @@ export default function NotificationSection() {
       eventSourceRef.current.close();
     }
 
-    // ✅ 새로운 SSE 연결 생성
-    const newSSE = new EventSource(`${API_BASE_URL}/notification/subscribe?token=${token}`);
-    console.log("📡 SSE 연결 요청:", `${API_BASE_URL}/notification/subscribe?token=${token}`);
+    // ✅ 새로운 SSE 연결 생성 (재연결이면 마지막 이벤트 ID 이후 알림만 요청)
+    const lastEventIdParam = lastEventIdRef.current ? `&lastEventId=${lastEventIdRef.current}` : '';
+    const newSSE = new EventSource(`${API_BASE_URL}/notification/subscribe?token=${token}${lastEventIdParam}`);
+    console.log("📡 SSE 연결 요청:", `${API_BASE_URL}/notification/subscribe?token=${token}${lastEventIdParam}`);
+
+    // ✅ 연결 직후 서버가 보내는 이벤트 ID 기준점 저장
+    newSSE.addEventListener('connected', (event) => {
+      if (event.lastEventId) {
+        lastEventIdRef.current = Math.max(Number(lastEventIdRef.current) || 0, Number(event.lastEventId));
+      }
+    });
 
     // ✅ SSE에서 알림 수신 시 처리
     newSSE.addEventListener('notification', (event) => {
@@ -222,6 +234,17 @@ export default function NotificationSection() {
         const newNotification = JSON.parse(event.data);
         console.log("📩 새 알림 수신:", newNotification);
 
+        // ✅ 이미 받은 알림이면 중복 (재연결 직후 다시 보낸 알림 등) -> 목록, 개수에 반영하지 않음
+        // 기준점은 가장 큰 번호로만 올려 재연결 시 Last-Event-ID가 뒤로 가지 않게 함
+        const notificationNumber = Number(newNotification.notificationNumber);
+        if (notificationNumber) {
+          if (receivedNumbersRef.current.has(notificationNumber)) {
+            return;
+          }
+          receivedNumbersRef.current.add(notificationNumber);
+          lastEventIdRef.current = Math.max(Number(lastEventIdRef.current) || 0, notificationNumber);
+        }
+
         // ✅ 현재 로그인한 사용자 정보 가져오기 (로그인 상태 확인)
         const loggedInUser = JSON.parse(localStorage.getItem("user"));
         if (!loggedInUser || !loggedInUser.email) {
@@ -260,7 +283,8 @@ export default function NotificationSection() {
       // ✅ 일정 횟수 이상 재연결 방지 및 재연결 로직 추가
       if (!eventSourceRef.current || eventSourceRef.current.readyState === EventSource.CLOSED) {
         console.warn("🔄 SSE 재연결 시도 중...");
-        setTimeout(reconnectSSE, 5000);
+        // 배포 직후 모든 사용자가 같은 시각에 몰리지 않도록 재연결 시점을 분산
+        setTimeout(reconnectSSE, 3000 + Math.random() * 7000);
       }
     };
 
@@ -0,0 +1,13 @@
+// ==============================|| 파생 이미지 -> 원본 이미지 대체 ||============================== //
+
+// 썸네일, 아바타 같은 파생 이미지는 서버에서 비동기로 만들어지므로 아직 없거나 만들 수 없을 수 있다.
+// 불러오지 못하면 한 번만 원본 URL로 바꿔 다시 불러온다.
+export function fallbackToOriginal(originalUrl) {
+  return (event) => {
+    const img = event.currentTarget;
+    if (originalUrl && !img.dataset.fallback) {
+      img.dataset.fallback = 'true';
+      img.src = originalUrl;
+    }
+  };
+}
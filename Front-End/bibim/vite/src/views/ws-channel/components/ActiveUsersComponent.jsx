@@ -2,6 +2,7 @@
 import React, { useEffect, useState, useCallback } from "react";
 import { fetchWorkspaceUsers, fetchWorkspaceMembersStatus } from "../../../api/workspaceApi";
 import PersonIcon from '@mui/icons-material/Person';
+import { fallbackToOriginal } from "../../../utils/imageFallback";
 import "./ActiveUsersComponent.css";
 
 /**
@@ -88,7 +89,11 @@ function ActiveUsersComponent({ workspaceId, toggleMemberStatusModal }) {
                             <div key={index} className="active-user">
                                 <div className="user-avatar">
                                     {member.profileImage ? (
-                                        <img src={member.profileImage} alt={member.email} />
+                                        <img
+                                            src={member.profileThumbnailUrl || member.profileImage}
+                                            onError={fallbackToOriginal(member.profileImage)}
+                                            alt={member.email}
+                                        />
                                     ) : (
                                         <div className="default-avatar">
                                             {member.email.charAt(0).toUpperCase()}
@@ -22,6 +22,7 @@ import dayjs from 'dayjs';
 import utc from 'dayjs/plugin/utc';
 import timezone from 'dayjs/plugin/timezone';
 import ChatSummaryModal from './ChatSummaryModal';
+import { fallbackToOriginal } from "../../../utils/imageFallback";
 
 
 /**
@@ -118,7 +119,12 @@ function ChatComponent({ channelId, workspaceId, channelName, setChannel }) {
     const renderMessageContent = (msg, handleTranslate, messageIndex, translatedMessage) => {
         if (msg.messageOrFile && msg.content) {
             return isImageFile(msg.content) ? (
-                <img src={msg.content} alt="파일 미리보기" className="chat-image" />
+                <img
+                    src={msg.thumbnailUrl || msg.content}
+                    onError={fallbackToOriginal(msg.content)}
+                    alt="파일 미리보기"
+                    className="chat-image"
+                />
             ) : (
                 <a href={msg.content} target="_blank" rel="noopener noreferrer" className="file-message" download={msg.fileName}>
                     📎 파일 다운로드 : {msg.fileName}
@@ -629,7 +635,11 @@ function ChatComponent({ channelId, workspaceId, channelName, setChannel }) {
                             <div className="sender">
                                 <div className="sender-avatar">
                                     {msg.profileImage ? (
-                                        <img src={msg.profileImage} alt={msg.sender} />
+                                        <img
+                                            src={msg.profileThumbnailUrl || msg.profileImage}
+                                            onError={fallbackToOriginal(msg.profileImage)}
+                                            alt={msg.sender}
+                                        />
                                     ) : (
                                         <div className="default-avatar">
                                             {msg.sender.charAt(0).toUpperCase()}